@@ -49,6 +49,7 @@ import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import mage.utils.MageVersion;
 import mage.view.GameEndView;
+import mage.view.LobbyUpdateView;
 import mage.view.UserRequestMessage;
 import net.java.truevfs.access.TArchiveDetector;
 import net.java.truevfs.access.TConfig;
@@ -1297,6 +1298,10 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         updateSwitchPanelsButton();
     }
 
+    public void applyLobbyUpdate(LobbyUpdateView update) {
+        this.tablesPane.applyLobbyUpdate(update);
+    }
+
     public void setServerLobbyTablesFilter() {
         if (this.tablesPane != null) {
             this.tablesPane.setTableFilter();
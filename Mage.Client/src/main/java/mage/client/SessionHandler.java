@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Network: client side session
@@ -38,6 +39,10 @@ public final class SessionHandler {
     private static Session session;
     private static String lastConnectError = "";
 
+    // network: last full game views and games with requested full game view, see GameViewDiff
+    private static final Map<UUID, GameView> lastGameViews = new ConcurrentHashMap<>();
+    private static final Set<UUID> fullGameViewRequests = ConcurrentHashMap.newKeySet();
+
     private SessionHandler(){
     }
 
@@ -108,6 +113,47 @@ public final class SessionHandler {
         session.sendPlayerAction(playerAction, gameId, data);
     }
 
+    /**
+     * Keep full game view from the server as a base for next game view diffs
+     */
+    public static void rememberGameView(UUID gameId, GameView gameView) {
+        if (gameId == null || gameView == null || gameView.getUpdateVersion() == 0) {
+            // diffs disabled on server
+            return;
+        }
+        lastGameViews.put(gameId, gameView);
+        fullGameViewRequests.remove(gameId);
+    }
+
+    /**
+     * Restore full game view from the server's diff
+     *
+     * @return full game view or null on unknown base (full game view will be requested from the server)
+     */
+    public static GameView applyGameViewDiff(UUID gameId, GameViewDiff gameViewDiff) {
+        GameView gameView = gameViewDiff.applyTo(lastGameViews.get(gameId));
+        if (gameView == null) {
+            lastGameViews.remove(gameId);
+            if (fullGameViewRequests.add(gameId)) {
+                logger.warn("Can't apply game view diff, request full game view for game " + gameId);
+                sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_VIEW, gameId, null);
+            }
+            return null;
+        }
+        lastGameViews.put(gameId, gameView);
+        return gameView;
+    }
+
+    public static void forgetGameView(UUID gameId) {
+        lastGameViews.remove(gameId);
+        fullGameViewRequests.remove(gameId);
+    }
+
+    public static void forgetAllGameViews() {
+        lastGameViews.clear();
+        fullGameViewRequests.clear();
+    }
+
     public static void quitTournament(UUID tournamentId) {
         session.quitTournament(tournamentId);
     }
@@ -337,6 +383,14 @@ public final class SessionHandler {
         }
     }
 
+    public static boolean subscribeLobby(UUID roomId, long lobbyVersion) {
+        return session.subscribeLobby(roomId, lobbyVersion);
+    }
+
+    public static boolean unsubscribeLobby(UUID roomId) {
+        return session.unsubscribeLobby(roomId);
+    }
+
     public static Collection<MatchView> getFinishedMatches(UUID roomId) {
         try {
             return session.getFinishedMatches(roomId);
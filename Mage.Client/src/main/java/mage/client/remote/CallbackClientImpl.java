@@ -15,6 +15,7 @@ import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.interfaces.callback.ClientCallbackType;
 import mage.remote.ActionData;
 import mage.remote.Session;
@@ -52,12 +53,28 @@ public class CallbackClientImpl implements CallbackClient {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        SessionHandler.forgetAllGameViews();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
         callback.decompressData();
 
+        // game view diffs must be applied in income order, so do it here instead swing thread
+        if (callback.getData() instanceof GameViewDiff) {
+            GameView gameView = SessionHandler.applyGameViewDiff(callback.getObjectId(), (GameViewDiff) callback.getData());
+            if (gameView == null) {
+                // wait full game view from server
+                return;
+            }
+            callback.setData(gameView, false);
+        } else {
+            SessionHandler.rememberGameView(callback.getObjectId(), findGameView(callback.getData()));
+        }
+        if (callback.getMethod() == ClientCallbackMethod.GAME_OVER) {
+            SessionHandler.forgetGameView(callback.getObjectId());
+        }
+
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
 
@@ -212,6 +229,11 @@ public class CallbackClientImpl implements CallbackClient {
                         break;
                     }
 
+                    case LOBBY_UPDATE: {
+                        frame.applyLobbyUpdate((LobbyUpdateView) callback.getData());
+                        break;
+                    }
+
                     case JOINED_TABLE: {
                         TableClientMessage message = (TableClientMessage) callback.getData();
                         joinedTable(message.getRoomId(), message.getCurrentTableId(), message.getFlag());
@@ -521,6 +543,17 @@ public class CallbackClientImpl implements CallbackClient {
         return null;
     }
 
+    private static GameView findGameView(Object data) {
+        if (data instanceof GameView) {
+            return (GameView) data;
+        } else if (data instanceof GameClientMessage) {
+            return ((GameClientMessage) data).getGameView();
+        } else if (data instanceof AbilityPickerView) {
+            return ((AbilityPickerView) data).getGameView();
+        }
+        return null;
+    }
+
     private void createChatStartMessage(ChatPanelBasic chatPanel) {
         chatPanel.setStartMessageDone(true);
         ChatPanelBasic usedPanel = chatPanel;
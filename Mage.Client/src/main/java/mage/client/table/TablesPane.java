@@ -6,6 +6,7 @@ import javax.swing.JComponent;
 import mage.client.MagePane;
 import mage.client.SessionHandler;
 import mage.client.plugins.impl.Plugins;
+import mage.view.LobbyUpdateView;
 
 /**
  * Game GUI: lobby frame
@@ -63,6 +64,10 @@ public class TablesPane extends MagePane {
         tablesPanel.hideTables();
     }
 
+    public void applyLobbyUpdate(LobbyUpdateView update) {
+        tablesPanel.applyLobbyUpdate(update);
+    }
+
     public void clearChat() {
         tablesPanel.getChatPanel().clear();
     }
@@ -22,8 +22,8 @@ import mage.players.PlayerType;
 import mage.remote.MageRemoteException;
 import mage.util.DeckUtil;
 import mage.util.RandomUtil;
+import mage.view.LobbyUpdateView;
 import mage.view.MatchView;
-import mage.view.RoomUsersView;
 import mage.view.TableView;
 import mage.view.UserRequestMessage;
 import org.apache.log4j.Logger;
@@ -69,10 +69,8 @@ public class TablesPanel extends javax.swing.JPanel {
     // ping timeout (warning, must be less than UserManagerImpl.USER_CONNECTION_TIMEOUTS_CHECK_SECS)
     public static final int PING_SERVER_SECS = 20;
 
-    // refresh timeouts for data downloads from server
-    public static final int REFRESH_ACTIVE_TABLES_SECS = 5;
-    public static final int REFRESH_FINISHED_TABLES_SECS = 30;
-    public static final int REFRESH_PLAYERS_SECS = 10;
+    // refresh timeouts for data downloads from server (tables and players come from server's lobby updates)
+    public static final int REFRESH_SERVER_MESSAGES_SECS = 5 * 60;
     public static final double REFRESH_TIMEOUTS_INCREASE_FACTOR = 0.8; // can increase timeouts by 80% (0.8)
 
     private final TablesTableModel tableModel;
@@ -139,9 +137,13 @@ public class TablesPanel extends javax.swing.JPanel {
     
     private final MatchesTableModel matchesModel;
     private UUID roomId;
-    private UpdateTablesTask updateTablesTask;
-    private UpdatePlayersTask updatePlayersTask;
-    private UpdateMatchesTask updateMatchesTask;
+    private UpdateServerMessagesTask updateServerMessagesTask;
+
+    // lobby data from the server, see LobbyUpdateView
+    private final Map<UUID, TableView> lobbyTables = new HashMap<>();
+    private long lobbyVersion = 0;
+    private boolean lobbySubscribed = false;
+    private boolean lobbyFullDataRequested = false;
 
     // no needs in multiple create/join tables dialogs, it's a client side action
     private JoinTableDialog joinTableDialog;
@@ -714,49 +716,77 @@ public class TablesPanel extends javax.swing.JPanel {
         }
     }
 
-    public void startUpdateTasks(boolean refreshImmediately) {
-        if (SessionHandler.getSession() != null) {
-            // active tables and server messages
-            if (updateTablesTask == null || updateTablesTask.isDone() || refreshImmediately) {
-                if (updateTablesTask != null) updateTablesTask.cancel(true);
-                updateTablesTask = new UpdateTablesTask(roomId, this);
-                updateTablesTask.execute();
+    /**
+     * Apply lobby data from the server (active tables, finished tables and players list)
+     */
+    public void applyLobbyUpdate(LobbyUpdateView update) {
+        if (!lobbySubscribed || !update.getRoomId().equals(roomId)) {
+            // outdated data
+            return;
+        }
+
+        List<TableView> tables = null;
+        if (update.isFull() || update.getBaseVersion() == lobbyVersion) {
+            tables = update.applyTo(lobbyTables);
+        }
+        if (tables == null) {
+            // lost some updates (bad connection), so ask for full data
+            if (!lobbyFullDataRequested) {
+                LOGGER.warn("Can't apply lobby update " + update.getBaseVersion() + " -> " + update.getVersion() + ", request full lobby data");
+                lobbyFullDataRequested = true;
+                lobbyTables.clear();
+                lobbyVersion = 0;
+                SessionHandler.subscribeLobby(roomId, lobbyVersion);
             }
+            return;
+        }
+        lobbyVersion = update.getVersion();
+        lobbyFullDataRequested = false;
 
-            // finished tables
-            if (this.btnStateFinished.isSelected()) {
-                if (updateMatchesTask == null || updateMatchesTask.isDone() || refreshImmediately) {
-                    if (updateMatchesTask != null) updateMatchesTask.cancel(true);
-                    updateMatchesTask = new UpdateMatchesTask(roomId, this);
-                    updateMatchesTask.execute();
-                }
-            } else {
-                if (updateMatchesTask != null) updateMatchesTask.cancel(true);
+        updateTables(tables);
+        if (update.getFinishedMatches() != null) {
+            updateMatches(update.getFinishedMatches());
+        }
+        if (update.getRoomUsers() != null) {
+            chatPanelMain.setRoomUserInfo(Collections.singletonList(update.getRoomUsers()));
+        }
+    }
+
+    public void startUpdateTasks(boolean refreshImmediately) {
+        if (SessionHandler.getSession() != null) {
+            // server messages
+            if (updateServerMessagesTask == null || updateServerMessagesTask.isDone() || refreshImmediately) {
+                if (updateServerMessagesTask != null) updateServerMessagesTask.cancel(true);
+                updateServerMessagesTask = new UpdateServerMessagesTask(this);
+                updateServerMessagesTask.execute();
             }
 
-            // players list
-            if (updatePlayersTask == null || updatePlayersTask.isDone() || refreshImmediately) {
-                if (updatePlayersTask != null) updatePlayersTask.cancel(true);
-                updatePlayersTask = new UpdatePlayersTask(roomId, this.chatPanelMain);
-                updatePlayersTask.execute();
+            // tables and players (server sends changes since the last version only)
+            if (!lobbySubscribed || refreshImmediately) {
+                lobbySubscribed = SessionHandler.subscribeLobby(roomId, lobbyVersion);
             }
         }
     }
 
     public void stopTasks() {
-        if (updateTablesTask != null) {
-            updateTablesTask.cancel(true);
-        }
-        if (updatePlayersTask != null) {
-            updatePlayersTask.cancel(true);
+        if (updateServerMessagesTask != null) {
+            updateServerMessagesTask.cancel(true);
         }
-        if (updateMatchesTask != null) {
-            updateMatchesTask.cancel(true);
+        if (lobbySubscribed) {
+            lobbySubscribed = false;
+            if (SessionHandler.getSession() != null) {
+                SessionHandler.unsubscribeLobby(roomId);
+            }
         }
     }
 
     public void showTables(UUID roomId) {
         this.roomId = roomId;
+        // new connection or room, so lobby data must be loaded from scratch
+        this.lobbyTables.clear();
+        this.lobbyVersion = 0;
+        this.lobbySubscribed = false;
+        this.lobbyFullDataRequested = false;
         UUID chatRoomId = null;
         if (SessionHandler.getSession() != null) {
             btnQuickStart2Player.setVisible(SessionHandler.isTestMode());
@@ -794,8 +824,10 @@ public class TablesPanel extends javax.swing.JPanel {
     }
 
     protected void reloadServerMessages() {
-        // reload server messages
-        java.util.List<String> serverMessages = SessionHandler.getServerMessages();
+        showServerMessages(SessionHandler.getServerMessages());
+    }
+
+    protected void showServerMessages(java.util.List<String> serverMessages) {
         synchronized (this) {
             if (serverMessages != null) {
                 this.messages = serverMessages;
@@ -1757,7 +1789,6 @@ public class TablesPanel extends javax.swing.JPanel {
         } else {
             this.jSplitPaneTables.setDividerLocation(this.jPanelTables.getHeight());
         }
-        this.startUpdateTasks(true);
     }//GEN-LAST:event_btnStateFinishedActionPerformed
 
     private void buttonWhatsNewActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonWhatsNewActionPerformed
@@ -1838,122 +1869,28 @@ public class TablesPanel extends javax.swing.JPanel {
 
 }
 
-class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
-
-    private final UUID roomId;
-    private final TablesPanel panel;
-    private boolean isFirstRun = true;
-
-    private static final Logger logger = Logger.getLogger(UpdateTablesTask.class);
-
-    private int count = 0;
-
-    UpdateTablesTask(UUID roomId, TablesPanel panel) {
-
-        this.roomId = roomId;
-        this.panel = panel;
-    }
-
-    @Override
-    protected Void doInBackground() throws Exception {
-        while (!isCancelled()) {
-            Collection<TableView> tables = SessionHandler.getTables(roomId);
-            if (tables != null) {
-                this.publish(tables);
-            }
-            TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_ACTIVE_TABLES_SECS));
-        }
-        return null;
-    }
-
-    @Override
-    protected void process(java.util.List<Collection<TableView>> view) {
-        panel.updateTables(view.get(0));
-
-        // update server messages
-        count++;
-        if (isFirstRun || count > 60) {
-            count = 0;
-            isFirstRun = false;
-            panel.reloadServerMessages();
-        }
-    }
-
-    @Override
-    protected void done() {
-        try {
-            get();
-        } catch (InterruptedException | ExecutionException ex) {
-            logger.fatal("Update Tables Task error", ex);
-        } catch (CancellationException ex) {
-        }
-    }
-
-}
-
-class UpdatePlayersTask extends SwingWorker<Void, Collection<RoomUsersView>> {
-
-    private final UUID roomId;
-    private final PlayersChatPanel chat;
-
-    private static final Logger logger = Logger.getLogger(UpdatePlayersTask.class);
-
-    UpdatePlayersTask(UUID roomId, PlayersChatPanel chat) {
+class UpdateServerMessagesTask extends SwingWorker<Void, java.util.List<String>> {
 
-        this.roomId = roomId;
-        this.chat = chat;
-    }
-
-    @Override
-    protected Void doInBackground() throws Exception {
-        while (!isCancelled()) {
-            this.publish(SessionHandler.getRoomUsers(roomId));
-            TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_PLAYERS_SECS));
-        }
-        return null;
-    }
-
-    @Override
-    protected void process(java.util.List<Collection<RoomUsersView>> roomUserInfo) {
-        chat.setRoomUserInfo(roomUserInfo);
-    }
-
-    @Override
-    protected void done() {
-        try {
-            get();
-        } catch (InterruptedException | ExecutionException ex) {
-            logger.fatal("Update Players Task error", ex);
-        } catch (CancellationException ex) {
-        }
-    }
-
-}
-
-class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
-
-    private final UUID roomId;
     private final TablesPanel panel;
 
-    private static final Logger logger = Logger.getLogger(UpdateTablesTask.class);
+    private static final Logger logger = Logger.getLogger(UpdateServerMessagesTask.class);
 
-    UpdateMatchesTask(UUID roomId, TablesPanel panel) {
-        this.roomId = roomId;
+    UpdateServerMessagesTask(TablesPanel panel) {
         this.panel = panel;
     }
 
     @Override
     protected Void doInBackground() throws Exception {
         while (!isCancelled()) {
-            this.publish(SessionHandler.getFinishedMatches(roomId));
-            TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_FINISHED_TABLES_SECS));
+            this.publish(SessionHandler.getServerMessages());
+            TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_SERVER_MESSAGES_SECS));
         }
         return null;
     }
 
     @Override
-    protected void process(java.util.List<Collection<MatchView>> view) {
-        panel.updateMatches(view.get(0));
+    protected void process(java.util.List<java.util.List<String>> serverMessages) {
+        panel.showServerMessages(serverMessages.get(serverMessages.size() - 1));
     }
 
     @Override
@@ -1961,7 +1898,7 @@ class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
         try {
             get();
         } catch (InterruptedException | ExecutionException ex) {
-            logger.fatal("Update Matches Task error", ex);
+            logger.fatal("Update Server Messages Task error", ex);
         } catch (CancellationException ex) {
         }
     }
@@ -38,6 +38,8 @@ public interface MageServer {
 
     boolean connectSetUserData(String userName, String sessionId, UserData userData, String clientVersion, String userIdStr) throws MageException;
 
+    boolean connectSetCompressionCodec(String sessionId, String codecName) throws MageException;
+
     boolean ping(String sessionId, String pingInfo) throws MageException;
     
     void serverAddFeedbackMessage(String sessionId, String username, String title, String type, String message, String email) throws MageException;
@@ -55,6 +57,10 @@ public interface MageServer {
     // TODO: miss session
     List<MatchView> roomGetFinishedMatches(UUID roomId) throws MageException;
 
+    void roomSubscribeLobby(String sessionId, UUID roomId, long lobbyVersion) throws MageException;
+
+    void roomUnsubscribeLobby(String sessionId, UUID roomId) throws MageException;
+
     TableView roomCreateTable(String sessionId, UUID roomId, MatchOptions matchOptions) throws MageException;
 
     TableView roomCreateTournament(String sessionId, UUID roomId, TournamentOptions tournamentOptions) throws MageException;
@@ -25,10 +25,12 @@ public class ServerState implements Serializable {
     private final MageVersion version;
     private final long cardsContentVersion;
     private final long expansionsContentVersion;
+    private final String[] compressionCodecs; // network: supported codecs in preferred order
 
     public ServerState(List<GameTypeView> gameTypes, List<TournamentTypeView> tournamentTypes,
                        PlayerType[] playerTypes, String[] deckTypes, String[] draftCubes, boolean testMode,
-                       MageVersion version, long cardsContentVersion, long expansionsContentVersion) {
+                       MageVersion version, long cardsContentVersion, long expansionsContentVersion,
+                       String[] compressionCodecs) {
         this.gameTypes = gameTypes;
         this.tournamentTypes = tournamentTypes;
         this.playerTypes = playerTypes;
@@ -38,6 +40,7 @@ public class ServerState implements Serializable {
         this.version = version;
         this.cardsContentVersion = cardsContentVersion;
         this.expansionsContentVersion = expansionsContentVersion;
+        this.compressionCodecs = compressionCodecs;
 
     }
 
@@ -83,4 +86,8 @@ public class ServerState implements Serializable {
         return expansionsContentVersion;
     }
 
+    public String[] getCompressionCodecs() {
+        return compressionCodecs;
+    }
+
 }
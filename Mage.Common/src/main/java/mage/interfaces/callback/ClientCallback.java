@@ -1,6 +1,7 @@
 package mage.interfaces.callback;
 
 import mage.remote.traffic.ZippedObject;
+import mage.remote.traffic.ZippedObjectCodec;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
 
@@ -24,6 +25,7 @@ public class ClientCallback implements Serializable {
 
     private UUID objectId;
     private Object data;
+    private boolean needCompress; // server side: compress by session's codec before sending, see compressData
     private ClientCallbackMethod method;
     private int messageId;
 
@@ -41,6 +43,19 @@ public class ClientCallback implements Serializable {
         this.setData(data, useCompress);
     }
 
+    /**
+     * Server side: own callback for each session (message id and compression are different for each session)
+     */
+    public ClientCallback(final ClientCallback call) {
+        synchronized (call) {
+            this.method = call.method;
+            this.objectId = call.objectId;
+            this.data = call.data;
+            this.needCompress = call.needCompress;
+            this.messageId = call.messageId;
+        }
+    }
+
     private void simulateBadConnection() {
         if (SIMULATE_BAD_CONNECTION) {
             ThreadUtils.sleep(100);
@@ -67,16 +82,23 @@ public class ClientCallback implements Serializable {
         return data;
     }
 
-    public void setData(Object data, boolean useCompress) {
-        if (!useCompress || data == null || data instanceof ZippedObject) {
-            this.data = data;
-        } else {
-            this.data = CompressUtil.compress(data);
+    public synchronized void setData(Object data, boolean useCompress) {
+        this.data = data;
+        this.needCompress = useCompress && data != null && !(data instanceof ZippedObject);
+    }
+
+    /**
+     * Compress data before sending (codec negotiates on connect, so it's different for each session)
+     */
+    public synchronized void compressData(ZippedObjectCodec codec) {
+        if (this.needCompress) {
+            this.data = CompressUtil.compress(this.data, codec);
+            this.needCompress = false;
             simulateBadConnection();
         }
     }
 
-    public void decompressData() {
+    public synchronized void decompressData() {
         if (this.data instanceof ZippedObject) {
             this.data = CompressUtil.decompress(this.data);
             simulateBadConnection();
@@ -16,6 +16,9 @@ public enum ClientCallbackMethod {
     SHOW_USERMESSAGE(ClientCallbackType.MESSAGE, "showUserMessage"),
     SERVER_MESSAGE(ClientCallbackType.MESSAGE, "serverMessage"),
 
+    // lobby (data contains own versions, so it can come in any order)
+    LOBBY_UPDATE(ClientCallbackType.MESSAGE, "lobbyUpdate"),
+
     // table
     JOINED_TABLE(ClientCallbackType.TABLE_CHANGE, "joinedTable"),
 
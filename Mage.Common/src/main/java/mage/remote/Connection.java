@@ -30,6 +30,7 @@ public class Connection {
     private int clientCardDatabaseVersion;
     private String userIdStr;
     private int socketWriteTimeout;
+    private boolean nioTransport; // use server's nio port instead jboss remoting (port must be server's nioPort)
 
     private UserData userData;
 
@@ -257,4 +258,12 @@ public class Connection {
     public int getSocketWriteTimeout() {
         return socketWriteTimeout;
     }
+
+    public boolean isNioTransport() {
+        return nioTransport;
+    }
+
+    public void setNioTransport(boolean nioTransport) {
+        this.nioTransport = nioTransport;
+    }
 }
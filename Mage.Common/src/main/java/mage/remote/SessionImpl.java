@@ -13,6 +13,9 @@ import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
+import mage.remote.nio.NioClient;
+import mage.remote.traffic.ZippedObjectCodec;
+import mage.remote.traffic.ZippedObjectCodecs;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
 import mage.view.*;
@@ -62,6 +65,7 @@ public class SessionImpl implements Session {
 
     private Client callbackClient; // real connection with a server
     private CallbackHandler callbackHandler; // processing commands from a server
+    private NioClient nioClient; // real connection with a server by nio transport (instead callbackClient)
 
     private ServerState serverState;
     private SessionState sessionState = SessionState.DISCONNECTED;
@@ -279,6 +283,12 @@ public class SessionImpl implements Session {
                         throw new MageVersionException(client.getVersion(), serverState.getVersion());
                     }
 
+                    // select compression codec for server's data
+                    ZippedObjectCodec codec = ZippedObjectCodecs.choose(serverState.getCompressionCodecs());
+                    if (!server.connectSetCompressionCodec(sessionId, codec.getName())) {
+                        logger.warn("Can't set compression codec " + codec.getName() + ", server will use default codec");
+                    }
+
                     if (!connection.getUsername().equals(ADMIN_NAME)) {
                         server.connectSetUserData(connection.getUsername(), sessionId, connection.getUserData(), client.getVersion().toString(), connection.getUserIdStr());
                     }
@@ -348,6 +358,10 @@ public class SessionImpl implements Session {
                         Authenticator.setDefault(new MageAuthenticator(connection.getProxyUsername(), connection.getProxyPassword()));
                         break;
                 }
+                if (connection.isNioTransport()) {
+                    return connectByNio(connection);
+                }
+
                 InvokerLocator clientLocator = new InvokerLocator(connection.getURI());
 
                 Map<String, String> metadata = new HashMap<>();
@@ -479,6 +493,29 @@ public class SessionImpl implements Session {
         }
     }
 
+    private boolean connectByNio(final Connection connection) throws IOException {
+        // proxy settings are not supported here, connection goes to server directly
+        nioClient = new NioClient(
+                data -> {
+                    try {
+                        client.onCallback((ClientCallback) data);
+                    } catch (Exception ex) {
+                        logger.error("handleCallback error", ex);
+                    }
+                },
+                error -> {
+                    logger.info("Connect: lost connection to server.", error);
+                    connectReconnect(error);
+                }
+        );
+        sessionId = nioClient.connect(connection.getHost(), connection.getPort(), connection.getSocketWriteTimeout());
+        server = nioClient.createProxy(MageServer.class);
+        sessionState = SessionState.CONNECTED;
+        client.onNewConnection();
+        logger.info("Connect: DONE (nio)");
+        return true;
+    }
+
     private void handleCannotConnectException(CannotConnectException ex) {
         logger.warn("Cannot connect", ex);
 
@@ -551,6 +588,10 @@ public class SessionImpl implements Session {
                 callbackClient.removeListener(callbackHandler);
                 callbackClient.disconnect();
             }
+            if (nioClient != null) {
+                // also frees client's threads after lost connection
+                nioClient.disconnect(keepMySessionActive);
+            }
         } catch (Throwable ex) {
             logger.fatal("Disconnecting FAIL", ex);
         }
@@ -569,10 +610,13 @@ public class SessionImpl implements Session {
 
         // clean resources
         if (server != null) {
-            TransporterClient.destroyTransporterClient(server);
+            if (nioClient == null) {
+                TransporterClient.destroyTransporterClient(server);
+            }
             server = null;
         }
         callbackClient = null;
+        nioClient = null;
         callbackHandler = null;
         serverState = null;
     }
@@ -623,6 +667,9 @@ public class SessionImpl implements Session {
 
     @Override
     public boolean isConnected() {
+        if (nioClient != null) {
+            return nioClient.isConnected();
+        }
         if (callbackClient == null) {
             return false;
         }
@@ -839,6 +886,36 @@ public class SessionImpl implements Session {
         return new ArrayList<>();
     }
 
+    @Override
+    public boolean subscribeLobby(UUID roomId, long lobbyVersion) {
+        try {
+            if (isConnected()) {
+                server.roomSubscribeLobby(sessionId, roomId, lobbyVersion);
+                return true;
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean unsubscribeLobby(UUID roomId) {
+        try {
+            if (isConnected()) {
+                server.roomUnsubscribeLobby(sessionId, roomId);
+                return true;
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return false;
+    }
+
     @Override
     public Collection<RoomUsersView> getRoomUsers(UUID roomId) throws MageRemoteException {
         try {
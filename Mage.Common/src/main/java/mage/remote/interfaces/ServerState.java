@@ -27,6 +27,15 @@ public interface ServerState {
 
     Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException;
 
+    /**
+     * Start lobby updates push from the server (see LobbyUpdateView)
+     *
+     * @param lobbyVersion last received lobby version, 0 for full data
+     */
+    boolean subscribeLobby(UUID roomId, long lobbyVersion);
+
+    boolean unsubscribeLobby(UUID roomId);
+
     String getVersionInfo();
 
     Boolean isServerReady();
@@ -0,0 +1,220 @@
+package mage.remote.nio;
+
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Network, client side: connection to nio server, see NioServer
+ * <p>
+ * Server commands can be called from any threads at the same time (requests pipelining),
+ * callbacks processed one by one in income order.
+ */
+public class NioClient implements NioMessageHandler {
+
+    private static final Logger logger = Logger.getLogger(NioClient.class);
+
+    private static final int REQUEST_TIMEOUT_SECS = 60;
+    private static final int DISCONNECT_TIMEOUT_SECS = 3;
+
+    private final NioEventLoop loop;
+    private final boolean ownLoop;
+    private final Executor callbackExecutor;
+    private final Consumer<Object> callbackListener;
+    private final Consumer<Throwable> connectionLostListener;
+
+    private final Map<Long, CompletableFuture<Object>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private volatile NioConnection connection = null;
+    private volatile boolean disconnecting = false;
+    private String sessionId = "";
+
+    /**
+     * Client with own I/O and callbacks threads
+     *
+     * @param callbackListener       server's callbacks data
+     * @param connectionLostListener on connection errors (not called on disconnect)
+     */
+    public NioClient(Consumer<Object> callbackListener, Consumer<Throwable> connectionLostListener) throws IOException {
+        this(new NioEventLoop(), true, Executors.newSingleThreadExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_NETWORK_NIO_CALLBACK)),
+                callbackListener, connectionLostListener);
+    }
+
+    /**
+     * Client with shared I/O thread (e.g. for load tests with many connections)
+     *
+     * @param callbackExecutor must keep tasks order
+     */
+    public NioClient(NioEventLoop loop, Executor callbackExecutor, Consumer<Object> callbackListener, Consumer<Throwable> connectionLostListener) {
+        this(loop, false, callbackExecutor, callbackListener, connectionLostListener);
+    }
+
+    private NioClient(NioEventLoop loop, boolean ownLoop, Executor callbackExecutor, Consumer<Object> callbackListener, Consumer<Throwable> connectionLostListener) {
+        this.loop = loop;
+        this.ownLoop = ownLoop;
+        this.callbackExecutor = callbackExecutor;
+        this.callbackListener = callbackListener;
+        this.connectionLostListener = connectionLostListener;
+    }
+
+    /**
+     * @return session id for server commands
+     */
+    public String connect(String host, int port, int timeoutMs) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.socket().connect(new InetSocketAddress(host, port), timeoutMs);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.connection = new NioConnection(channel, loop, this, null, NioFrames.MAX_FRAME_SIZE);
+        loop.register(connection);
+        try {
+            this.sessionId = (String) call(NioServer.METHOD_CONNECT, null);
+        } catch (IOException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException("Can't create session: " + e, e);
+        }
+        return this.sessionId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public boolean isConnected() {
+        NioConnection current = this.connection;
+        return current != null && current.isOpen();
+    }
+
+    /**
+     * @param keepSession server will keep session until timeout, so client can restore it on reconnect
+     */
+    public void disconnect(boolean keepSession) {
+        NioConnection current = this.connection;
+        disconnecting = true;
+        if (current != null && current.isOpen()) {
+            try {
+                long id = nextRequestId.incrementAndGet();
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                pendingRequests.put(id, future);
+                current.send(NioMessage.request(id, NioServer.METHOD_DISCONNECT, new Object[]{keepSession}));
+                future.get(DISCONNECT_TIMEOUT_SECS, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                logger.debug("Nio disconnect without server's answer: " + e);
+            }
+        }
+        if (current != null) {
+            current.close(null);
+        }
+        if (ownLoop) {
+            loop.shutdown();
+            ((ExecutorService) callbackExecutor).shutdown();
+        }
+    }
+
+    /**
+     * Call server command and wait for result
+     */
+    public Object call(String method, Object[] args) throws Throwable {
+        NioConnection current = this.connection;
+        if (current == null || !current.isOpen()) {
+            throw new IOException("Not connected to server");
+        }
+        long id = nextRequestId.incrementAndGet();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        pendingRequests.put(id, future);
+        try {
+            current.send(NioMessage.request(id, method, args));
+            return future.get(REQUEST_TIMEOUT_SECS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new SocketTimeoutException("Server is not responding for " + method);
+        } finally {
+            pendingRequests.remove(id);
+        }
+    }
+
+    /**
+     * Server commands by interface (all calls go to the server)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T createProxy(Class<T> serverInterface) {
+        return (T) Proxy.newProxyInstance(serverInterface.getClassLoader(), new Class<?>[]{serverInterface}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            try {
+                return call(method.getName(), args);
+            } catch (IOException e) {
+                // network errors are unchecked, same as in jboss transport
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "NioClient proxy for session " + sessionId;
+        }
+    }
+
+    @Override
+    public void onMessage(NioConnection connection, NioMessage message) {
+        switch (message.getType()) {
+            case RESPONSE:
+                CompletableFuture<Object> future = pendingRequests.remove(message.getId());
+                if (future == null) {
+                    // timeout
+                    logger.warn("Nio client got outdated response " + message.getId());
+                } else if (message.getError() != null) {
+                    future.completeExceptionally(message.getError());
+                } else {
+                    future.complete(message.getData());
+                }
+                break;
+            case CALLBACK:
+                callbackExecutor.execute(() -> {
+                    try {
+                        callbackListener.accept(message.getData());
+                    } catch (Throwable e) {
+                        logger.error("Nio callback processing error: " + e, e);
+                    }
+                });
+                break;
+            default:
+                logger.warn("Nio client got unsupported message " + message.getType());
+        }
+    }
+
+    @Override
+    public void onClose(NioConnection connection, Throwable error) {
+        IOException closeError = new IOException("Connection closed" + (error == null ? "" : ": " + error), error);
+        pendingRequests.values().forEach(future -> future.completeExceptionally(closeError));
+        pendingRequests.clear();
+        if (!disconnecting && connectionLostListener != null) {
+            // listener can be slow, so do not block I/O thread
+            callbackExecutor.execute(() -> connectionLostListener.accept(closeError));
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package mage.remote.nio;
+
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Network, nio transport: one client-server connection
+ * <p>
+ * Reads and writes processed by event loop's thread only, messages can be sent from any thread.
+ */
+public class NioConnection {
+
+    private static final Logger logger = Logger.getLogger(NioConnection.class);
+
+    // slow client protection, same as socket write timeout in jboss transport
+    // (must keep the biggest frame while the previous one is still sending)
+    private static final long MAX_PENDING_WRITE_BYTES = 2L * (NioFrames.HEADER_SIZE + NioFrames.MAX_FRAME_SIZE);
+
+    // frame's buffer grows with real income data, so fake frame headers can't allocate a big memory
+    private static final int INITIAL_BODY_BUFFER_SIZE = 16 * 1024;
+
+    private final SocketChannel channel;
+    private final NioEventLoop loop;
+    private final NioMessageHandler handler;
+    private final ClassLoader classLoader;
+    private final int maxIncomeFrameSize;
+    private final String remoteHost;
+    private SelectionKey key = null; // loop thread only
+    private boolean readPaused = false; // loop thread only
+
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingWriteBytes = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final ByteBuffer header = ByteBuffer.allocate(NioFrames.HEADER_SIZE);
+    private ByteBuffer body = null;
+    private int bodyLength = 0;
+
+    private volatile Object attachment = null;
+
+    /**
+     * @param maxIncomeFrameSize max size of income messages (server side gets small requests only, see NioFrames)
+     */
+    public NioConnection(SocketChannel channel, NioEventLoop loop, NioMessageHandler handler, ClassLoader classLoader, int maxIncomeFrameSize) {
+        this.channel = channel;
+        this.loop = loop;
+        this.handler = handler;
+        this.classLoader = classLoader;
+        this.maxIncomeFrameSize = maxIncomeFrameSize;
+        this.remoteHost = findRemoteHost(channel);
+    }
+
+    private static String findRemoteHost(SocketChannel channel) {
+        try {
+            SocketAddress address = channel.getRemoteAddress();
+            if (address instanceof InetSocketAddress) {
+                return ((InetSocketAddress) address).getAddress().getHostAddress();
+            }
+        } catch (IOException ignore) {
+        }
+        return "localhost";
+    }
+
+    /**
+     * Send message, thread safe (real write will be done by loop's thread)
+     */
+    public void send(NioMessage message) throws IOException {
+        if (closed.get()) {
+            throw new ClosedChannelException();
+        }
+        ByteBuffer frame = NioFrames.encode(message);
+        if (pendingWriteBytes.addAndGet(frame.remaining()) > MAX_PENDING_WRITE_BYTES) {
+            IOException error = new IOException("Too many pending data, connection is too slow: " + remoteHost);
+            close(error);
+            throw error;
+        }
+        writeQueue.add(frame);
+        loop.requestWrite(this);
+    }
+
+    void onRegistered(SelectionKey key) {
+        this.key = key;
+    }
+
+    void enableWrite() {
+        if (key != null && key.isValid()) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Stop reading new messages (e.g. too many unprocessed requests), loop thread only (call it from handler's onMessage)
+     */
+    public void pauseRead() {
+        readPaused = true;
+        if (key != null && key.isValid()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Continue reading after pauseRead, thread safe
+     */
+    public void resumeRead() {
+        loop.execute(() -> {
+            readPaused = false;
+            if (key != null && key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            }
+        });
+    }
+
+    void onReadable() {
+        try {
+            while (true) {
+                if (body == null) {
+                    if (channel.read(header) < 0) {
+                        close(null);
+                        return;
+                    }
+                    if (header.hasRemaining()) {
+                        return;
+                    }
+                    header.flip();
+                    int length = header.getInt();
+                    header.clear();
+                    if (length <= 0 || length > maxIncomeFrameSize) {
+                        throw new IOException("Wrong frame size: " + length);
+                    }
+                    bodyLength = length;
+                    body = ByteBuffer.allocate(Math.min(length, INITIAL_BODY_BUFFER_SIZE));
+                }
+                if (!body.hasRemaining()) {
+                    // need more space for income data
+                    ByteBuffer newBody = ByteBuffer.allocate((int) Math.min(bodyLength, body.capacity() * 2L));
+                    body.flip();
+                    newBody.put(body);
+                    body = newBody;
+                }
+                if (channel.read(body) < 0) {
+                    close(null);
+                    return;
+                }
+                if (body.hasRemaining()) {
+                    // wait for next read event
+                    return;
+                }
+                if (body.position() < bodyLength) {
+                    // buffer is full, but frame isn't, so grow it and continue reading
+                    continue;
+                }
+                byte[] data = body.array();
+                body = null;
+                handler.onMessage(this, NioFrames.decode(data, classLoader));
+                if (readPaused) {
+                    // other data stays in socket's buffer until resume
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            close(e);
+        }
+    }
+
+    void onWritable() {
+        try {
+            ByteBuffer frame;
+            while ((frame = writeQueue.peek()) != null) {
+                pendingWriteBytes.addAndGet(-channel.write(frame));
+                if (frame.hasRemaining()) {
+                    // socket buffer is full, wait for next write event
+                    return;
+                }
+                writeQueue.poll();
+            }
+            // new frames will enable write again by loop's task
+            key.interestOps(readPaused ? 0 : SelectionKey.OP_READ);
+        } catch (IOException e) {
+            close(e);
+        }
+    }
+
+    /**
+     * Close connection, thread safe
+     *
+     * @param error null on normal close
+     */
+    public void close(Throwable error) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            channel.close(); // also cancels the key
+        } catch (IOException e) {
+            logger.debug("Can't close nio connection: " + e);
+        }
+        writeQueue.clear();
+        handler.onClose(this, error);
+    }
+
+    public boolean isOpen() {
+        return !closed.get();
+    }
+
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    public Object getAttachment() {
+        return attachment;
+    }
+
+    public void setAttachment(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+}
@@ -0,0 +1,134 @@
+package mage.remote.nio;
+
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.channels.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Network, nio transport: one I/O thread with selector for many connections
+ */
+public class NioEventLoop implements Runnable {
+
+    private static final Logger logger = Logger.getLogger(NioEventLoop.class);
+
+    private static final XmageThreadFactory threadFactory = new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_NETWORK_NIO_IO);
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    public NioEventLoop() throws IOException {
+        this.selector = Selector.open();
+        threadFactory.newThread(this).start();
+    }
+
+    /**
+     * Run task in loop's thread
+     */
+    public void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    public void register(NioConnection connection) throws IOException {
+        SocketChannel channel = connection.getChannel();
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        execute(() -> {
+            try {
+                connection.onRegistered(channel.register(selector, SelectionKey.OP_READ, connection));
+            } catch (IOException e) {
+                connection.close(e);
+            }
+        });
+    }
+
+    public void registerServer(ServerSocketChannel serverChannel, Consumer<SocketChannel> acceptor) throws IOException {
+        serverChannel.configureBlocking(false);
+        execute(() -> {
+            try {
+                serverChannel.register(selector, SelectionKey.OP_ACCEPT, acceptor);
+            } catch (IOException e) {
+                logger.fatal("Can't start nio server: " + e, e);
+            }
+        });
+    }
+
+    void requestWrite(NioConnection connection) {
+        execute(connection::enableWrite);
+    }
+
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (CancelledKeyException ignore) {
+                        // connection closed by another thread
+                    }
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        Object attachment = key.attachment();
+                        if (attachment instanceof NioConnection) {
+                            NioConnection connection = (NioConnection) attachment;
+                            if (key.isValid() && key.isReadable()) {
+                                connection.onReadable();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.onWritable();
+                            }
+                        } else if (key.isValid() && key.isAcceptable()) {
+                            SocketChannel channel;
+                            while ((channel = ((ServerSocketChannel) key.channel()).accept()) != null) {
+                                ((Consumer<SocketChannel>) attachment).accept(channel);
+                            }
+                        }
+                    } catch (CancelledKeyException ignore) {
+                        // connection closed by another thread
+                    } catch (IOException e) {
+                        logger.error("Nio accept error: " + e, e);
+                    } catch (RuntimeException e) {
+                        // must keep other connections alive
+                        logger.error("Nio connection processing error: " + e, e);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            logger.fatal("Nio event loop error: " + e, e);
+        } finally {
+            for (SelectionKey key : new ArrayList<>(selector.keys())) {
+                if (key.attachment() instanceof NioConnection) {
+                    ((NioConnection) key.attachment()).close(null);
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package mage.remote.nio;
+
+import mage.util.CopierObjectInputStream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+/**
+ * Network, nio transport: length-prefixed frames with serialized messages
+ * <p>
+ * Frame format: 4 bytes of data length (big endian), data
+ */
+public final class NioFrames {
+
+    public static final int HEADER_SIZE = 4;
+    public static final int MAX_FRAME_SIZE = 64 * 1024 * 1024; // server's callbacks (e.g. big game views)
+    public static final int MAX_REQUEST_FRAME_SIZE = 1024 * 1024; // client's requests are small (biggest is a deck)
+
+    private NioFrames() {
+    }
+
+    /**
+     * @return full frame, ready to write
+     */
+    public static ByteBuffer encode(NioMessage message) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        bytes.write(new byte[HEADER_SIZE]); // length placeholder
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(message);
+        }
+        ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+        int length = frame.remaining() - HEADER_SIZE;
+        if (length > MAX_FRAME_SIZE) {
+            throw new IOException("Too big frame: " + length + " bytes");
+        }
+        frame.putInt(0, length);
+        return frame;
+    }
+
+    /**
+     * @param data        frame data without header
+     * @param classLoader class loader for data classes (e.g. server plugins), can be null for default
+     */
+    public static NioMessage decode(byte[] data, ClassLoader classLoader) throws IOException {
+        InputStream bytes = new ByteArrayInputStream(data);
+        try (ObjectInputStream input = classLoader == null ? new ObjectInputStream(bytes) : new CopierObjectInputStream(classLoader, bytes)) {
+            return (NioMessage) input.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Wrong frame data: " + e, e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package mage.remote.nio;
+
+import java.io.Serializable;
+
+/**
+ * Network, nio transport: data of the one frame
+ * <p>
+ * Requests and responses linked by request id, so client can send many requests without waiting (pipelining)
+ * and server can send responses in any order. Callbacks sent by server at any time.
+ */
+public class NioMessage implements Serializable {
+
+    public enum Type {
+        REQUEST,
+        RESPONSE,
+        CALLBACK
+    }
+
+    private final Type type;
+    private final long id;
+    private final String method;
+    private final Object[] args;
+    private final Object data; // response result or callback data
+    private final Throwable error;
+
+    private NioMessage(Type type, long id, String method, Object[] args, Object data, Throwable error) {
+        this.type = type;
+        this.id = id;
+        this.method = method;
+        this.args = args;
+        this.data = data;
+        this.error = error;
+    }
+
+    public static NioMessage request(long id, String method, Object[] args) {
+        return new NioMessage(Type.REQUEST, id, method, args, null, null);
+    }
+
+    public static NioMessage response(long id, Object result) {
+        return new NioMessage(Type.RESPONSE, id, null, null, result, null);
+    }
+
+    public static NioMessage error(long id, Throwable error) {
+        return new NioMessage(Type.RESPONSE, id, null, null, null, error);
+    }
+
+    public static NioMessage callback(Object data) {
+        return new NioMessage(Type.CALLBACK, 0, null, null, data, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}
@@ -0,0 +1,14 @@
+package mage.remote.nio;
+
+/**
+ * Network, nio transport: connection events, called from I/O thread (must not block)
+ */
+public interface NioMessageHandler {
+
+    void onMessage(NioConnection connection, NioMessage message);
+
+    /**
+     * @param error null on normal close
+     */
+    void onClose(NioConnection connection, Throwable error);
+}
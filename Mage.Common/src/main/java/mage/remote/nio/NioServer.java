@@ -0,0 +1,241 @@
+package mage.remote.nio;
+
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Network, server side: selector based transport for server commands (alternative to jboss remoting)
+ * <p>
+ * All connections served by few I/O threads and commands executed by workers pool, so idle connections
+ * don't need own threads. Client can send many requests without waiting for responses (pipelining),
+ * server sends responses by request ids and pushes callbacks at any time.
+ * <p>
+ * Flood protection: connection stops reading on too many unprocessed requests (other data waits in socket's
+ * buffers, so client's writes get blocked by tcp), workers queue is limited too.
+ */
+public class NioServer implements NioMessageHandler {
+
+    private static final Logger logger = Logger.getLogger(NioServer.class);
+
+    // transport commands
+    public static final String METHOD_CONNECT = "#connect"; // result: new session id
+    public static final String METHOD_DISCONNECT = "#disconnect"; // args: keep session
+
+    private static final int WORKER_THREADS_IDLE_TIMEOUT_SECS = 60;
+    private static final int MAX_PENDING_REQUESTS_PER_CONNECTION = 16;
+    private static final int MAX_PENDING_REQUESTS_PER_WORKER = 100;
+
+    /**
+     * Sessions of the transport, called from worker or I/O threads
+     */
+    public interface SessionListener {
+
+        void onConnect(String sessionId, String host, NioConnection connection);
+
+        /**
+         * @param byUser      normal disconnect by client, false on connection error
+         * @param keepSession client wants to keep session for reconnect
+         */
+        void onDisconnect(String sessionId, boolean byUser, boolean keepSession);
+    }
+
+    private static class ConnectionState {
+        private volatile String sessionId = null;
+        private volatile boolean disconnected = false;
+        private final AtomicInteger pendingRequests = new AtomicInteger();
+    }
+
+    private final Object target;
+    private final Map<String, Method> methods = new HashMap<>();
+    private final SessionListener listener;
+    private final ClassLoader classLoader;
+    private final ThreadPoolExecutor workers;
+    private final List<NioEventLoop> loops = new ArrayList<>();
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private final AtomicInteger connectionsCount = new AtomicInteger();
+    private final int ioThreads;
+    private ServerSocketChannel serverChannel = null;
+
+    /**
+     * @param targetInterface commands interface, method names must be unique
+     * @param classLoader     class loader for income data, can be null for default
+     * @param ioThreads       threads for all connections
+     * @param workerThreads   max threads for commands processing
+     */
+    public <T> NioServer(Class<T> targetInterface, T target, SessionListener listener, ClassLoader classLoader, int ioThreads, int workerThreads) {
+        for (Method method : targetInterface.getMethods()) {
+            if (methods.put(method.getName(), method) != null) {
+                throw new IllegalArgumentException("Wrong code usage: nio transport needs unique method names, found overload " + method.getName());
+            }
+        }
+        this.target = target;
+        this.listener = listener;
+        this.classLoader = classLoader;
+        this.ioThreads = Math.max(1, ioThreads);
+        this.workers = new ThreadPoolExecutor(
+                workerThreads,
+                workerThreads,
+                WORKER_THREADS_IDLE_TIMEOUT_SECS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, workerThreads) * MAX_PENDING_REQUESTS_PER_WORKER),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_NETWORK_NIO_REQUEST)
+        );
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    public void start(String host, int port, int backlog) throws IOException {
+        for (int i = 0; i < ioThreads; i++) {
+            loops.add(new NioEventLoop());
+        }
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(host, port), backlog);
+        loops.get(0).registerServer(serverChannel, this::accept);
+    }
+
+    public void stop() {
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException ignore) {
+        }
+        loops.forEach(NioEventLoop::shutdown);
+        workers.shutdownNow();
+    }
+
+    /**
+     * Real port (useful for port 0 on start)
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    private void accept(SocketChannel channel) {
+        NioEventLoop loop = loops.get(Math.abs(nextLoop.getAndIncrement() % loops.size()));
+        NioConnection connection = new NioConnection(channel, loop, this, classLoader, NioFrames.MAX_REQUEST_FRAME_SIZE);
+        connection.setAttachment(new ConnectionState());
+        connectionsCount.incrementAndGet();
+        try {
+            loop.register(connection);
+        } catch (IOException e) {
+            connection.close(e);
+        }
+    }
+
+    @Override
+    public void onMessage(NioConnection connection, NioMessage message) {
+        if (message.getType() != NioMessage.Type.REQUEST) {
+            logger.warn("Nio server got unsupported message " + message.getType() + " from " + connection.getRemoteHost());
+            return;
+        }
+        ConnectionState state = (ConnectionState) connection.getAttachment();
+        if (state.pendingRequests.incrementAndGet() >= MAX_PENDING_REQUESTS_PER_CONNECTION) {
+            // wait for processing of the current requests
+            connection.pauseRead();
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    processRequest(connection, state, message);
+                } finally {
+                    onRequestProcessed(connection, state);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // all workers are busy and queue is full
+            logger.warn("Nio server is too busy, request " + message.getMethod() + " from " + connection.getRemoteHost() + " rejected");
+            sendQuietly(connection, NioMessage.error(message.getId(), new IllegalStateException("Server is too busy, try again later")));
+            onRequestProcessed(connection, state);
+        }
+    }
+
+    private void onRequestProcessed(NioConnection connection, ConnectionState state) {
+        if (state.pendingRequests.decrementAndGet() == MAX_PENDING_REQUESTS_PER_CONNECTION - 1) {
+            connection.resumeRead();
+        }
+    }
+
+    private void processRequest(NioConnection connection, ConnectionState state, NioMessage request) {
+        NioMessage response;
+        try {
+            switch (request.getMethod()) {
+                case METHOD_CONNECT:
+                    if (state.sessionId == null) {
+                        state.sessionId = UUID.randomUUID().toString();
+                        listener.onConnect(state.sessionId, connection.getRemoteHost(), connection);
+                    }
+                    response = NioMessage.response(request.getId(), state.sessionId);
+                    break;
+                case METHOD_DISCONNECT:
+                    boolean keepSession = Boolean.TRUE.equals(request.getArgs()[0]);
+                    state.disconnected = true;
+                    if (state.sessionId != null) {
+                        listener.onDisconnect(state.sessionId, true, keepSession);
+                    }
+                    response = NioMessage.response(request.getId(), true);
+                    break;
+                default:
+                    Method method = methods.get(request.getMethod());
+                    if (method == null) {
+                        throw new IllegalArgumentException("Unknown command " + request.getMethod());
+                    }
+                    response = NioMessage.response(request.getId(), method.invoke(target, request.getArgs()));
+            }
+        } catch (InvocationTargetException e) {
+            response = NioMessage.error(request.getId(), e.getCause());
+        } catch (Throwable e) {
+            response = NioMessage.error(request.getId(), e);
+        }
+
+        try {
+            connection.send(response);
+        } catch (IOException e) {
+            if (connection.isOpen()) {
+                // can't serialize result
+                logger.error("Nio server can't send result of " + request.getMethod() + ": " + e, e);
+                sendQuietly(connection, NioMessage.error(request.getId(), new IllegalStateException("Can't send result: " + e)));
+            }
+        }
+    }
+
+    private static void sendQuietly(NioConnection connection, NioMessage message) {
+        try {
+            connection.send(message);
+        } catch (IOException ignore) {
+        }
+    }
+
+    @Override
+    public void onClose(NioConnection connection, Throwable error) {
+        connectionsCount.decrementAndGet();
+        ConnectionState state = (ConnectionState) connection.getAttachment();
+        if (state.sessionId != null && !state.disconnected && !workers.isShutdown()) {
+            logger.debug("Nio connection lost: " + connection.getRemoteHost() + (error == null ? "" : " - " + error));
+            // session processing can be slow, so do not block I/O thread
+            try {
+                workers.execute(() -> listener.onDisconnect(state.sessionId, false, false));
+            } catch (RejectedExecutionException e) {
+                // too busy, but session must be closed anyway
+                listener.onDisconnect(state.sessionId, false, false);
+            }
+        }
+    }
+
+    public int getConnectionsCount() {
+        return connectionsCount.get();
+    }
+}
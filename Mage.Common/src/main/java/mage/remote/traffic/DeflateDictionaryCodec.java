@@ -0,0 +1,147 @@
+package mage.remote.traffic;
+
+import mage.ObjectColor;
+import mage.abilities.icon.CardIconImpl;
+import mage.abilities.icon.CardIconType;
+import mage.constants.*;
+import mage.players.net.UserData;
+import mage.view.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Network: fast codec, deflate with best speed and preset dictionary for typical game data
+ * <p>
+ * Java serialization writes same class descriptions and field names for each new message, so a preset
+ * dictionary with it helps a lot for small and middle messages like game updates.
+ * Compressors and buffers are reusable per thread.
+ */
+public class DeflateDictionaryCodec implements ZippedObjectCodec {
+
+    public static final String NAME = "deflate-dict";
+
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024; // deflate's window size
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+    private static final byte[] DICTIONARY = makeDictionary();
+
+    private static final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+    private static final ThreadLocal<ByteArrayOutputStream> buffers = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(16 * 1024));
+    private static final ThreadLocal<byte[]> chunks = ThreadLocal.withInitial(() -> new byte[16 * 1024]);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object object) throws IOException {
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        deflater.setDictionary(DICTIONARY);
+
+        ByteArrayOutputStream buffer = prepareBuffer();
+        try (ObjectOutputStream oos = new ObjectOutputStream(new DeflaterOutputStream(buffer, deflater, 8 * 1024))) {
+            oos.writeObject(object);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(data);
+
+        ByteArrayOutputStream buffer = prepareBuffer();
+        byte[] chunk = chunks.get();
+        try {
+            while (!inflater.finished()) {
+                int count = inflater.inflate(chunk);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(DICTIONARY);
+                    } else if (inflater.needsInput()) {
+                        throw new EOFException("Unexpected end of compressed data");
+                    }
+                }
+                buffer.write(chunk, 0, count);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Wrong compressed data: " + e.getMessage(), e);
+        }
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+        return ois.readObject();
+    }
+
+    private static ByteArrayOutputStream prepareBuffer() {
+        ByteArrayOutputStream buffer = buffers.get();
+        if (buffer.size() > MAX_CACHED_BUFFER_SIZE) {
+            // do not keep too big buffers after big messages
+            buffer = new ByteArrayOutputStream(16 * 1024);
+            buffers.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    /**
+     * Dictionary must be same on client and server, so it builds from the classes and constants only.
+     * Most used data must be at the end (deflate uses smaller codes for closer data).
+     */
+    private static byte[] makeDictionary() {
+        List<String> tokens = new ArrayList<>();
+
+        // game constants
+        Arrays.stream(Rarity.values()).forEach(v -> tokens.add(v.name()));
+        Arrays.stream(PhaseStep.values()).forEach(v -> tokens.add(v.name()));
+        Arrays.stream(TurnPhase.values()).forEach(v -> tokens.add(v.name()));
+        Arrays.stream(Zone.values()).forEach(v -> tokens.add(v.name()));
+        Arrays.stream(CardIconType.values()).forEach(v -> tokens.add(v.name()));
+        Arrays.stream(SuperType.values()).forEach(v -> tokens.add(v.name()));
+        Arrays.stream(CardType.values()).forEach(v -> tokens.add(v.name()));
+        tokens.addAll(Arrays.asList(
+                "Flying", "First strike", "Deathtouch", "Haste", "Lifelink", "Reach", "Trample", "Vigilance",
+                "{T}: Add {W}.", "{T}: Add {U}.", "{T}: Add {B}.", "{T}: Add {R}.", "{T}: Add {G}.", "{T}: Add {C}."
+        ));
+
+        // java serialization: class descriptions and field names
+        Class<?>[] classes = {
+                UserData.class, ObjectColor.class, CardIconImpl.class,
+                GameClientMessage.class, LookedAtView.class, RevealedView.class, CombatGroupView.class,
+                ManaPoolView.class, CounterView.class, ExileView.class, StackAbilityView.class,
+                SimpleCardView.class, SimpleCardsView.class, CardsView.class,
+                GameView.class, PlayerView.class, CardView.class, PermanentView.class,
+                java.util.HashMap.class, java.util.LinkedHashMap.class, java.util.ArrayList.class,
+                Enum.class, Integer.class, Number.class, Boolean.class, java.util.UUID.class
+        };
+        for (Class<?> clazz : classes) {
+            ObjectStreamClass streamClass = ObjectStreamClass.lookup(clazz);
+            if (streamClass == null) {
+                continue;
+            }
+            tokens.add(streamClass.getName());
+            for (ObjectStreamField field : streamClass.getFields()) {
+                tokens.add(field.getTypeCode() + field.getName());
+                if (field.getTypeString() != null) {
+                    tokens.add(field.getTypeString());
+                }
+            }
+        }
+
+        byte[] data = String.join("", tokens).getBytes(StandardCharsets.UTF_8);
+        if (data.length > MAX_DICTIONARY_SIZE) {
+            data = Arrays.copyOfRange(data, data.length - MAX_DICTIONARY_SIZE, data.length);
+        }
+        return data;
+    }
+}
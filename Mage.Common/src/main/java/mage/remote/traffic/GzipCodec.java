@@ -0,0 +1,36 @@
+package mage.remote.traffic;
+
+import java.io.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Network: default codec, GZIP with java serialization
+ */
+public class GzipCodec implements ZippedObjectCodec {
+
+    public static final String NAME = "gzip";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        GZIPOutputStream gz = new GZIPOutputStream(bos);
+        ObjectOutputStream oos = new ObjectOutputStream(gz);
+        oos.writeObject(object);
+        oos.close();
+        return bos.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        ByteArrayInputStream bis = new ByteArrayInputStream(data);
+        GZIPInputStream gz = new GZIPInputStream(bis);
+        ObjectInputStream ois = new ObjectInputStream(gz);
+        return ois.readObject();
+    }
+}
@@ -0,0 +1,21 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+
+/**
+ * Network: compression codec for {@link ZippedObject} data
+ * <p>
+ * Client and server must use same codecs list, so new codecs must be registered in {@link ZippedObjectCodecs}.
+ * Zipped objects keep codec name, so any registered codec can be used to decompress it.
+ */
+public interface ZippedObjectCodec {
+
+    /**
+     * Unique codec name, uses for client-server negotiation on connect
+     */
+    String getName();
+
+    byte[] encode(Object object) throws IOException;
+
+    Object decode(byte[] data) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,63 @@
+package mage.remote.traffic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Network: all supported compression codecs
+ * <p>
+ * Server sends own codecs list in ServerState and client selects first supported (see SessionImpl),
+ * so codecs must be registered in preferred order.
+ */
+public final class ZippedObjectCodecs {
+
+    private static final Map<String, ZippedObjectCodec> codecs = new LinkedHashMap<>();
+
+    static {
+        register(new DeflateDictionaryCodec());
+        register(new GzipCodec());
+    }
+
+    private ZippedObjectCodecs() {
+    }
+
+    public static synchronized void register(ZippedObjectCodec codec) {
+        codecs.put(codec.getName(), codec);
+    }
+
+    /**
+     * @return codec or null for unknown name
+     */
+    public static synchronized ZippedObjectCodec get(String name) {
+        return codecs.get(name);
+    }
+
+    /**
+     * Default codec for connections without negotiation
+     */
+    public static ZippedObjectCodec getDefault() {
+        return get(GzipCodec.NAME);
+    }
+
+    public static synchronized String[] getNames() {
+        return codecs.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Find first supported codec from other side's list
+     *
+     * @param names codec names in preferred order
+     * @return codec or default codec if nothing found
+     */
+    public static ZippedObjectCodec choose(String[] names) {
+        if (names != null) {
+            for (String name : names) {
+                ZippedObjectCodec codec = get(name);
+                if (codec != null) {
+                    return codec;
+                }
+            }
+        }
+        return getDefault();
+    }
+}
@@ -1,37 +1,31 @@
 package mage.remote.traffic;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
- * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
+ * Implementation for compressing and decompressing objects by {@link ZippedObjectCodec} (GZIP by default).
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
+    private final String codecName;
     private byte[] data;
 
     public ZippedObjectImpl(T object) {
+        this(object, ZippedObjectCodecs.getDefault());
+    }
+
+    public ZippedObjectImpl(T object, ZippedObjectCodec codec) {
+        this.codecName = codec.getName();
         zip(object);
     }
 
     public void zip(T object) {
         try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
-            oos.writeObject(object);
-            oos.close();
-            data = bos.toByteArray();
-        } catch (IOException e) {
+            data = findCodec().encode(object);
+        } catch (Exception e) {
             e.printStackTrace();
         }
     }
@@ -39,16 +33,28 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
     @SuppressWarnings("unchecked")
     public T unzip() {
         try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
-            Object o = ois.readObject();
-            return (T)o;
+            return (T) findCodec().decode(data);
         } catch (Exception e) {
             e.printStackTrace();
         }
         return null;
     }
 
+    private ZippedObjectCodec findCodec() {
+        ZippedObjectCodec codec = ZippedObjectCodecs.get(codecName);
+        if (codec == null) {
+            throw new IllegalStateException("Unknown compression codec: " + codecName);
+        }
+        return codec;
+    }
+
+    public String getCodecName() {
+        return codecName;
+    }
+
+    public int getSize() {
+        return data == null ? 0 : data.length;
+    }
+
     private static final long serialVersionUID = 1L;
 }
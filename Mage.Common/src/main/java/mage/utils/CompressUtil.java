@@ -1,6 +1,8 @@
 package mage.utils;
 
 import mage.remote.traffic.ZippedObject;
+import mage.remote.traffic.ZippedObjectCodec;
+import mage.remote.traffic.ZippedObjectCodecs;
 import mage.remote.traffic.ZippedObjectImpl;
 
 /**
@@ -26,8 +28,12 @@ public final class CompressUtil {
     }
 
     public static Object compress(Object data) {
+        return compress(data, ZippedObjectCodecs.getDefault());
+    }
+
+    public static Object compress(Object data, ZippedObjectCodec codec) {
         if (data != null && compressData) {
-            return new ZippedObjectImpl<>(data);
+            return new ZippedObjectImpl<>(data, codec);
         }
         return data;
     }
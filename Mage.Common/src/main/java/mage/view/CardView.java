@@ -1513,6 +1513,13 @@ public class CardView extends SimpleCardView {
         this.canBlock = canBlock;
     }
 
+    @Override
+    public void resetClientSideData() {
+        super.resetClientSideData();
+        this.canAttack = false;
+        this.canBlock = false;
+    }
+
     public boolean isCreature() {
         return cardTypes.contains(CardType.CREATURE);
     }
@@ -26,6 +26,12 @@ public class ExileView extends CardsView {
         }
     }
 
+    public ExileView(final ExileView view) {
+        this.name = view.name;
+        this.id = view.id;
+        this.putAll(view);
+    }
+
     public String getName() {
         return name;
     }
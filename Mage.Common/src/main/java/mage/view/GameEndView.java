@@ -38,8 +38,9 @@ public class GameEndView implements Serializable {
         // set result message
         int winner = 0;
         Player you = null;
+        PlayersZonesIndex zones = new PlayersZonesIndex(state, game);
         for (Player player : state.getPlayers().values()) {
-            PlayerView playerView = new PlayerView(player, state, game, playerId, null);
+            PlayerView playerView = new PlayerView(player, state, game, playerId, null, zones);
             if (playerView.getPlayerId().equals(playerId)) {
                 clientPlayer = playerView;
                 you = player;
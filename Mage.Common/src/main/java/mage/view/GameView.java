@@ -63,14 +63,16 @@ public class GameView implements Serializable {
     private boolean special = false;
     private final boolean rollbackTurnsAllowed;
     private int totalErrorsCount;
+    private long updateVersion = 0; // network: version of the full game view for diff updates, see GameViewDiff
 
     public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
         Player createdForPlayer = null;
         this.priorityTime = game.getPriorityTime();
         this.bufferTime = game.getBufferTime();
 
+        PlayersZonesIndex zones = new PlayersZonesIndex(state, game);
         for (Player player : state.getPlayers().values()) {
-            PlayerView playerView = new PlayerView(player, state, game, createdForPlayerId, watcherUserId);
+            PlayerView playerView = new PlayerView(player, state, game, createdForPlayerId, watcherUserId, zones);
             players.add(playerView);
             if (player.getId().equals(createdForPlayerId)) {
                 createdForPlayer = player;
@@ -211,6 +213,41 @@ public class GameView implements Serializable {
         this.totalErrorsCount = game.getTotalErrorsCount();
     }
 
+    /**
+     * Copy for another viewer: shares cards data, but uses own cards containers and personal data
+     * (so it can be modified without changes in the source view)
+     */
+    public GameView(final GameView view) {
+        this.priorityTime = view.priorityTime;
+        this.bufferTime = view.bufferTime;
+        for (PlayerView playerView : view.players) {
+            this.players.add(new PlayerView(playerView));
+        }
+        this.myPlayerId = view.myPlayerId;
+        this.myHand.putAll(view.myHand);
+        this.myHelperEmblems.putAll(view.myHelperEmblems);
+        this.canPlayObjects = view.canPlayObjects;
+        this.opponentHands.putAll(view.opponentHands);
+        this.watchedHands.putAll(view.watchedHands);
+        this.stack.putAll(view.stack);
+        for (ExileView exileView : view.exiles) {
+            this.exiles.add(new ExileView(exileView));
+        }
+        this.revealed.addAll(view.revealed);
+        this.lookedAt.addAll(view.lookedAt);
+        this.companion.addAll(view.companion);
+        this.combat.addAll(view.combat);
+        this.phase = view.phase;
+        this.step = view.step;
+        this.activePlayerId = view.activePlayerId;
+        this.activePlayerName = view.activePlayerName;
+        this.priorityPlayerName = view.priorityPlayerName;
+        this.turn = view.turn;
+        this.special = view.special;
+        this.rollbackTurnsAllowed = view.rollbackTurnsAllowed;
+        this.totalErrorsCount = view.totalErrorsCount;
+    }
+
     private void checkPaid(UUID uuid, StackAbility stackAbility) {
         for (Cost cost : stackAbility.getManaCostsToPay()) {
             if (!cost.isPaid()) {
@@ -349,4 +386,12 @@ public class GameView implements Serializable {
     public int getTotalErrorsCount() {
         return this.totalErrorsCount;
     }
+
+    public long getUpdateVersion() {
+        return updateVersion;
+    }
+
+    public void setUpdateVersion(long updateVersion) {
+        this.updateVersion = updateVersion;
+    }
 }
@@ -0,0 +1,99 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Network: game update with changed cards only (diff between current and the last full game view of the client)
+ * <p>
+ * Server sends diffs for GAME_UPDATE events and full game views for all other events,
+ * client must restore full game view by applyTo before usage (see SessionHandler)
+ */
+public class GameViewDiff implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long baseVersion; // version of the game view to apply the diff
+    private final GameView gameView; // all game data except unchanged cards
+    private final Map<String, List<UUID>> cardsOrder; // containers with unchanged cards: all card ids in original order
+
+    public GameViewDiff(long baseVersion, GameView gameView, Map<String, List<UUID>> cardsOrder) {
+        this.baseVersion = baseVersion;
+        this.gameView = gameView;
+        this.cardsOrder = cardsOrder;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public GameView getGameView() {
+        return gameView;
+    }
+
+    public Map<String, List<UUID>> getCardsOrder() {
+        return cardsOrder;
+    }
+
+    /**
+     * Restore full game view by unchanged cards from the base game view
+     *
+     * @param baseGameView last full game view of the client
+     * @return full game view or null on unknown base (client must request full game view from the server)
+     */
+    public GameView applyTo(GameView baseGameView) {
+        if (baseGameView == null || baseGameView.getUpdateVersion() != baseVersion) {
+            return null;
+        }
+
+        Map<String, Map<UUID, CardView>> baseCards = findCardContainers(baseGameView);
+        Map<String, Map<UUID, CardView>> newCards = findCardContainers(gameView);
+        for (Map.Entry<String, List<UUID>> entry : cardsOrder.entrySet()) {
+            Map<UUID, CardView> base = baseCards.get(entry.getKey());
+            Map<UUID, CardView> cards = newCards.get(entry.getKey());
+            if (base == null || cards == null) {
+                return null;
+            }
+            Map<UUID, CardView> restored = new LinkedHashMap<>(entry.getValue().size());
+            for (UUID cardId : entry.getValue()) {
+                CardView card = cards.get(cardId);
+                if (card == null) {
+                    // unchanged card from the old view: client can mark it as playable/attacker/etc, so clear it
+                    card = base.get(cardId);
+                    if (card == null) {
+                        return null;
+                    }
+                    card.resetClientSideData();
+                }
+                restored.put(cardId, card);
+            }
+            cards.clear();
+            cards.putAll(restored);
+        }
+        return gameView;
+    }
+
+    /**
+     * All card containers of the game view that can be sent as diff
+     *
+     * @param gameView
+     * @return container name and cards (same maps as in game view, so it can be modified)
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Map<UUID, CardView>> findCardContainers(GameView gameView) {
+        Map<String, Map<UUID, CardView>> res = new LinkedHashMap<>();
+        res.put("hand", gameView.getMyHand());
+        res.put("stack", gameView.getStack());
+        for (PlayerView player : gameView.getPlayers()) {
+            // permanents can be stored as cards cause diff replace full objects only
+            res.put("battlefield:" + player.getPlayerId(), (Map<UUID, CardView>) (Map<UUID, ? extends CardView>) player.getBattlefield());
+            res.put("graveyard:" + player.getPlayerId(), player.getGraveyard());
+            res.put("exile:" + player.getPlayerId(), player.getExile());
+            res.put("sideboard:" + player.getPlayerId(), player.getSideboard());
+        }
+        for (ExileView exile : gameView.getExile()) {
+            res.put("exileZone:" + exile.getId(), exile);
+        }
+        return res;
+    }
+}
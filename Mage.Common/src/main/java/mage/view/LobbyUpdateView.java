@@ -0,0 +1,88 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Network: lobby data pushed by the server to subscribed clients (instead tables/users polling)
+ * <p>
+ * Contains changed data only since the client's last lobby version, client must keep
+ * received tables and restore full tables list by applyTo (see TablesPanel)
+ */
+public class LobbyUpdateView implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID roomId;
+    private final long baseVersion; // version of the client's data to apply the update, 0 for full data
+    private final long version;
+    private final List<UUID> tablesOrder; // all active tables in lobby order
+    private final List<TableView> changedTables; // new and changed tables since base version
+    private final List<MatchView> finishedMatches; // null on unchanged
+    private final List<RoomUsersView> roomUsers; // null on unchanged
+
+    public LobbyUpdateView(UUID roomId, long baseVersion, long version, List<UUID> tablesOrder, List<TableView> changedTables,
+                           List<MatchView> finishedMatches, List<RoomUsersView> roomUsers) {
+        this.roomId = roomId;
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.tablesOrder = tablesOrder;
+        this.changedTables = changedTables;
+        this.finishedMatches = finishedMatches;
+        this.roomUsers = roomUsers;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return baseVersion == 0;
+    }
+
+    public List<TableView> getChangedTables() {
+        return changedTables;
+    }
+
+    public List<MatchView> getFinishedMatches() {
+        return finishedMatches;
+    }
+
+    public List<RoomUsersView> getRoomUsers() {
+        return roomUsers;
+    }
+
+    /**
+     * Restore full tables list by the client's tables
+     *
+     * @param knownTables all tables from the last client's version (will be modified to the new version)
+     * @return tables in lobby order or null on miss data (client must request full data from the server)
+     */
+    public List<TableView> applyTo(Map<UUID, TableView> knownTables) {
+        if (isFull()) {
+            knownTables.clear();
+        }
+        for (TableView table : changedTables) {
+            knownTables.put(table.getTableId(), table);
+        }
+        knownTables.keySet().retainAll(new HashSet<>(tablesOrder));
+
+        List<TableView> res = new ArrayList<>(tablesOrder.size());
+        for (UUID tableId : tablesOrder) {
+            TableView table = knownTables.get(tableId);
+            if (table == null) {
+                return null;
+            }
+            res.add(table);
+        }
+        return res;
+    }
+}
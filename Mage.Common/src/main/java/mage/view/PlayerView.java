@@ -3,7 +3,6 @@ package mage.view;
 import mage.cards.Card;
 import mage.counters.Counter;
 import mage.designations.Designation;
-import mage.game.ExileZone;
 import mage.game.Game;
 import mage.game.GameState;
 import mage.game.command.*;
@@ -61,6 +60,13 @@ public class PlayerView implements Serializable {
     private final List<String> designationNames = new ArrayList<>();
 
     public PlayerView(Player player, GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
+        this(player, state, game, createdForPlayerId, watcherUserId, new PlayersZonesIndex(state, game));
+    }
+
+    /**
+     * @param zones shared zones data for all player views of the game view
+     */
+    PlayerView(Player player, GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId, PlayersZonesIndex zones) {
         this.playerId = player.getId();
         this.name = player.getName();
         this.controlled = player.getId().equals(createdForPlayerId);
@@ -84,12 +90,8 @@ public class PlayerView implements Serializable {
         for (Card card : player.getGraveyard().getCards(game)) {
             graveyard.put(card.getId(), new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
         }
-        for (ExileZone exileZone : game.getExile().getExileZones()) {
-            for (Card card : exileZone.getCards(game)) {
-                if (player.getId().equals(card.getOwnerId())) {
-                    exile.put(card.getId(), new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
-                }
-            }
+        for (Card card : zones.getExile(this.playerId)) {
+            exile.put(card.getId(), new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
         }
         if (this.controlled || !player.isHuman()) {
             // sideboard available for itself or for computer only
@@ -97,11 +99,9 @@ public class PlayerView implements Serializable {
                 sideboard.put(card.getId(), new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
             }
         }
-        for (Permanent permanent : state.getBattlefield().getAllPermanents()) {
-            if (showInBattlefield(permanent, state)) {
-                PermanentView view = new PermanentView(permanent, game.getCard(permanent.getId()), createdForPlayerId, game);
-                battlefield.put(view.getId(), view);
-            }
+        for (Permanent permanent : zones.getBattlefield(this.playerId)) {
+            PermanentView view = new PermanentView(permanent, game.getCard(permanent.getId()), createdForPlayerId, game);
+            battlefield.put(view.getId(), view);
         }
 
         Card cardOnTop = (player.isTopCardRevealed() && player.getLibrary().hasCards())
@@ -113,28 +113,19 @@ public class PlayerView implements Serializable {
             this.userData = UserData.getDefaultUserDataView();
         }
 
-        for (CommandObject commandObject : game.getState().getCommand()) {
+        // player's objects and planes (planes are universal and all players can see them)
+        for (CommandObject commandObject : zones.getCommand(this.playerId)) {
             if (commandObject instanceof Emblem) {
-                Emblem emblem = (Emblem) commandObject;
-                if (emblem.getControllerId().equals(this.playerId)) {
-                    commandList.add(new EmblemView(emblem, game));
-                }
+                commandList.add(new EmblemView((Emblem) commandObject, game));
             } else if (commandObject instanceof Dungeon) {
-                Dungeon dungeon = (Dungeon) commandObject;
-                if (dungeon.getControllerId().equals(this.playerId)) {
-                    commandList.add(new DungeonView(dungeon));
-                }
+                commandList.add(new DungeonView((Dungeon) commandObject));
             } else if (commandObject instanceof Plane) {
-                Plane plane = (Plane) commandObject;
-                // Planes are universal and all players can see them.
-                commandList.add(new PlaneView(plane, game));
+                commandList.add(new PlaneView((Plane) commandObject, game));
             } else if (commandObject instanceof Commander) {
                 Commander commander = (Commander) commandObject;
-                if (commander.getControllerId().equals(this.playerId)) {
-                    Card sourceCard = game.getCard(commander.getSourceId());
-                    if (sourceCard != null) {
-                        commandList.add(new CommanderView(commander, sourceCard, game, createdForPlayerId));
-                    }
+                Card sourceCard = game.getCard(commander.getSourceId());
+                if (sourceCard != null) {
+                    commandList.add(new CommanderView(commander, sourceCard, game, createdForPlayerId));
                 }
             }
         }
@@ -162,19 +153,47 @@ public class PlayerView implements Serializable {
         }
     }
 
-    private boolean showInBattlefield(Permanent permanent, GameState state) {
-
-        //show permanents controlled by player or attachments to permanents controlled by player
-        if (permanent.getAttachedTo() == null) {
-            return permanent.getControllerId().equals(playerId);
-        } else {
-            Permanent attachedTo = state.getPermanent(permanent.getAttachedTo());
-            if (attachedTo != null) {
-                return attachedTo.getControllerId().equals(playerId);
-            } else {
-                return permanent.getControllerId().equals(playerId);
-            }
-        }
+    /**
+     * Copy for another viewer: shares cards data, but uses own cards containers
+     */
+    public PlayerView(final PlayerView view) {
+        this.playerId = view.playerId;
+        this.name = view.name;
+        this.controlled = view.controlled;
+        this.isHuman = view.isHuman;
+        this.life = view.life;
+        this.counters = view.counters;
+        this.wins = view.wins;
+        this.winsNeeded = view.winsNeeded;
+        this.libraryCount = view.libraryCount;
+        this.handCount = view.handCount;
+        this.isActive = view.isActive;
+        this.hasPriority = view.hasPriority;
+        this.timerActive = view.timerActive;
+        this.hasLeft = view.hasLeft;
+        this.manaPool = view.manaPool;
+        this.graveyard.putAll(view.graveyard);
+        this.exile.putAll(view.exile);
+        this.sideboard.putAll(view.sideboard);
+        this.helperCards.putAll(view.helperCards);
+        this.battlefield.putAll(view.battlefield);
+        this.topCard = view.topCard;
+        this.userData = view.userData;
+        this.commandList.addAll(view.commandList);
+        this.attachments.addAll(view.attachments);
+        this.statesSavedSize = view.statesSavedSize;
+        this.priorityTimeSavedTimeMs = view.priorityTimeSavedTimeMs;
+        this.priorityTimeLeftSecs = view.priorityTimeLeftSecs;
+        this.bufferTimeLeft = view.bufferTimeLeft;
+        this.passedTurn = view.passedTurn;
+        this.passedUntilEndOfTurn = view.passedUntilEndOfTurn;
+        this.passedUntilNextMain = view.passedUntilNextMain;
+        this.passedUntilStackResolved = view.passedUntilStackResolved;
+        this.passedAllTurns = view.passedAllTurns;
+        this.passedUntilEndStepBeforeMyTurn = view.passedUntilEndStepBeforeMyTurn;
+        this.monarch = view.monarch;
+        this.initiative = view.initiative;
+        this.designationNames.addAll(view.designationNames);
     }
 
     public boolean getControlled() {
@@ -0,0 +1,76 @@
+package mage.view;
+
+import mage.cards.Card;
+import mage.game.ExileZone;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.command.CommandObject;
+import mage.game.command.Plane;
+import mage.game.permanent.Permanent;
+
+import java.util.*;
+
+/**
+ * Shared zones data for player views: battlefield, exile and command zones partitioned by players
+ * <p>
+ * Game view builds it once for all player views, so each player view doesn't need to scan full zones
+ * (one scan per game view instead one scan per player). Keeps original zones order.
+ */
+class PlayersZonesIndex {
+
+    private final Map<UUID, List<Permanent>> battlefield = new HashMap<>(); // player -> permanents to show in player's battlefield
+    private final Map<UUID, List<Card>> exile = new HashMap<>(); // owner -> exiled cards
+    private final Map<UUID, List<CommandObject>> command = new HashMap<>(); // controller -> command objects (planes for all players)
+
+    PlayersZonesIndex(GameState state, Game game) {
+        for (Permanent permanent : state.getBattlefield().getAllPermanents()) {
+            add(battlefield, findBattlefieldPlayer(permanent, state), permanent);
+        }
+
+        for (ExileZone exileZone : game.getExile().getExileZones()) {
+            for (Card card : exileZone.getCards(game)) {
+                add(exile, card.getOwnerId(), card);
+            }
+        }
+
+        for (CommandObject commandObject : game.getState().getCommand()) {
+            if (commandObject instanceof Plane) {
+                // planes are universal and all players can see them
+                for (UUID playerId : state.getPlayers().keySet()) {
+                    add(command, playerId, commandObject);
+                }
+            } else {
+                add(command, commandObject.getControllerId(), commandObject);
+            }
+        }
+    }
+
+    private static <T> void add(Map<UUID, List<T>> map, UUID playerId, T object) {
+        if (playerId != null) {
+            map.computeIfAbsent(playerId, x -> new ArrayList<>()).add(object);
+        }
+    }
+
+    private static UUID findBattlefieldPlayer(Permanent permanent, GameState state) {
+        // show permanents controlled by player or attachments to permanents controlled by player
+        if (permanent.getAttachedTo() != null) {
+            Permanent attachedTo = state.getPermanent(permanent.getAttachedTo());
+            if (attachedTo != null) {
+                return attachedTo.getControllerId();
+            }
+        }
+        return permanent.getControllerId();
+    }
+
+    List<Permanent> getBattlefield(UUID playerId) {
+        return battlefield.getOrDefault(playerId, Collections.emptyList());
+    }
+
+    List<Card> getExile(UUID playerId) {
+        return exile.getOrDefault(playerId, Collections.emptyList());
+    }
+
+    List<CommandObject> getCommand(UUID playerId) {
+        return command.getOrDefault(playerId, Collections.emptyList());
+    }
+}
@@ -101,4 +101,13 @@ public class SimpleCardView implements Serializable, SelectableObjectView {
     public void setSelected(boolean isSelected) {
         this.isSelected = isSelected;
     }
+
+    /**
+     * Reset GUI data that filled on client side from GameView (e.g. before reuse of the old card view in new game view)
+     */
+    public void resetClientSideData() {
+        this.isChoosable = false;
+        this.isSelected = false;
+        this.playableStats = new PlayableObjectStats();
+    }
 }
@@ -52,6 +52,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
     // TODO: increase maxNodes due AI skill level like max depth?
     private static final int MAX_SIMULATED_NODES_PER_CALC = 5000;
     private static final int MAX_SIMULATED_NODES_PER_ERROR = 5100; // TODO: debug only, set low value to find big calculations
+    private static final int MIN_SIMULATED_NODES_PER_ROOT_ACTION = 500; // root actions calc in parallel only if each action gets that budget
 
     // same params as Executors.newFixedThreadPool
     // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
@@ -103,6 +104,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
     public ComputerPlayer6(final ComputerPlayer6 player) {
         super(player);
         this.maxDepth = player.maxDepth;
+        this.maxNodes = player.maxNodes;
         this.currentScore = player.currentScore;
         if (player.combat != null) {
             this.combat = player.combat.copy();
@@ -212,11 +214,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (node.getBudget().isOverflowed()) {
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getBudget().isExhausted()
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -300,10 +302,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            long gameValue = game.getState().getStateHash(game);
+            logger.trace("Sim getNextAction -- game value:" + gameValue + " test value:" + test.gameValue);
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && gameValue == test.gameValue) {
                 logger.info("simulating -- continuing previous actions chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -311,7 +314,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 if (root.abilities == null || root.abilities.isEmpty()) {
                     logger.info("simulating -- need re-calculation (no more actions)");
-                } else if (game.getState().getValue(true).hashCode() != test.gameValue) {
+                } else if (gameValue != test.gameValue) {
                     logger.info("simulating -- need re-calculation (game state changed between actions)");
                 } else if (!root.playerId.equals(playerId)) {
                     // TODO: need research, why need playerId and why it taken from stack objects as controller
@@ -334,10 +337,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (node.getBudget().isOverflowed()) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getBudget().isExhausted()) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -409,7 +412,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + node.getBudget().getNodes() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -431,7 +434,8 @@ public class ComputerPlayer6 extends ComputerPlayer {
      */
     protected Integer addActionsTimed() {
         // run new game simulation in parallel thread
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        SimulationNode2 calcRoot = root;
+        FutureTask<Integer> task = new FutureTask<>(() -> addActions(calcRoot, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
         threadPoolSimulations.execute(task);
         try {
             int maxSeconds = maxThinkTimeSecs;
@@ -460,11 +464,31 @@ public class ComputerPlayer6 extends ComputerPlayer {
             // ?
             logger.error("AI simulation catch unknown error: " + e, e);
             task.cancel(true);
+        } finally {
+            logSimulationStats(calcRoot.getBudget());
         }
         //TODO: timeout handling
         return 0;
     }
 
+    /**
+     * New nodes budget for each AI calc
+     */
+    protected SimulationBudget createSimulationBudget() {
+        return new SimulationBudget(maxNodes, maxNodes + (MAX_SIMULATED_NODES_PER_ERROR - MAX_SIMULATED_NODES_PER_CALC));
+    }
+
+    protected void logSimulationStats(SimulationBudget budget) {
+        logger.info(String.format("AI calc stats for %s: %d nodes, %d nodes/sec, depth %d of %d, %d ms",
+                getName(),
+                budget.getNodes(),
+                budget.getNodesPerSecond(),
+                budget.getReachedDepth(maxDepth),
+                maxDepth,
+                budget.getElapsedMillis()
+        ));
+    }
+
     protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
         if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
                 && Thread.interrupted()) {
@@ -472,7 +496,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getStateHash(game));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -493,203 +517,202 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 logger.info(String.format("-> #%d (%s)", i + 1, getAbilityAndSourceInfo(game, possibleAbility, true)));
             }
         }
+        // root actions calc in parallel, each with own part of the nodes budget (so all root actions will be checked),
+        // too many actions for the budget - calc it one by one with shared budget
+        List<SimulationNode2> rootNodes = null;
+        if (depth == maxDepth
+                && allActions.size() > 1
+                && node.getBudget().getMaxNodes() / allActions.size() >= MIN_SIMULATED_NODES_PER_ROOT_ACTION) {
+            rootNodes = searchRootActions(node, game, currentPlayer, allActions, depth, alpha, beta);
+        }
+
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
         for (Ability action : allActions) {
             actionNumber++;
-            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+            // root actions check interrupt and own budgets in searchRootActions, so here it's ready results only
+            // and it can be used for best action after interrupt too (unfinished calcs are ignored)
+            if (rootNodes == null
+                    && !COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
                     && Thread.interrupted()) {
                 Thread.currentThread().interrupt();
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
                 break;
             }
-            Game sim = game.createSimulationForAI();
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            SimulationNode2 newNode;
+            int finalScore;
+            if (rootNodes != null) {
+                newNode = rootNodes.get(actionNumber - 1);
+                if (newNode == null) {
                     continue;
                 }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
+                finalScore = newNode.getScore();
+            } else {
+                newNode = prepareActionNode(node, node.getBudget(), game, currentPlayer, action, depth);
+                if (newNode == null) {
+                    continue;
                 }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int finalScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // no more next actions, it's a final score
-                    finalScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
-                } else {
-                    // resolve current action and calc all next actions to find best score (return max possible score)
-                    finalScore = addActions(newNode, depth - 1, alpha, beta);
+                finalScore = searchActionNode(newNode, action, depth, alpha, beta);
+            }
+            logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
+
+            // Hints on data:
+            // * node - started game with executed command (pay and put on stack)
+            // * newNode - resolved game with resolved command (resolve stack)
+            // * node.children - rewrites to store only best tree (e.g. contains only final data)
+            // * node.score - rewrites to store max score (e.g. contains only final data)
+            if (logger.isInfoEnabled()
+                    && depth >= maxDepth) {
+                // show final calculated score and best actions chain from it
+                List<SimulationNode2> fullChain = new ArrayList<>();
+                fullChain.add(newNode);
+                SimulationNode2 finalNode = newNode;
+                while (!finalNode.getChildren().isEmpty()) {
+                    finalNode = finalNode.getChildren().get(0);
+                    fullChain.add(finalNode);
                 }
-                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
-
-                // Hints on data:
-                // * node - started game with executed command (pay and put on stack)
-                // * newNode - resolved game with resolved command (resolve stack)
-                // * node.children - rewrites to store only best tree (e.g. contains only final data)
-                // * node.score - rewrites to store max score (e.g. contains only final data)
-                if (logger.isInfoEnabled()
-                        && depth >= maxDepth) {
-                    // show final calculated score and best actions chain from it
-                    List<SimulationNode2> fullChain = new ArrayList<>();
-                    fullChain.add(newNode);
-                    SimulationNode2 finalNode = newNode;
-                    while (!finalNode.getChildren().isEmpty()) {
-                        finalNode = finalNode.getChildren().get(0);
-                        fullChain.add(finalNode);
-                    }
 
-                    // example: Sim Prio [6] #1 <diff -19, +4444> (Lightning Bolt [aa5]: Cast Lightning Bolt -> Balduvian Bears [c49])
-                    // total
-                    logger.info(String.format("Sim Prio [%d] #%d <total score diff %s (from %s to %s)>",
-                            depth,
-                            actionNumber,
-                            printDiffScore(finalScore - startedScore),
-                            printDiffScore(startedScore),
-                            printDiffScore(finalScore)
-                    ));
-
-                    // details
-                    for (int chainIndex = 0; chainIndex < fullChain.size(); chainIndex++) {
-                        SimulationNode2 currentNode = fullChain.get(chainIndex);
-                        SimulationNode2 prevNode;
-                        if (chainIndex == 0) {
-                            prevNode = node;
-                        } else {
-                            prevNode = fullChain.get(chainIndex - 1);
-                        }
+                // example: Sim Prio [6] #1 <diff -19, +4444> (Lightning Bolt [aa5]: Cast Lightning Bolt -> Balduvian Bears [c49])
+                // total
+                logger.info(String.format("Sim Prio [%d] #%d <total score diff %s (from %s to %s)>",
+                        depth,
+                        actionNumber,
+                        printDiffScore(finalScore - startedScore),
+                        printDiffScore(startedScore),
+                        printDiffScore(finalScore)
+                ));
 
-                        int currentScore = GameStateEvaluator2.evaluate(this.getId(), currentNode.getGame()).getTotalScore();
-                        int prevScore = GameStateEvaluator2.evaluate(this.getId(), prevNode.getGame()).getTotalScore();
+                // details
+                for (int chainIndex = 0; chainIndex < fullChain.size(); chainIndex++) {
+                    SimulationNode2 currentNode = fullChain.get(chainIndex);
+                    SimulationNode2 prevNode;
+                    if (chainIndex == 0) {
+                        prevNode = node;
+                    } else {
+                        prevNode = fullChain.get(chainIndex - 1);
+                    }
 
-                        if (currentNode.getAbilities() != null) {
-                            // ON PRIORITY
+                    int currentScore = GameStateEvaluator2.evaluate(this.getId(), currentNode.getGame()).getTotalScore();
+                    int prevScore = GameStateEvaluator2.evaluate(this.getId(), prevNode.getGame()).getTotalScore();
 
-                            // runtime check
-                            if (currentNode.getAbilities().size() != 1) {
-                                throw new IllegalStateException("AI's simulated game must contains only one selected action, but found: " + currentNode.getAbilities());
-                            }
-                            if (!currentNode.getTargets().isEmpty() || !currentNode.getChoices().isEmpty()) {
-                                throw new IllegalStateException("WTF, simulated abilities with targets/choices");
-                            }
-                            logger.info(String.format("Sim Prio [%d] -> next action: [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    getAbilityAndSourceInfo(currentNode.getGame(), currentNode.getAbilities().get(0), true)
-                            ));
-                        } else if (!currentNode.getTargets().isEmpty()) {
-                            // ON TARGETS
-                            String targetsInfo = currentNode.getTargets()
-                                    .stream()
-                                    .map(id -> {
-                                        Player player = game.getPlayer(id);
-                                        if (player != null) {
-                                            return player.getName();
-                                        }
-                                        MageObject object = game.getObject(id);
-                                        if (object != null) {
-                                            return object.getIdName();
-                                        }
-                                        return "unknown";
-                                    })
-                                    .collect(Collectors.joining(", "));
-                            logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    targetsInfo)
-                            );
-                        } else if (!currentNode.getChoices().isEmpty()) {
-                            // ON CHOICES
-                            String choicesInfo = String.join(", ", currentNode.getChoices());
-                            logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    choicesInfo)
-                            );
-                        } else {
-                            throw new IllegalStateException("AI CALC ERROR: unknown calculation result (no abilities, no targets, no choices)");
-                        }
-                    }
-                }
+                    if (currentNode.getAbilities() != null) {
+                        // ON PRIORITY
 
-                if (currentPlayer.getId().equals(playerId)) {
-                    if (finalScore > bestValSubNodes) {
-                        bestValSubNodes = finalScore;
-                    }
-                    if (depth == maxDepth
-                            && action instanceof PassAbility) {
-                        finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
-                    }
-                    if (finalScore > alpha
-                            || (depth == maxDepth
-                            && finalScore == alpha
-                            && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
-                        alpha = finalScore;
-                        bestNode = newNode;
-                        bestNode.setScore(finalScore);
-                        if (!newNode.getChildren().isEmpty()) {
-                            // TODO: wtf, must review all code to remove shared objects
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                        // runtime check
+                        if (currentNode.getAbilities().size() != 1) {
+                            throw new IllegalStateException("AI's simulated game must contains only one selected action, but found: " + currentNode.getAbilities());
                         }
-
-                        // keep only best node
-                        if (depth == maxDepth) {
-                            logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
-                            node.children.clear();
-                            node.children.add(bestNode);
-                            node.setScore(bestNode.getScore());
+                        if (!currentNode.getTargets().isEmpty() || !currentNode.getChoices().isEmpty()) {
+                            throw new IllegalStateException("WTF, simulated abilities with targets/choices");
                         }
+                        logger.info(String.format("Sim Prio [%d] -> next action: [%d]<diff %s> (%s)",
+                                depth,
+                                currentNode.getDepth(),
+                                printDiffScore(currentScore - prevScore),
+                                getAbilityAndSourceInfo(currentNode.getGame(), currentNode.getAbilities().get(0), true)
+                        ));
+                    } else if (!currentNode.getTargets().isEmpty()) {
+                        // ON TARGETS
+                        String targetsInfo = currentNode.getTargets()
+                                .stream()
+                                .map(id -> {
+                                    Player player = game.getPlayer(id);
+                                    if (player != null) {
+                                        return player.getName();
+                                    }
+                                    MageObject object = game.getObject(id);
+                                    if (object != null) {
+                                        return object.getIdName();
+                                    }
+                                    return "unknown";
+                                })
+                                .collect(Collectors.joining(", "));
+                        logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
+                                depth,
+                                currentNode.getDepth(),
+                                printDiffScore(currentScore - prevScore),
+                                targetsInfo)
+                        );
+                    } else if (!currentNode.getChoices().isEmpty()) {
+                        // ON CHOICES
+                        String choicesInfo = String.join(", ", currentNode.getChoices());
+                        logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
+                                depth,
+                                currentNode.getDepth(),
+                                printDiffScore(currentScore - prevScore),
+                                choicesInfo)
+                        );
+                    } else {
+                        throw new IllegalStateException("AI CALC ERROR: unknown calculation result (no abilities, no targets, no choices)");
                     }
+                }
+            }
 
-                    // no need to check other actions
-                    if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
-                        logger.debug("Sim Prio -- win - break");
-                        break;
-                    }
-                } else {
-                    if (finalScore < beta) {
-                        beta = finalScore;
-                        bestNode = newNode;
-                        bestNode.setScore(finalScore);
-                        if (!newNode.getChildren().isEmpty()) {
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
-                        }
+            if (currentPlayer.getId().equals(playerId)) {
+                if (finalScore > bestValSubNodes) {
+                    bestValSubNodes = finalScore;
+                }
+                if (depth == maxDepth
+                        && action instanceof PassAbility) {
+                    finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
+                }
+                if (finalScore > alpha
+                        || (depth == maxDepth
+                        && finalScore == alpha
+                        && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
+                    alpha = finalScore;
+                    bestNode = newNode;
+                    bestNode.setScore(finalScore);
+                    if (!newNode.getChildren().isEmpty()) {
+                        // TODO: wtf, must review all code to remove shared objects
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
                     }
 
-                    // no need to check other actions
-                    if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
-                        logger.debug("Sim Prio -- lose - break");
-                        break;
+                    // keep only best node
+                    if (depth == maxDepth) {
+                        logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
+                        node.children.clear();
+                        node.children.add(bestNode);
+                        node.setScore(bestNode.getScore());
                     }
                 }
-                if (alpha >= beta) {
+
+                // no need to check other actions
+                if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
+                    logger.debug("Sim Prio -- win - break");
                     break;
                 }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
-                    throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
+            } else {
+                if (finalScore < beta) {
+                    beta = finalScore;
+                    bestNode = newNode;
+                    bestNode.setScore(finalScore);
+                    if (!newNode.getChildren().isEmpty()) {
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                    }
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
-                    logger.debug("Sim Prio -- reached end-state");
+
+                // no need to check other actions
+                if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
+                    logger.debug("Sim Prio -- lose - break");
                     break;
                 }
             }
+            if (alpha >= beta) {
+                break;
+            }
+            if (rootNodes == null && node.getBudget().isOverflowed()) {
+                throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
+            }
+            if (rootNodes == null && node.getBudget().isExhausted()) {
+                logger.debug("Sim Prio -- reached end-state");
+                break;
+            }
         } // end of for (allActions)
 
         if (depth == maxDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + node.getBudget().getNodes());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -708,6 +731,131 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
     }
 
+    /**
+     * Activate action in new simulated game
+     *
+     * @return new node or null for non activated/repeated actions
+     */
+    private SimulationNode2 prepareActionNode(SimulationNode2 node, SimulationBudget budget, Game game, SimulatedPlayer2 currentPlayer, Ability action, int depth) {
+        Game sim = game.createSimulationForAI();
+        if (action instanceof StaticAbility //for MorphAbility, etc
+                || !sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(game);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, budget, sim, action, depth, currentPlayer.getId());
+        sim.checkStateAndTriggered();
+        return newNode;
+    }
+
+    private int searchActionNode(SimulationNode2 newNode, Ability action, int depth, int alpha, int beta) {
+        Game sim = newNode.getGame();
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // no more next actions, it's a final score
+            return GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+        } else {
+            // resolve current action and calc all next actions to find best score (return max possible score)
+            return addActions(newNode, depth - 1, alpha, beta);
+        }
+    }
+
+    /**
+     * Root-parallel search: calc all root actions in simulation threads, each action with own nodes budget
+     * <p>
+     * Calc uses limited amount of pool's threads, all other actions simulated by the current thread. Each action
+     * simulates own game copy, shared cards are never changed by copies (see GameImpl.getCard), so it's thread safe.
+     *
+     * @return calculated nodes in actions order (null for skipped or unfinished actions), score in node
+     */
+    private List<SimulationNode2> searchRootActions(SimulationNode2 node, Game game, SimulatedPlayer2 currentPlayer, List<Ability> allActions, int depth, int alpha, int beta) {
+        // total budget split between actions, so all root actions can't calc more nodes than single calc
+        int nodesPerAction = node.getBudget().getMaxNodes() / allActions.size();
+        List<SimulationNode2> res = new ArrayList<>(allActions.size());
+        List<FutureTask<Integer>> tasks = new ArrayList<>(allActions.size());
+
+        // simulated games must be prepared in current thread (game copy is not thread safe for the source game)
+        int tasksInPool = 0;
+        for (Ability action : allActions) {
+            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+                    && Thread.currentThread().isInterrupted()) {
+                // timeout, no needs to start other actions
+                logger.debug("Sim Prio [" + depth + "] -- interrupted");
+                res.add(null);
+                tasks.add(null);
+                continue;
+            }
+            SimulationNode2 newNode = prepareActionNode(node, node.getBudget().createChild(nodesPerAction), game, currentPlayer, action, depth);
+            res.add(newNode);
+            if (newNode == null) {
+                tasks.add(null);
+                continue;
+            }
+            FutureTask<Integer> task = new FutureTask<>(() -> searchActionNode(newNode, action, depth, alpha, beta));
+            tasks.add(task);
+            if (tasksInPool < COMPUTER_MAX_THREADS_PER_SIMULATION_CALC) {
+                threadPoolSimulations.execute(task);
+                tasksInPool++;
+            }
+        }
+
+        try {
+            // run all other tasks in current thread, pool can be busy by other bots, so help with not started tasks
+            // too (protection from deadlocks), start from the end cause first tasks are in the pool
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                FutureTask<Integer> task = tasks.get(i);
+                if (task != null) {
+                    task.run();
+                }
+            }
+            for (FutureTask<Integer> task : tasks) {
+                if (task != null) {
+                    task.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            // timeout, use finished actions only
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AI simulation error: " + e.getCause(), e.getCause());
+        } finally {
+            for (FutureTask<Integer> task : tasks) {
+                if (task != null && !task.isDone()) {
+                    task.cancel(true);
+                }
+            }
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            FutureTask<Integer> task = tasks.get(i);
+            if (task == null) {
+                continue;
+            }
+            if (task.isCancelled()) {
+                res.set(i, null);
+                continue;
+            }
+            try {
+                res.get(i).setScore(task.get());
+            } catch (InterruptedException | ExecutionException e) {
+                res.set(i, null);
+            }
+        }
+        return res;
+    }
+
     protected String getAbilityAndSourceInfo(Game game, Ability ability, boolean showTargets) {
         // ability
         // TODO: add modal info
@@ -115,8 +115,7 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
             Date startTime = new Date();
             currentScore = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
-            root = new SimulationNode2(null, sim, maxDepth, playerId);
+            root = new SimulationNode2(null, createSimulationBudget(), sim, maxDepth, playerId);
             addActionsTimed(); // TODO: root can be null again after addActionsTimed O_o need to research (it's a CPU AI problem?)
             if (root != null && root.children != null && !root.children.isEmpty()) {
                 logger.trace("After add actions timed: root.children.size = " + root.children.size());
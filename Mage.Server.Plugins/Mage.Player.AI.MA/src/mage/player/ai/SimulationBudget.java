@@ -0,0 +1,85 @@
+package mage.player.ai;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI: nodes limit and stats for one simulation calc (full search tree or root action's sub-tree)
+ * <p>
+ * Each AI calc uses own budget, so bots from different games can't eat each other's nodes.
+ * Child budgets used for parallel root actions, all child nodes counted in parent too (for stats).
+ */
+public class SimulationBudget implements Serializable {
+
+    private final SimulationBudget parent;
+    private final int maxNodes;
+    private final int maxNodesForError;
+    private final AtomicInteger nodes = new AtomicInteger();
+    private final AtomicInteger minDepth = new AtomicInteger(Integer.MAX_VALUE);
+    private final long startTime = System.nanoTime();
+
+    public SimulationBudget(int maxNodes, int maxNodesForError) {
+        this(null, maxNodes, maxNodesForError);
+    }
+
+    private SimulationBudget(SimulationBudget parent, int maxNodes, int maxNodesForError) {
+        this.parent = parent;
+        this.maxNodes = maxNodes;
+        this.maxNodesForError = maxNodesForError;
+    }
+
+    /**
+     * Budget for sub-tree with same error's reserve
+     */
+    public SimulationBudget createChild(int maxNodes) {
+        return new SimulationBudget(this, maxNodes, maxNodes + (this.maxNodesForError - this.maxNodes));
+    }
+
+    public void onNodeCreated(int depth) {
+        nodes.incrementAndGet();
+        minDepth.accumulateAndGet(depth, Math::min);
+        if (parent != null) {
+            parent.onNodeCreated(depth);
+        }
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public int getNodes() {
+        return nodes.get();
+    }
+
+    /**
+     * Stop deeper simulations
+     */
+    public boolean isExhausted() {
+        return nodes.get() > maxNodes;
+    }
+
+    /**
+     * Too many nodes, possible AI error
+     */
+    public boolean isOverflowed() {
+        return nodes.get() > maxNodesForError;
+    }
+
+    /**
+     * @param startDepth depth of the root node (depth decreases on each next level)
+     * @return levels calculated from the root
+     */
+    public int getReachedDepth(int startDepth) {
+        int min = minDepth.get();
+        return min == Integer.MAX_VALUE ? 0 : startDepth - min;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startTime) / 1000000;
+    }
+
+    public long getNodesPerSecond() {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed <= 0 ? 0 : nodes.get() * 1000000000L / elapsed;
+    }
+}
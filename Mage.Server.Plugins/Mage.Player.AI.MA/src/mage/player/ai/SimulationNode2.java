@@ -15,10 +15,9 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
-
+    protected final SimulationBudget budget; // nodes limit of the current calc, shared with all children
     protected Game game;
-    protected int gameValue; // game state hash to monitor changes
+    protected long gameValue; // game state hash to monitor changes
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -29,13 +28,21 @@ public class SimulationNode2 implements Serializable {
     protected UUID playerId;
     protected Combat combat;
 
-    public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+    /**
+     * Root node or node with own budget (e.g. for parallel calc)
+     */
+    public SimulationNode2(SimulationNode2 parent, SimulationBudget budget, Game game, int depth, UUID playerId) {
         this.parent = parent;
+        this.budget = budget;
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        budget.onNodeCreated(depth);
+    }
+
+    public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this(parent, parent.budget, game, depth, playerId);
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -44,28 +51,28 @@ public class SimulationNode2 implements Serializable {
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, Ability ability, int depth, UUID playerId) {
-        this(parent, game, depth, playerId);
-        this.abilities = new ArrayList<>();
-        abilities.add(ability);
+        this(parent, parent.budget, game, ability, depth, playerId);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    public SimulationNode2(SimulationNode2 parent, SimulationBudget budget, Game game, Ability ability, int depth, UUID playerId) {
+        this(parent, budget, game, depth, playerId);
+        this.abilities = new ArrayList<>();
+        abilities.add(ability);
     }
 
-    public static int getCount() {
-        return nodeCount;
+    public SimulationBudget getBudget() {
+        return budget;
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
@@ -72,7 +72,10 @@ public class ComputerPlayer extends PlayerImpl {
     // debug only: set TRUE to debug simulation's code/games (on false sim thread will be stopped after few secs by timeout)
     protected boolean COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS = false;
 
-    final static int COMPUTER_MAX_THREADS_FOR_SIMULATIONS = 1; // TODO: rework simulations logic to use multiple calcs instead one by one
+    // shared by all bots, root actions of each AI calc can be simulated in parallel
+    final static int COMPUTER_MAX_THREADS_FOR_SIMULATIONS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    // one AI calc can use only part of the shared threads (other part for other bots), calc thread simulates other actions itself
+    final static int COMPUTER_MAX_THREADS_PER_SIMULATION_CALC = Math.max(1, COMPUTER_MAX_THREADS_FOR_SIMULATIONS / 2);
 
     private final transient Map<Mana, Card> unplayable = new TreeMap<>();
     private final transient List<Card> playableNonInstant = new ArrayList<>();
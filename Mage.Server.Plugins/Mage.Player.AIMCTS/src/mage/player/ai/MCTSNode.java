@@ -5,7 +5,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.PhaseStep;
@@ -39,8 +39,8 @@ public class MCTSNode {
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateHash;
+    private final long fullStateHash;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
@@ -50,38 +50,38 @@ public class MCTSNode {
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateHash = game.getState().getStateHash(game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
-//        logger.info(this.stateValue);
+//        logger.info(this.stateHash);
     }    
 
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateHash = game.getState().getStateHash(game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
         setPlayer();
         nodeCount++;
-//        logger.info(this.stateValue);
+//        logger.info(this.stateHash);
     }
 
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateHash = game.getState().getStateHash(game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
         nodeCount++;
-//        logger.info(this.stateValue);
+//        logger.info(this.stateHash);
     }
 
     private void setPlayer() {
@@ -126,7 +126,7 @@ public class MCTSNode {
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
         }
-        children.addAll(MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateValue));
+        children.addAll(MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateHash));
         game = null;
     }
 
@@ -222,8 +222,8 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
-        return stateValue;
+    public long getStateHash() {
+        return stateHash;
     }
 
     public double getWinRatio() {
@@ -300,13 +300,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateHash == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -316,7 +316,7 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        if (stateHash != merge.stateHash) {
             logger.info("mismatched merge states at root");
             return;
         }
@@ -334,7 +334,7 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateHash != child.stateHash) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -348,7 +348,7 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateHash != child.stateHash) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -393,9 +393,10 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
+    // turn -> state hash -> cached data, so old turns can be removed without state parsing
+    private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Long, List<Ability>>> playablesCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Long, List<List<UUID>>>> attacksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Long, List<List<List<UUID>>>>> blocksCache = new ConcurrentHashMap<>();
 
     private static long playablesHit = 0;
     private static long playablesMiss = 0;
@@ -404,78 +405,64 @@ public class MCTSNode {
     private static long blocksHit = 0;
     private static long blocksMiss = 0;
 
-    protected static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
+    protected static List<Ability> getPlayables(MCTSPlayer player, long state, Game game) {
+        Map<Long, List<Ability>> cache = playablesCache.computeIfAbsent(game.getTurnNum(), k -> new ConcurrentHashMap<>());
+        if (cache.containsKey(state)) {
             playablesHit++;
-            return playablesCache.get(state);
+            return cache.get(state);
         }
         else {
             playablesMiss++;
             List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
+            cache.put(state, abilities);
             return abilities;
         }
     }
 
-    protected static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
+    protected static List<List<UUID>> getAttacks(MCTSPlayer player, long state, Game game) {
+        Map<Long, List<List<UUID>>> cache = attacksCache.computeIfAbsent(game.getTurnNum(), k -> new ConcurrentHashMap<>());
+        if (cache.containsKey(state)) {
             attacksHit++;
-            return attacksCache.get(state);
+            return cache.get(state);
         }
         else {
             attacksMiss++;
             List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
+            cache.put(state, attacks);
             return attacks;
         }
     }
     
-    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
+    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, long state, Game game) {
+        Map<Long, List<List<List<UUID>>>> cache = blocksCache.computeIfAbsent(game.getTurnNum(), k -> new ConcurrentHashMap<>());
+        if (cache.containsKey(state)) {
             blocksHit++;
-            return blocksCache.get(state);
+            return cache.get(state);
         }
         else {
             blocksMiss++;
             List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
+            cache.put(state, blocks);
             return blocks;
         }
     }
     
     public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
+        return cleanupCache(playablesCache, turnNum)
+                + cleanupCache(attacksCache, turnNum)
+                + cleanupCache(blocksCache, turnNum);
+    }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
+    private static int cleanupCache(Map<Integer, ? extends Map<Long, ?>> cache, int turnNum) {
+        int count = 0;
+        Iterator<? extends Map.Entry<Integer, ? extends Map<Long, ?>>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, ? extends Map<Long, ?>> next = iterator.next();
+            if (next.getKey() < turnNum) {
+                count += next.getValue().size();
+                iterator.remove();
             }
         }
-
         return count;
     }
     
@@ -10,13 +10,13 @@ import static mage.player.ai.MCTSNode.getAttacks;
 
 public class SelectAttackersNextAction implements MCTSNodeNextAction{
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateHash) {
         List<MCTSNode> children = new ArrayList<>();
         List<List<UUID>> attacks;
         if (!MCTSNode.USE_ACTION_CACHE)
             attacks = player.getAttacks(game);
         else
-            attacks = getAttacks(player, fullStateValue, game);
+            attacks = getAttacks(player, fullStateHash, game);
         UUID defenderId = game.getOpponents(player.getId()).iterator().next();
         for (List<UUID> attack: attacks) {
             Game sim = game.createSimulationForAI();
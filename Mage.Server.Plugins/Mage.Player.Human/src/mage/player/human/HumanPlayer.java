@@ -317,14 +317,19 @@ public class HumanPlayer extends PlayerImpl {
             responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
+            GameThreadLimiter.beforeWaitingForPlayer(); // sleeping game must not hold server's game slot
+            try {
+                synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
+                    try {
+                        response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
+                    } catch (InterruptedException ignore) {
+                    } finally {
+                        responseOpenedForAnswer = false;
+                        game.pauseTimer(getTurnControlledBy());
+                    }
                 }
+            } finally {
+                GameThreadLimiter.afterWaitingForPlayer();
             }
 
             // async command: concede by any player
@@ -21,6 +21,8 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
 import mage.remote.MageVersionException;
+import mage.remote.traffic.ZippedObjectCodec;
+import mage.remote.traffic.ZippedObjectCodecs;
 import mage.server.draft.CubeFactory;
 import mage.server.game.GameFactory;
 import mage.server.game.GamesRoom;
@@ -175,6 +177,22 @@ public class MageServerImpl implements MageServer {
         });
     }
 
+    @Override
+    public boolean connectSetCompressionCodec(final String sessionId, final String codecName) throws MageException {
+        return executeWithResult("setCompressionCodec", sessionId, new ActionWithBooleanResult() {
+            @Override
+            public Boolean execute() throws MageException {
+                ZippedObjectCodec codec = ZippedObjectCodecs.get(codecName);
+                Optional<Session> session = managerFactory.sessionManager().getSession(sessionId);
+                if (codec == null || !session.isPresent()) {
+                    return false;
+                }
+                session.get().setCompressionCodec(codec);
+                return true;
+            }
+        });
+    }
+
     @Override
     public boolean connectAdmin(String adminPassword, String sessionId, MageVersion version) throws MageException {
         try {
@@ -401,6 +419,26 @@ public class MageServerImpl implements MageServer {
         return new ArrayList<>();
     }
 
+    @Override
+    public void roomSubscribeLobby(final String sessionId, final UUID roomId, final long lobbyVersion) throws MageException {
+        execute("subscribeLobby", sessionId, () -> {
+            managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> {
+                UUID userId = session.getUserId();
+                managerFactory.gamesRoomManager().getRoom(roomId).ifPresent(room -> room.subscribeLobby(userId, lobbyVersion));
+            });
+        });
+    }
+
+    @Override
+    public void roomUnsubscribeLobby(final String sessionId, final UUID roomId) throws MageException {
+        execute("unsubscribeLobby", sessionId, () -> {
+            managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> {
+                UUID userId = session.getUserId();
+                managerFactory.gamesRoomManager().getRoom(roomId).ifPresent(room -> room.unsubscribeLobby(userId));
+            });
+        });
+    }
+
     @Override
     public List<RoomUsersView> roomGetUsers(UUID roomId) throws MageException {
         try {
@@ -980,7 +1018,8 @@ public class MageServerImpl implements MageServer {
                     testMode,
                     Main.getVersion(),
                     CardRepository.instance.getContentVersionConstant(),
-                    ExpansionRepository.instance.getContentVersionConstant()
+                    ExpansionRepository.instance.getContentVersionConstant(),
+                    ZippedObjectCodecs.getNames()
             );
         } catch (Exception ex) {
             handleException(ex);
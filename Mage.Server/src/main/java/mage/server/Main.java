@@ -10,8 +10,12 @@ import mage.game.tournament.TournamentType;
 import mage.interfaces.MageServer;
 import mage.remote.Connection;
 import mage.remote.SessionImpl;
+import mage.remote.nio.NioConnection;
+import mage.remote.nio.NioMessage;
+import mage.remote.nio.NioServer;
 import mage.server.draft.CubeFactory;
 import mage.server.game.GameFactory;
+import mage.server.game.GameRecorder;
 import mage.server.game.PlayerFactory;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
@@ -27,6 +31,8 @@ import mage.utils.MageVersion;
 import mage.utils.SystemUtil;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
+import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
+import org.jboss.remoting.callback.Callback;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
 import org.jboss.remoting.callback.ServerInvokerCallbackHandler;
 import org.jboss.remoting.transport.Connector;
@@ -80,6 +86,7 @@ public final class Main {
 
     public static final PluginClassLoader classLoader = new PluginClassLoader();
     private static TransporterServer server;
+    private static NioServer nioServer;
 
     // Special test mode:
     // - fast game buttons;
@@ -259,6 +266,8 @@ public final class Main {
         logger.info("Config - sock wrt timeout: " + config.getSocketWriteTimeout());
         logger.info("Config - max pool size   : " + config.getMaxPoolSize());
         logger.info("Config - num accp.threads: " + config.getNumAcceptThreads());
+        logger.info("Config - nio port        : " + (config.getNioPort() > 0 ? config.getNioPort() : "disabled"));
+        logger.info("Config - nio I/O threads : " + config.getNioIoThreads());
         logger.info("Config - second.bind port: " + config.getSecondaryBindPort());
         logger.info("Config - users registr.:   " + (config.isAuthenticationActivated() ? "true" : "false"));
         logger.info("Config - users anon:       " + (!config.isAuthenticationActivated() ? "true" : "false"));
@@ -288,16 +297,31 @@ public final class Main {
             // Parameter: serializationtype => jboss
             InvokerLocator serverLocator = new InvokerLocator(connection.getURI());
             if (!isAlreadyRunning(config, serverLocator)) {
+                MageServerImpl serverImpl = new MageServerImpl(managerFactory, adminPassword, testMode, detailsMode);
                 server = new MageTransporterServer(
                         managerFactory,
                         serverLocator,
-                        new MageServerImpl(managerFactory, adminPassword, testMode, detailsMode),
+                        serverImpl,
                         MageServer.class.getName(),
                         new MageServerInvocationHandler(managerFactory)
                 );
                 server.start();
                 logger.info("Started MAGE server - listening on " + connection.toString());
 
+                // additional transport, both can be used at the same time
+                if (config.getNioPort() > 0) {
+                    nioServer = new NioServer(
+                            MageServer.class,
+                            serverImpl,
+                            new MageNioSessionListener(managerFactory),
+                            classLoader,
+                            config.getNioIoThreads(),
+                            config.getMaxPoolSize()
+                    );
+                    nioServer.start(config.getServerAddress(), config.getNioPort(), config.getBacklogSize());
+                    logger.info("Started MAGE nio server - listening on " + config.getServerAddress() + ":" + config.getNioPort());
+                }
+
                 if (testMode) {
                     logger.info("MAGE server running in test mode");
                 }
@@ -459,7 +483,8 @@ public final class Main {
             ServerInvokerCallbackHandler handler = (ServerInvokerCallbackHandler) callbackHandler;
             try {
                 String sessionId = handler.getClientSessionId();
-                managerFactory.sessionManager().createSession(sessionId, callbackHandler);
+                managerFactory.sessionManager().createSession(sessionId, (call, async)
+                        -> ((AsynchInvokerCallbackHandler) callbackHandler).handleCallbackOneway(new Callback(call), async));
             } catch (Throwable ex) {
                 logger.fatal("", ex);
             }
@@ -504,6 +529,40 @@ public final class Main {
         }
     }
 
+    /**
+     * Network, server side: sessions of nio transport (same logic as in jboss handler and connection listener)
+     */
+    static class MageNioSessionListener implements NioServer.SessionListener {
+
+        private final ManagerFactory managerFactory;
+
+        public MageNioSessionListener(ManagerFactory managerFactory) {
+            this.managerFactory = managerFactory;
+        }
+
+        @Override
+        public void onConnect(String sessionId, String host, NioConnection connection) {
+            // no sync mode here: callbacks go to the client in send order anyway
+            managerFactory.sessionManager().createSession(sessionId, (call, async) -> connection.send(NioMessage.callback(call)));
+            managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> session.setHost(host));
+        }
+
+        @Override
+        public void onDisconnect(String sessionId, boolean byUser, boolean keepSession) {
+            if (byUser && keepSession) {
+                // no need in additional code, server will keep original session until inactive timeout
+                return;
+            }
+            if (byUser) {
+                logger.info("CLIENT DISCONNECTED (nio) - session " + sessionId);
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.DisconnectedByUser, true);
+            } else {
+                logger.info("LOST CONNECTION (nio) - session " + sessionId);
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
+            }
+        }
+    }
+
     private static Class<?> loadPlugin(Plugin plugin) {
         try {
             classLoader.addURL(new File(pluginFolder, plugin.getJar()).toURI().toURL());
@@ -548,7 +607,7 @@ public final class Main {
             directory.mkdirs();
         }
         File[] files = directory.listFiles(
-                (dir, name) -> name.endsWith(".game")
+                (dir, name) -> name.endsWith(".game") || name.endsWith(GameRecorder.RECORD_FILE_EXT)
         );
         if (files != null) {
             for (File file : files) {
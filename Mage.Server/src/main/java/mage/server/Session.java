@@ -6,6 +6,8 @@ import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
+import mage.remote.traffic.ZippedObjectCodec;
+import mage.remote.traffic.ZippedObjectCodecs;
 import mage.server.game.GamesRoom;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
@@ -13,13 +15,10 @@ import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.utils.SystemUtil;
 import org.apache.log4j.Logger;
-import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
-import org.jboss.remoting.callback.Callback;
 import org.jboss.remoting.callback.HandleCallbackException;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
+import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -68,20 +67,28 @@ public class Session {
     private final AtomicInteger messageId = new AtomicInteger(0);
     private final Date timeConnected;
     private boolean isAdmin = false;
-    private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private final CallbackSender callbackSender;
+    private volatile boolean valid = true;
+    private volatile ZippedObjectCodec compressionCodec = ZippedObjectCodecs.getDefault(); // negotiates on connect
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
+    private final SessionCallbackQueue callbacksQueue = new SessionCallbackQueue(); // game threads must not wait for network
 
-    public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
+    /**
+     * Network transport for callbacks (jboss remoting or nio)
+     */
+    public interface CallbackSender {
+
+        void send(ClientCallback call, boolean async) throws HandleCallbackException, IOException;
+    }
+
+    public Session(ManagerFactory managerFactory, String sessionId, CallbackSender callbackSender) {
         this.managerFactory = managerFactory;
         this.sessionId = sessionId;
-        this.callbackHandler = (AsynchInvokerCallbackHandler) callbackHandler;
+        this.callbackSender = callbackSender;
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
     }
 
     public String registerUser(String userName, String password, String email) {
@@ -425,53 +432,93 @@ public class Session {
     }
 
     /**
-     * Send event/command to the client
+     * Send event/command to the client (async, callbacks are sent in the same order by session's writer)
+     * <p>
+     * Same callback can be sent to many sessions (example: chat message), so session's writer uses own copy of it
      */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
-        try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
+        if (!valid) {
+            return;
+        }
+        switch (callbacksQueue.add(new ClientCallback(call))) {
+            case START_WRITER:
+                managerFactory.threadExecutor().getCallbackExecutor().execute(this::sendQueuedCallbacks);
+                break;
+            case OVERFLOW:
+                logger.warn("SESSION CALLBACKS OVERFLOW, client is too slow - userId: " + userId + ", " + callbacksQueue.getStatsInfo());
+                // do not send data anymore (user must reconnect)
+                this.valid = false;
+                callbacksQueue.clear();
+                managerFactory.threadExecutor().getCallbackExecutor().execute(
+                        () -> managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true)
+                );
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void sendQueuedCallbacks() {
+        SessionCallbackQueue.Entry entry;
+        while ((entry = callbacksQueue.poll()) != null) {
+            if (!valid) {
+                callbacksQueue.clear();
+                continue;
+            }
+            ClientCallback call = entry.getCall();
+            try {
+                // compress here, so coalesced game updates don't waste CPU
+                call.compressData(compressionCodec);
                 call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
                 boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
                         && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
-            }
-        } catch (InterruptedException ex) {
-            // already sending another command (connection problem?)
-            if (call.getMethod().equals(ClientCallbackMethod.GAME_INIT)
-                    || call.getMethod().equals(ClientCallbackMethod.START_GAME)) {
-                // it's ok use case, user has connection problem so can't send game init (see sendInfoAboutPlayersNotJoinedYetAndTryToFixIt)
-            } else {
-                logger.warn("SESSION LOCK, possible connection problem - fireCallback - userId: " + userId + " messageId: " + call.getMessageId(), ex);
-            }
-        } catch (HandleCallbackException ex) {
-            // general error
-            // can raise on server freeze or normal connection problem from a client side
-            // no need to print a full stack log here
-            logger.warn("SESSION CALLBACK EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId());
-
-            // do not send data anymore (user must reconnect)
-            this.valid = false;
-            managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
-        } catch (Throwable ex) {
-            logger.error("SESSION CALLBACK UNKNOWN EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId(), ex);
-
-            // do not send data anymore (user must reconnect)
-            this.valid = false;
-            managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
+                callbackSender.send(call, sendAsync);
+                callbacksQueue.registerSent(entry);
+            } catch (HandleCallbackException | IOException ex) {
+                // general error
+                // can raise on server freeze or normal connection problem from a client side
+                // no need to print a full stack log here
+                logger.warn("SESSION CALLBACK EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId());
+
+                // do not send data anymore (user must reconnect)
+                this.valid = false;
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
+            } catch (Throwable ex) {
+                logger.error("SESSION CALLBACK UNKNOWN EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId(), ex);
+
+                // do not send data anymore (user must reconnect)
+                this.valid = false;
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
             }
         }
     }
 
+    /**
+     * Client didn't get the last game update yet (example: slow connection)
+     */
+    public boolean hasQueuedGameUpdate(UUID gameId) {
+        return callbacksQueue.hasGameUpdate(gameId);
+    }
+
+    /**
+     * Outbound callbacks stats like queue size, coalesced game updates and send latency
+     */
+    public String getCallbacksInfo() {
+        return callbacksQueue.getStatsInfo();
+    }
+
     public UUID getUserId() {
         return userId;
     }
 
+    public ZippedObjectCodec getCompressionCodec() {
+        return compressionCodec;
+    }
+
+    public void setCompressionCodec(ZippedObjectCodec compressionCodec) {
+        this.compressionCodec = compressionCodec;
+    }
+
     public boolean isAdmin() {
         return isAdmin;
     }
@@ -0,0 +1,165 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.view.GameView;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Network: outbound callbacks of the session, sends by single writer task in income order
+ * <p>
+ * Game updates with a full game view replace not sent updates of the same game (latest view wins),
+ * all other callbacks like dialogs and messages are sent as is. Diffs can't be replaced cause each
+ * diff depends on the previous game view of the client (see GameViewDiffTracker), so on not sent diffs
+ * the game session sends a full game view instead next diff (see hasGameUpdate).
+ */
+public class SessionCallbackQueue {
+
+    // slow or frozen client protection, game updates are coalesced, so normal client never gets it
+    public static final int MAX_QUEUE_SIZE = 1000;
+
+    public enum AddResult {
+        QUEUED, // writer is active
+        START_WRITER, // caller must start new writer task
+        OVERFLOW // queue is full, client is too slow
+    }
+
+    public static class Entry {
+
+        private final ClientCallback call;
+        private final long queuedNanos;
+
+        Entry(ClientCallback call) {
+            this.call = call;
+            this.queuedNanos = System.nanoTime();
+        }
+
+        public ClientCallback getCall() {
+            return call;
+        }
+    }
+
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private boolean writerActive = false;
+
+    // stats
+    private int maxQueueSize = 0;
+    private long coalescedCount = 0;
+    private long sentCount = 0;
+    private long sentNanosTotal = 0;
+    private long sentNanosMax = 0;
+
+    public synchronized AddResult add(ClientCallback call) {
+        if (isFullGameUpdate(call)) {
+            Iterator<Entry> it = queue.iterator();
+            while (it.hasNext()) {
+                if (isSupersededBy(it.next().call, call)) {
+                    it.remove();
+                    coalescedCount++;
+                }
+            }
+        }
+
+        if (queue.size() >= MAX_QUEUE_SIZE) {
+            return AddResult.OVERFLOW;
+        }
+        queue.add(new Entry(call));
+        maxQueueSize = Math.max(maxQueueSize, queue.size());
+
+        if (writerActive) {
+            return AddResult.QUEUED;
+        }
+        writerActive = true;
+        return AddResult.START_WRITER;
+    }
+
+    /**
+     * Writer only: next callback to send, null if writer must stop
+     */
+    public synchronized Entry poll() {
+        Entry entry = queue.poll();
+        if (entry == null) {
+            writerActive = false;
+        }
+        return entry;
+    }
+
+    /**
+     * Writer only: callback was sent to the client
+     */
+    public synchronized void registerSent(Entry entry) {
+        long nanos = System.nanoTime() - entry.queuedNanos;
+        sentCount++;
+        sentNanosTotal += nanos;
+        sentNanosMax = Math.max(sentNanosMax, nanos);
+    }
+
+    /**
+     * Remove all not sent callbacks (e.g. on connection error)
+     */
+    public synchronized void clear() {
+        queue.clear();
+    }
+
+    /**
+     * Has not sent game update (full or diff) of the game
+     */
+    public synchronized boolean hasGameUpdate(UUID objectId) {
+        for (Entry entry : queue) {
+            if (entry.call.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                    && Objects.equals(entry.call.getObjectId(), objectId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public synchronized String getStatsInfo() {
+        return String.format("queue %d (max %d), coalesced %d, send avg %d ms, max %d ms",
+                queue.size(),
+                maxQueueSize,
+                coalescedCount,
+                sentCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(sentNanosTotal / sentCount),
+                TimeUnit.NANOSECONDS.toMillis(sentNanosMax)
+        );
+    }
+
+    private static boolean isFullGameUpdate(ClientCallback call) {
+        switch (call.getMethod()) {
+            case GAME_UPDATE:
+                // diffs mode can send GameViewDiff instead
+                return call.getData() instanceof GameView;
+            case GAME_UPDATE_AND_INFORM:
+                // always contains full game view
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isSupersededBy(ClientCallback oldCall, ClientCallback newCall) {
+        if (!Objects.equals(oldCall.getObjectId(), newCall.getObjectId())) {
+            return false;
+        }
+        if (oldCall.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+            return true;
+        }
+        // inform message can be replaced by newer inform only, so client's feedback panel shows actual status
+        return oldCall.getMethod() == ClientCallbackMethod.GAME_UPDATE_AND_INFORM
+                && newCall.getMethod() == ClientCallbackMethod.GAME_UPDATE_AND_INFORM;
+    }
+}
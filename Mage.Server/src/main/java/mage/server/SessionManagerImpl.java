@@ -6,7 +6,6 @@ import mage.server.managers.ManagerFactory;
 import mage.server.managers.SessionManager;
 import mage.util.ThreadUtils;
 import org.apache.log4j.Logger;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import javax.annotation.Nonnull;
 import java.util.Optional;
@@ -34,8 +33,8 @@ public class SessionManagerImpl implements SessionManager {
     }
 
     @Override
-    public void createSession(String sessionId, InvokerCallbackHandler callbackHandler) {
-        Session session = new Session(managerFactory, sessionId, callbackHandler);
+    public void createSession(String sessionId, Session.CallbackSender callbackSender) {
+        Session session = new Session(managerFactory, sessionId, callbackSender);
         sessions.put(sessionId, session);
     }
 
@@ -263,6 +263,15 @@ public class User {
         }
     }
 
+    /**
+     * Client didn't get the last game update yet, see Session.hasQueuedGameUpdate
+     */
+    public boolean hasQueuedGameUpdate(UUID gameId) {
+        return managerFactory.sessionManager().getSession(sessionId)
+                .map(session -> session.hasQueuedGameUpdate(gameId))
+                .orElse(false);
+    }
+
     public void ccJoinedTable(final UUID roomId, final UUID currentTableId, final UUID parentTableId, boolean isTournament) {
         fireCallback(new ClientCallback(
                 ClientCallbackMethod.JOINED_TABLE,
@@ -681,6 +690,15 @@ public class User {
         }
     }
 
+    /**
+     * Network stats of the server's callbacks to the user
+     */
+    public String getCallbacksInfo() {
+        return managerFactory.sessionManager().getSession(sessionId)
+                .map(Session::getCallbacksInfo)
+                .orElse("no session");
+    }
+
     public void resetUserStats() {
         if (userData == null) {
             return;
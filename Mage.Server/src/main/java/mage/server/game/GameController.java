@@ -26,7 +26,6 @@ import mage.server.managers.ManagerFactory;
 import mage.util.MultiAmountMessage;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
-import mage.utils.StreamUtils;
 import mage.utils.timer.PriorityTimer;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
@@ -41,7 +40,6 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -66,6 +64,7 @@ public class GameController implements GameCallback {
 
     private final ConcurrentMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
+    private final GameViewCache watchersGameViewCache;
 
     private final ConcurrentMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
 
@@ -78,6 +77,7 @@ public class GameController implements GameCallback {
     private Future<?> gameFuture;
     private boolean useResponseIdleTimeout = true; // control currently active player (if no response for 600 seconds then concede him)
     private final GameOptions gameOptions;
+    private final GameRecorder recorder; // null on disabled game saves
 
     private UUID userRequestingRollback;
     private int turnsToRollback;
@@ -92,7 +92,14 @@ public class GameController implements GameCallback {
         chatId = managerFactory.chatManager().createChatSession("Game " + game.getId());
         this.userRequestingRollback = null;
         this.game = game;
-        this.game.setSaveGame(managerFactory.configSettings().isSaveGameActivated());
+        this.watchersGameViewCache = new GameViewCache(game);
+        if (managerFactory.configSettings().isSaveGameActivated() && !game.isSimulation()) {
+            // compact record instead full game states, see GameRecorder
+            this.recorder = new GameRecorder(GameRecorder.getRecordFile(game.getId()), managerFactory.threadExecutor().getCallExecutor());
+            this.recorder.start(game);
+        } else {
+            this.recorder = null;
+        }
         this.tableId = tableId;
         this.choosingPlayerId = choosingPlayerId;
         this.gameOptions = gameOptions;
@@ -109,6 +116,10 @@ public class GameController implements GameCallback {
         getGameSessions().forEach(GameSessionPlayer::cleanUp);
         getGameSessionWatchers().forEach(GameSessionWatcher::cleanUp);
 
+        if (recorder != null) {
+            recorder.close();
+        }
+
         managerFactory.chatManager().destroyChatSession(chatId);
     }
 
@@ -116,10 +127,14 @@ public class GameController implements GameCallback {
         game.addTableEventListener(
                 (Listener<TableEvent>) event -> {
                     try {
+                        watchersGameViewCache.invalidate();
                         PriorityTimer timer;
                         UUID playerId;
                         switch (event.getEventType()) {
                             case UPDATE:
+                                if (recorder != null) {
+                                    recorder.onUpdate(game);
+                                }
                                 updateGame();
                                 break;
                             case INFO:
@@ -341,7 +356,7 @@ public class GameController implements GameCallback {
             }
 
             // real game start
-            GameWorker worker = new GameWorker(game, choosingPlayerId, this);
+            GameWorker worker = new GameWorker(game, choosingPlayerId, this, managerFactory.threadExecutor().getGameThreadLimiter());
             gameFuture = gameExecutor.submit(worker);
             try {
                 Thread.sleep(1000);
@@ -468,7 +483,7 @@ public class GameController implements GameCallback {
             return false;
         }
         managerFactory.userManager().getUser(userId).ifPresent(user -> {
-            GameSessionWatcher gameWatcher = new GameSessionWatcher(managerFactory.userManager(), userId, game, false);
+            GameSessionWatcher gameWatcher = new GameSessionWatcher(managerFactory.userManager(), userId, game, false, managerFactory.configSettings().isGameViewDiffActivated(), watchersGameViewCache);
             final Lock w = gameWatchersLock.writeLock();
             w.lock();
             try {
@@ -522,6 +537,7 @@ public class GameController implements GameCallback {
         // * game change commands must be executed by game thread (example: undo)
         // * user change commands can be executed by network thread??? (example: change skip settings)
         //SystemUtil.ensureRunInGameThread();
+        watchersGameViewCache.invalidate(); // player's data can be changed (example: permission to see hand cards)
         switch (playerAction) {
             case UNDO:
                 game.undo(getPlayerId(userId));
@@ -653,6 +669,15 @@ public class GameController implements GameCallback {
                     viewDeckOrSideboard(getPlayerId(userId), userId, targetPlayerId, true);
                 }
                 break;
+            case CLIENT_REQUEST_FULL_GAME_VIEW: {
+                // client can't apply game view diff (lost or outdated data)
+                UUID playerId = getPlayerId(userId);
+                GameSessionWatcher gameSession = playerId == null ? watchers.get(userId) : gameSessions.get(playerId);
+                if (gameSession != null) {
+                    gameSession.requestFullGameView();
+                }
+                break;
+            }
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
@@ -819,6 +844,7 @@ public class GameController implements GameCallback {
 
     private synchronized void updateGame() {
         updatePriorityTimers();
+        watchersGameViewCache.invalidate();
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
@@ -981,25 +1007,7 @@ public class GameController implements GameCallback {
     }
 
     public boolean saveGame() {
-        OutputStream file = null;
-        ObjectOutput output = null;
-        OutputStream buffer = null;
-        try {
-            file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
-            buffer = new BufferedOutputStream(file);
-            output = new ObjectOutputStream(new GZIPOutputStream(buffer));
-            output.writeObject(game);
-            output.writeObject(game.getGameStates());
-            logger.debug("Saved game:" + game.getId());
-            return true;
-        } catch (IOException ex) {
-            logger.fatal("Cannot save game.", ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(output);
-            StreamUtils.closeQuietly(buffer);
-        }
-        return false;
+        return recorder != null && recorder.finish(game);
     }
 
     /**
@@ -1279,7 +1287,7 @@ public class GameController implements GameCallback {
         List<String> usersInfo = new ArrayList<>();
         for (Map.Entry<UUID, UUID> entry : userPlayerMap.entrySet()) {
             Optional<User> user = managerFactory.userManager().getUser(entry.getKey());
-            user.ifPresent(u -> usersInfo.add("* " + u.getName() + ": " + u.getPingInfo()));
+            user.ifPresent(u -> usersInfo.add("* " + u.getName() + ": " + u.getPingInfo() + ", callbacks: " + u.getCallbacksInfo()));
         }
         Collections.sort(usersInfo);
         usersInfo.add(0, "Players ping:");
@@ -1287,7 +1295,7 @@ public class GameController implements GameCallback {
         List<String> watchersinfo = new ArrayList<>();
         for (Map.Entry<UUID, GameSessionWatcher> entry : watchers.entrySet()) {
             Optional<User> user = managerFactory.userManager().getUser(entry.getValue().userId);
-            user.ifPresent(u -> watchersinfo.add("* " + u.getName() + ": " + u.getPingInfo()));
+            user.ifPresent(u -> watchersinfo.add("* " + u.getName() + ": " + u.getPingInfo() + ", callbacks: " + u.getCallbacksInfo()));
         }
         Collections.sort(watchersinfo);
         if (watchersinfo.size() > 0) {
@@ -0,0 +1,221 @@
+package mage.server.game;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.players.Player;
+import mage.utils.StreamUtils;
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Replay system: compact game record for replays
+ * <p>
+ * Instead full game state copy on each bookmark it writes to the append-only binary file:
+ * - header with players and decks (cards order as in libraries before shuffle);
+ * - checkpoints with full game state on each new step, used for replay states and seeking;
+ * - final game object.
+ * <p>
+ * Records written on the fly, so memory usage doesn't depend on game length. Game thread makes state copy only,
+ * serialization and writes are done by writer threads (in records order).
+ * <p>
+ * Players answers are not recorded: game engine uses shared random and random object ids, so exact
+ * re-simulation between checkpoints isn't supported and answers can't be used by replays.
+ */
+public class GameRecorder {
+
+    private static final Logger logger = Logger.getLogger(GameRecorder.class);
+
+    static final int FORMAT_MAGIC = 0x584D4752; // XMGR
+    static final int FORMAT_VERSION = 2;
+    public static final String RECORD_FILE_EXT = ".gamerec";
+
+    static final byte RECORD_CHECKPOINT = 10;
+    static final byte RECORD_GAME = 11;
+
+    private final Path file;
+    private final Executor writer;
+    private final long startTime = System.currentTimeMillis();
+    private DataOutputStream output = null; // writer only (after start)
+    private CompletableFuture<Boolean> writes = CompletableFuture.completedFuture(true); // last write, false on error
+
+    private int lastCheckpointTurn = -1;
+    private PhaseStep lastCheckpointStep = null;
+
+    /**
+     * @param writer threads for serialization and file writes (example: call executor)
+     */
+    public GameRecorder(Path file, Executor writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    public static Path getRecordFile(UUID gameId) {
+        return Paths.get("saved", gameId.toString() + RECORD_FILE_EXT);
+    }
+
+    /**
+     * Create record file and write game header, must be called after players and decks loaded
+     */
+    public synchronized void start(Game game) {
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            output.writeInt(FORMAT_MAGIC);
+            output.writeShort(FORMAT_VERSION);
+            writeUUID(output, game.getId());
+            output.writeLong(startTime);
+            output.writeUTF(game.getGameType().getName());
+            output.writeByte(game.getPlayers().size());
+            for (Player player : game.getPlayers().values()) {
+                writeUUID(output, player.getId());
+                output.writeUTF(player.getName());
+                writeCards(output, player.getLibrary().getCards(game));
+                writeCards(output, player.getSideboard().getCards(game));
+            }
+            output.flush();
+        } catch (IOException e) {
+            stopOnError(e);
+        }
+    }
+
+    /**
+     * Game update: save checkpoint on new step (must be called from game thread)
+     */
+    public synchronized void onUpdate(Game game) {
+        if (game.getTurnNum() != lastCheckpointTurn
+                || game.getTurnStepType() != lastCheckpointStep) {
+            checkpoint(game);
+        }
+    }
+
+    /**
+     * Save current game state, must be called from game thread (state will be written by writer later)
+     */
+    public synchronized void checkpoint(Game game) {
+        lastCheckpointTurn = game.getTurnNum();
+        lastCheckpointStep = game.getTurnStepType();
+        GameState state = game.getState().copy();
+        int turnNum = lastCheckpointTurn;
+        addWrite(out -> {
+            byte[] data = toBytes(state);
+            out.writeByte(RECORD_CHECKPOINT);
+            out.writeInt(turnNum);
+            writeBytes(out, data);
+            out.flush();
+        });
+    }
+
+    /**
+     * Write final game data, close the record and wait for all writes
+     *
+     * @return true on full record
+     */
+    public boolean finish(Game game) {
+        CompletableFuture<Boolean> res;
+        synchronized (this) {
+            checkpoint(game);
+            byte[] data;
+            try {
+                // game is over, but it must be serialized here anyway (no copy for the whole game)
+                data = toBytes(game);
+            } catch (IOException e) {
+                logger.error("Can't write game record " + file + ": " + e.getMessage(), e);
+                close();
+                return false;
+            }
+            addWrite(out -> {
+                out.writeByte(RECORD_GAME);
+                writeBytes(out, data);
+                out.flush();
+                logger.debug("Saved game record: " + game.getId());
+            });
+            close();
+            res = writes;
+        }
+        return res.join();
+    }
+
+    /**
+     * Close the record after all pending writes
+     */
+    public synchronized void close() {
+        writes = writes.thenApplyAsync(ok -> {
+            StreamUtils.closeQuietly(output);
+            output = null;
+            return ok;
+        }, writer);
+    }
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private void addWrite(RecordWriter recordWriter) {
+        writes = writes.thenApplyAsync(ok -> {
+            if (output == null) {
+                return false;
+            }
+            try {
+                recordWriter.write(output);
+                return ok;
+            } catch (IOException | RuntimeException e) {
+                stopOnError(e);
+                return false;
+            }
+        }, writer);
+    }
+
+    private void stopOnError(Exception e) {
+        logger.error("Can't write game record " + file + ": " + e.getMessage(), e);
+        StreamUtils.closeQuietly(output);
+        output = null;
+    }
+
+    private static void writeCards(DataOutput out, Collection<Card> cards) throws IOException {
+        out.writeShort(cards.size());
+        for (Card card : cards) {
+            out.writeUTF(card.getExpansionSetCode());
+            out.writeUTF(card.getCardNumber());
+        }
+    }
+
+    static void skipCards(DataInput in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUTF();
+            in.readUTF();
+        }
+    }
+
+    private static byte[] toBytes(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+            objectOutput.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeBytes(DataOutput out, byte[] data) throws IOException {
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    static void writeUUID(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readUUID(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -2,22 +2,24 @@ package mage.server.game;
 
 import mage.game.Game;
 import mage.game.GameState;
-import mage.game.GameStates;
 import mage.server.Main;
 import mage.util.CopierObjectInputStream;
 import org.apache.log4j.Logger;
 
-import java.io.BufferedInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInput;
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.zip.GZIPInputStream;
 
 /**
- * Replay system, outdated and not used. TODO: delete
+ * Replay system: game states from the game record, see GameRecorder
+ * <p>
+ * Keeps only checkpoints positions in memory, states loaded from the file on demand
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -25,13 +27,18 @@ public class GameReplay {
 
     private static final Logger logger = Logger.getLogger(GameReplay.class);
 
-    private final GameStates savedGame;
-    private final Game game;
+    private final Path file;
+    private final List<Long> checkpoints = new ArrayList<>(); // file positions of the states data
+    private Game game;
     private int stateIndex;
 
     public GameReplay(UUID gameId) {
-        this.game = loadGame(gameId);
-        this.savedGame = game.getGameStates();
+        this(GameRecorder.getRecordFile(gameId));
+    }
+
+    public GameReplay(Path file) {
+        this.file = file;
+        loadRecord();
     }
 
     public void start() {
@@ -39,37 +46,158 @@ public class GameReplay {
     }
 
     public GameState next() {
-        if (this.stateIndex < savedGame.getSize()) {
-            return savedGame.get(stateIndex++);
+        if (this.stateIndex < checkpoints.size()) {
+            return loadState(stateIndex++);
         }
         return null;
     }
 
     public GameState previous() {
         if (this.stateIndex > 0) {
-            return savedGame.get(--stateIndex);
+            return loadState(--stateIndex);
         }
         return null;
     }
 
+    /**
+     * Seek forward without states loading
+     */
+    public void skip(int moves) {
+        this.stateIndex = Math.max(0, Math.min(this.stateIndex + moves, checkpoints.size()));
+    }
+
     public Game getGame() {
         return this.game;
     }
 
-    private Game loadGame(UUID gameId) {
-        try (InputStream file = Files.newInputStream(Paths.get("saved/" + gameId.toString() + ".game"));
-             InputStream buffer = new BufferedInputStream(file);
-             InputStream gzip = new GZIPInputStream(buffer);
-             ObjectInput input = new CopierObjectInputStream(Main.classLoader, gzip)) {
-            Game loadGame = (Game) input.readObject();
-            GameStates states = (GameStates) input.readObject();
-            loadGame.loadGameStates(states);
-            return loadGame;
-        } catch (ClassNotFoundException e) {
-            logger.fatal("Cannot load game. Class not found.", e);
+    public int getStatesCount() {
+        return checkpoints.size();
+    }
+
+    private void loadRecord() {
+        long fileSize;
+        try {
+            fileSize = Files.size(file);
         } catch (IOException e) {
-            logger.fatal("Cannot load game:" + gameId, e);
+            logger.fatal("Cannot load game record " + file + ": " + e.getMessage(), e);
+            return;
+        }
+        try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(new FileInputStream(file.toFile())));
+             DataInputStream input = new DataInputStream(counter)) {
+            if (input.readInt() != GameRecorder.FORMAT_MAGIC) {
+                throw new IOException("unknown file format");
+            }
+            int version = input.readUnsignedShort();
+            if (version != GameRecorder.FORMAT_VERSION) {
+                throw new IOException("unsupported record version " + version);
+            }
+
+            // header
+            GameRecorder.readUUID(input); // game id
+            input.readLong(); // start time
+            input.readUTF(); // game type
+            int playersCount = input.readUnsignedByte();
+            for (int i = 0; i < playersCount; i++) {
+                GameRecorder.readUUID(input);
+                input.readUTF();
+                GameRecorder.skipCards(input); // library
+                GameRecorder.skipCards(input); // sideboard
+            }
+
+            // records
+            int recordType;
+            while ((recordType = input.read()) >= 0) {
+                switch (recordType) {
+                    case GameRecorder.RECORD_CHECKPOINT:
+                        input.readInt(); // turn
+                        long statePosition = counter.getPosition();
+                        skipFully(input, input.readInt());
+                        if (counter.getPosition() <= fileSize) {
+                            checkpoints.add(statePosition);
+                        }
+                        break;
+                    case GameRecorder.RECORD_GAME:
+                        this.game = (Game) readObject(input);
+                        break;
+                    default:
+                        throw new IOException("unknown record type " + recordType);
+                }
+            }
+        } catch (EOFException e) {
+            // unfinished record (e.g. server crash), use all full records
+            logger.warn("Game record is not finished: " + file);
+        } catch (IOException | ClassNotFoundException e) {
+            logger.fatal("Cannot load game record " + file + ": " + e.getMessage(), e);
+        }
+        if (this.game == null) {
+            logger.fatal("Cannot load game from record, game data not found: " + file);
+        }
+    }
+
+    private GameState loadState(int index) {
+        try (FileChannel channel = FileChannel.open(file)) {
+            channel.position(checkpoints.get(index));
+            return (GameState) readObject(new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel))));
+        } catch (IOException | ClassNotFoundException e) {
+            logger.fatal("Cannot load game state " + index + " from record " + file + ": " + e.getMessage(), e);
         }
         return null;
     }
+
+    private static void skipFully(DataInputStream input, int count) throws IOException {
+        int left = count;
+        while (left > 0) {
+            int skipped = input.skipBytes(left);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            left -= skipped;
+        }
+    }
+
+    private static Object readObject(DataInputStream input) throws IOException, ClassNotFoundException {
+        byte[] data = new byte[input.readInt()];
+        input.readFully(data);
+        try (ObjectInput objectInput = new CopierObjectInputStream(Main.classLoader, new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            return objectInput.readObject();
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long position = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int res = super.read();
+            if (res >= 0) {
+                position++;
+            }
+            return res;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int res = super.read(b, off, len);
+            if (res > 0) {
+                position += res;
+            }
+            return res;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long res = super.skip(n);
+            position += res;
+            return res;
+        }
+    }
 }
@@ -35,7 +35,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     private final ExecutorService callExecutor;
 
     public GameSessionPlayer(ManagerFactory managerFactory, Game game, UUID userId, UUID playerId) {
-        super(managerFactory.userManager(), userId, game, true);
+        super(managerFactory.userManager(), userId, game, true, managerFactory.configSettings().isGameViewDiffActivated(), null);
         this.userManager = managerFactory.userManager();
         this.callExecutor = managerFactory.threadExecutor().getCallExecutor();
         this.playerId = playerId;
@@ -196,7 +196,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     }
 
     @Override
-    public GameView getGameView() {
+    protected GameView createGameView() {
         return prepareGameView(game, playerId, userId);
     }
 
@@ -214,15 +214,25 @@ public class GameSessionPlayer extends GameSessionWatcher {
         Game sourceGame = game.copy();
 
         Player player = sourceGame.getPlayer(playerId); // null for watcher
+        Game playableGame = null;
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
         if (player != null) {
             if (gameView.getPriorityPlayerName().equals(player.getName())) {
-                gameView.setCanPlayObjects(player.getPlayableObjects(sourceGame, Zone.ALL));
+                playableGame = sourceGame;
             }
         }
 
         processControlledPlayers(sourceGame, player, gameView);
         processWatchedHands(sourceGame, userId, gameView);
+
+        if (playableGame != null) {
+            // source game is a throw away copy, so outer playable calc can use it without new copy
+            // (nested calcs make own copies; must be last cause playable calc can change the game)
+            // so player's game view needs two game copies: view + getPlayable and available mana calc,
+            // each copy clones only used cards (see GameImpl.getCard)
+            playableGame.setSimulationForPlayableCalc();
+            gameView.setCanPlayObjects(player.getPlayableObjects(playableGame, Zone.ALL));
+        }
         //TODO: should player who controls another player's turn be able to look at all these cards?
 
         return gameView;
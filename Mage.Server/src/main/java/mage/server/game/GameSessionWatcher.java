@@ -13,6 +13,7 @@ import mage.view.GameView;
 import mage.view.SimpleCardsView;
 import org.apache.log4j.Logger;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -30,12 +31,16 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    private final GameViewDiffTracker diffTracker; // null if game updates must be sent as full game views
+    private final GameViewCache gameViewCache; // shared game view for all watchers, null for players
 
-    public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
+    public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer, boolean useGameViewDiffs, GameViewCache gameViewCache) {
         this.userManager = userManager;
         this.userId = userId;
         this.game = game;
         this.isPlayer = isPlayer;
+        this.diffTracker = useGameViewDiffs ? new GameViewDiffTracker() : null;
+        this.gameViewCache = gameViewCache;
     }
 
     public boolean init() {
@@ -51,11 +56,27 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            userManager.getUser(userId).ifPresent(user -> {
+                if (diffTracker != null && user.hasQueuedGameUpdate(game.getId())) {
+                    // client is behind and not sent diffs can't be replaced, so collapse it all by full game view
+                    diffTracker.requestFullGameView();
+                }
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameUpdate()));
+            });
         }
 
     }
 
+    /**
+     * Client lost the last game view (can't apply diff), so send full game view
+     */
+    public void requestFullGameView() {
+        if (diffTracker != null) {
+            diffTracker.requestFullGameView();
+            update();
+        }
+    }
+
     public void inform(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -96,7 +117,32 @@ public class GameSessionWatcher {
         killed = true;
     }
 
+    /**
+     * Full game view for the client (each full game view is a new base for diffs)
+     */
     public GameView getGameView() {
+        GameView gameView = createGameView();
+        if (diffTracker != null) {
+            diffTracker.registerFullGameView(gameView);
+        }
+        return gameView;
+    }
+
+    /**
+     * Game update for the client: full game view or diff with the last full game view
+     */
+    protected Serializable getGameUpdate() {
+        if (diffTracker == null) {
+            return getGameView();
+        }
+        return diffTracker.prepareGameUpdate(createGameView());
+    }
+
+    protected GameView createGameView() {
+        if (gameViewCache != null) {
+            return gameViewCache.prepareWatcherGameView(userId);
+        }
+
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
         Game sourceGame = game.copy();
@@ -0,0 +1,52 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.view.GameView;
+
+import java.util.UUID;
+
+/**
+ * Shared game view for all watchers of the game
+ * <p>
+ * Watchers see same public game data, so it prepares once per game change and copied for each watcher
+ * with personal data only (watched hands). Players use own game views cause hidden info depends on
+ * controlled cards (face down cards, own hand, looked at cards, etc).
+ */
+public class GameViewCache {
+
+    private final Game game;
+
+    private long gameVersion = 0; // game controller's events counter
+    private long cachedGameVersion = -1;
+    private int cachedApplyEffectsCounter = -1;
+    private Game cachedGame = null;
+    private GameView cachedGameView = null;
+
+    public GameViewCache(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Game was changed, so next game view must be prepared from the actual game
+     */
+    public synchronized void invalidate() {
+        gameVersion++;
+    }
+
+    public synchronized GameView prepareWatcherGameView(UUID userId) {
+        if (cachedGameView == null
+                || cachedGameVersion != gameVersion
+                || cachedApplyEffectsCounter != game.getState().getApplyEffectsCounter()) {
+            // game view calculation can take some time and can be called from non-game thread,
+            // so use copy for thread save (protection from ConcurrentModificationException)
+            cachedGame = game.copy();
+            cachedGameView = new GameView(cachedGame.getState(), cachedGame, null, null);
+            cachedGameVersion = gameVersion;
+            cachedApplyEffectsCounter = cachedGame.getState().getApplyEffectsCounter();
+        }
+
+        GameView gameView = new GameView(cachedGameView);
+        GameSessionWatcher.processWatchedHands(cachedGame, userId, gameView);
+        return gameView;
+    }
+}
@@ -0,0 +1,97 @@
+package mage.server.game;
+
+import mage.view.CardView;
+import mage.view.GameView;
+import mage.view.GameViewDiff;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Network: keeps the last full game view of the client and prepares game updates as diffs
+ * <p>
+ * Each full game view of the session must be registered here, so the client can use it as a base for next diffs.
+ * Cards compared by data fingerprints, so server don't need to keep old views in memory (see ViewFingerprint).
+ */
+public class GameViewDiffTracker {
+
+    // full game view after some diffs in a row, so client can restore after any data problems
+    public static final int FULL_RESYNC_EVERY_UPDATES = 20;
+
+    private long lastVersion = 0;
+    private int diffsInRow = 0;
+    private boolean needFullGameView = true;
+    private Map<String, Map<UUID, Long>> lastFingerprints = new HashMap<>();
+
+    /**
+     * Register full game view as a new base for next diffs
+     */
+    public synchronized void registerFullGameView(GameView gameView) {
+        Map<String, Map<UUID, Long>> newFingerprints = new HashMap<>();
+        for (Map.Entry<String, Map<UUID, CardView>> entry : GameViewDiff.findCardContainers(gameView).entrySet()) {
+            Map<UUID, Long> prints = new HashMap<>(entry.getValue().size());
+            for (Map.Entry<UUID, CardView> card : entry.getValue().entrySet()) {
+                prints.put(card.getKey(), ViewFingerprint.of(card.getValue()));
+            }
+            newFingerprints.put(entry.getKey(), prints);
+        }
+
+        this.lastFingerprints = newFingerprints;
+        this.lastVersion++;
+        this.diffsInRow = 0;
+        this.needFullGameView = false;
+        gameView.setUpdateVersion(this.lastVersion);
+    }
+
+    /**
+     * Prepare game update data
+     *
+     * @param gameView new game view (will be modified)
+     * @return full game view or GameViewDiff
+     */
+    public synchronized Serializable prepareGameUpdate(GameView gameView) {
+        if (needFullGameView || diffsInRow >= FULL_RESYNC_EVERY_UPDATES) {
+            registerFullGameView(gameView);
+            return gameView;
+        }
+
+        long baseVersion = this.lastVersion;
+        Map<String, List<UUID>> cardsOrder = new HashMap<>();
+        Map<String, Map<UUID, Long>> newFingerprints = new HashMap<>();
+        for (Map.Entry<String, Map<UUID, CardView>> entry : GameViewDiff.findCardContainers(gameView).entrySet()) {
+            Map<UUID, Long> oldPrints = lastFingerprints.getOrDefault(entry.getKey(), Collections.emptyMap());
+            Map<UUID, Long> newPrints = new HashMap<>(entry.getValue().size());
+            List<UUID> order = new ArrayList<>(entry.getValue().keySet());
+            boolean hasUnchanged = false;
+            Iterator<Map.Entry<UUID, CardView>> it = entry.getValue().entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<UUID, CardView> card = it.next();
+                long print = ViewFingerprint.of(card.getValue());
+                newPrints.put(card.getKey(), print);
+                Long oldPrint = oldPrints.get(card.getKey());
+                if (oldPrint != null && oldPrint == print) {
+                    // client already has it
+                    it.remove();
+                    hasUnchanged = true;
+                }
+            }
+            if (hasUnchanged) {
+                cardsOrder.put(entry.getKey(), order);
+            }
+            newFingerprints.put(entry.getKey(), newPrints);
+        }
+
+        this.lastFingerprints = newFingerprints;
+        this.lastVersion++;
+        this.diffsInRow++;
+        gameView.setUpdateVersion(this.lastVersion);
+        return new GameViewDiff(baseVersion, gameView, cardsOrder);
+    }
+
+    /**
+     * Client lost the base game view, so next update must be full
+     */
+    public synchronized void requestFullGameView() {
+        this.needFullGameView = true;
+    }
+}
@@ -2,6 +2,7 @@ package mage.server.game;
 
 import mage.MageException;
 import mage.game.Game;
+import mage.util.GameThreadLimiter;
 import mage.util.ThreadUtils;
 import org.apache.log4j.Logger;
 
@@ -20,11 +21,13 @@ public class GameWorker implements Callable<Boolean> {
     private final GameCallback gameController;
     private final Game game;
     private final UUID choosingPlayerId;
+    private final GameThreadLimiter gameThreadLimiter;
 
-    public GameWorker(Game game, UUID choosingPlayerId, GameCallback gameController) {
+    public GameWorker(Game game, UUID choosingPlayerId, GameCallback gameController, GameThreadLimiter gameThreadLimiter) {
         this.game = game;
         this.choosingPlayerId = choosingPlayerId;
         this.gameController = gameController;
+        this.gameThreadLimiter = gameThreadLimiter;
     }
 
     @Override
@@ -32,6 +35,7 @@ public class GameWorker implements Callable<Boolean> {
         try {
             // play game
             Thread.currentThread().setName(ThreadUtils.THREAD_PREFIX_GAME + " " + game.getId());
+            gameThreadLimiter.enter(); // wait for free slot, human's decisions will give it back while waiting
             game.start(choosingPlayerId);
 
             // save result and start next game or close finished table
@@ -44,6 +48,8 @@ public class GameWorker implements Callable<Boolean> {
             LOGGER.fatal("GameWorker mage error [" + game.getId() + " - " + game + "]: " + e, e);
         } catch (Throwable e) {
             LOGGER.fatal("GameWorker system error [" + game.getId() + " - " + game + "]: " + e, e);
+        } finally {
+            gameThreadLimiter.exit();
         }
         return null;
     }
@@ -26,6 +26,8 @@ public interface GamesRoom extends Room {
     List<TableView> getTables();
     List<MatchView> getFinished();
     List<RoomUsersView> getRoomUsersInfo();
+    void subscribeLobby(UUID userId, long version);
+    void unsubscribeLobby(UUID userId);
     boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException;
     boolean joinTournamentTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws GameException;
     TableView createTable(UUID userId, MatchOptions options);
@@ -7,6 +7,8 @@ import mage.game.GameException;
 import mage.game.Table;
 import mage.game.match.MatchOptions;
 import mage.game.tournament.TournamentOptions;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.PlayerType;
 import mage.server.RoomImpl;
 import mage.server.User;
@@ -34,6 +36,8 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     private static final Logger LOGGER = Logger.getLogger(GamesRoomImpl.class);
 
     private static final int MAX_FINISHED_TABLES = 25;
+    private static final int LOBBY_UPDATE_SECS = 2;
+    private static final int LOBBY_USERS_UPDATE_SECS = 10; // users info contains pings, so it changes all the time
 
     // server's lobby
     private static List<TableView> lobbyTables = new ArrayList<>();
@@ -46,9 +50,15 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     private final ManagerFactory managerFactory;
     private final ConcurrentHashMap<UUID, Table> tables = new ConcurrentHashMap<>();
 
+    // lobby updates push: user id -> last sent lobby version
+    private final LobbySnapshot lobbySnapshot;
+    private final Map<UUID, Long> lobbySubscribers = new HashMap<>();
+    private int lobbyUpdatesCount = 0;
+
     public GamesRoomImpl(ManagerFactory managerFactory) {
         super(managerFactory.chatManager());
         this.managerFactory = managerFactory;
+        this.lobbySnapshot = new LobbySnapshot(this.getRoomId());
 
         // update lobby's data
         UPDATE_LOBBY_EXECUTOR.scheduleAtFixedRate(() -> {
@@ -58,7 +68,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 LOGGER.fatal("Games room update error: " + e.getMessage(), e);
             }
 
-        }, 2, 2, TimeUnit.SECONDS); // TODO: is it ok for performance?
+        }, LOBBY_UPDATE_SECS, LOBBY_UPDATE_SECS, TimeUnit.SECONDS);
     }
 
     @Override
@@ -119,10 +129,51 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         List<RoomUsersView> roomUserInfo = new ArrayList<>();
         roomUserInfo.add(new RoomUsersView(users,
                 managerFactory.gameManager().getNumberActiveGames(),
-                managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor()),
+                managerFactory.threadExecutor().getGameThreadLimiter().getActiveGames(),
                 managerFactory.configSettings().getMaxGameThreads()
         ));
         lobbyUsers = roomUserInfo;
+
+        // push changes to subscribed clients
+        boolean needUsers = lobbyUpdatesCount % (LOBBY_USERS_UPDATE_SECS / LOBBY_UPDATE_SECS) == 0;
+        lobbyUpdatesCount++;
+        if (lobbySnapshot.update(tableList, matchList, needUsers ? roomUserInfo : null)) {
+            sendLobbyUpdates();
+        }
+    }
+
+    private synchronized void sendLobbyUpdates() {
+        Iterator<Map.Entry<UUID, Long>> it = lobbySubscribers.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Long> entry = it.next();
+            Optional<User> user = managerFactory.userManager().getUser(entry.getKey());
+            if (!user.isPresent()) {
+                it.remove();
+                continue;
+            }
+            LobbySnapshot.PreparedUpdate update = lobbySnapshot.prepareSharedUpdate(entry.getValue());
+            if (update != null) {
+                // same compressed data for all clients with same version
+                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.LOBBY_UPDATE, this.getRoomId(), update.getCompressedData(), false));
+                entry.setValue(update.getView().getVersion());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void subscribeLobby(UUID userId, long version) {
+        managerFactory.userManager().getUser(userId).ifPresent(user -> {
+            LobbySnapshot.PreparedUpdate update = lobbySnapshot.prepareSharedUpdate(version);
+            if (update != null) {
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.LOBBY_UPDATE, this.getRoomId(), update.getCompressedData(), false));
+            }
+            lobbySubscribers.put(userId, update == null ? version : update.getView().getVersion());
+        });
+    }
+
+    @Override
+    public synchronized void unsubscribeLobby(UUID userId) {
+        lobbySubscribers.remove(userId);
     }
 
     @Override
@@ -0,0 +1,184 @@
+package mage.server.game;
+
+import mage.view.LobbyUpdateView;
+import mage.view.MatchView;
+import mage.view.RoomUsersView;
+import mage.utils.CompressUtil;
+import mage.view.TableView;
+
+import java.util.*;
+
+/**
+ * Network: versioned lobby data for lobby updates push
+ * <p>
+ * Version increases on real data changes only (data compared by fingerprints, see ViewFingerprint),
+ * so clients get new and changed tables since its last version instead full lists on each refresh.
+ * Same updates are shared between all clients with same version, so it's compressed once per version
+ * (compressed data keeps codec name, so any client can decompress it without codec negotiation).
+ */
+public class LobbySnapshot {
+
+    /**
+     * Lobby update for all clients with same base version
+     */
+    public static class PreparedUpdate {
+
+        private final LobbyUpdateView view;
+        private Object compressedData = null;
+
+        private PreparedUpdate(LobbyUpdateView view) {
+            this.view = view;
+        }
+
+        public LobbyUpdateView getView() {
+            return view;
+        }
+
+        /**
+         * Compressed view for sending, see ClientCallback
+         */
+        public synchronized Object getCompressedData() {
+            if (compressedData == null) {
+                compressedData = CompressUtil.compress(view);
+            }
+            return compressedData;
+        }
+    }
+
+    private final UUID roomId;
+    private long version = 0;
+
+    private List<UUID> tablesOrder = new ArrayList<>();
+    private final Map<UUID, TableView> tables = new HashMap<>();
+    private final Map<UUID, Long> tablesFingerprints = new HashMap<>();
+    private final Map<UUID, Long> tablesVersions = new HashMap<>();
+
+    private List<MatchView> finishedMatches = new ArrayList<>();
+    private long finishedMatchesFingerprint = 0;
+    private long finishedMatchesVersion = 0;
+
+    private List<RoomUsersView> roomUsers = new ArrayList<>();
+    private long roomUsersFingerprint = 0;
+    private long roomUsersVersion = 0;
+
+    // base version -> update to the current version
+    private final Map<Long, PreparedUpdate> preparedUpdates = new HashMap<>();
+
+    public LobbySnapshot(UUID roomId) {
+        this.roomId = roomId;
+    }
+
+    /**
+     * Apply new lobby data
+     *
+     * @param newTables   active tables in lobby order
+     * @param newMatches  finished matches
+     * @param newUsers    room users info or null to keep current
+     * @return true on changed data (new version)
+     */
+    public synchronized boolean update(List<TableView> newTables, List<MatchView> newMatches, List<RoomUsersView> newUsers) {
+        long newVersion = this.version + 1;
+        boolean changed = false;
+
+        // tables
+        List<UUID> newOrder = new ArrayList<>(newTables.size());
+        Set<UUID> removed = new HashSet<>(tables.keySet());
+        for (TableView table : newTables) {
+            UUID tableId = table.getTableId();
+            newOrder.add(tableId);
+            removed.remove(tableId);
+            Long print = ViewFingerprint.of(table);
+            if (!print.equals(tablesFingerprints.get(tableId))) {
+                tables.put(tableId, table);
+                tablesFingerprints.put(tableId, print);
+                tablesVersions.put(tableId, newVersion);
+                changed = true;
+            }
+        }
+        for (UUID tableId : removed) {
+            tables.remove(tableId);
+            tablesFingerprints.remove(tableId);
+            tablesVersions.remove(tableId);
+        }
+        if (!newOrder.equals(tablesOrder)) {
+            tablesOrder = newOrder;
+            changed = true;
+        }
+
+        // finished matches
+        long matchesPrint = ViewFingerprint.of(newMatches);
+        if (matchesPrint != finishedMatchesFingerprint) {
+            finishedMatches = newMatches;
+            finishedMatchesFingerprint = matchesPrint;
+            finishedMatchesVersion = newVersion;
+            changed = true;
+        }
+
+        // users
+        if (newUsers != null) {
+            long usersPrint = ViewFingerprint.of(newUsers);
+            if (usersPrint != roomUsersFingerprint) {
+                roomUsers = newUsers;
+                roomUsersFingerprint = usersPrint;
+                roomUsersVersion = newVersion;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            this.version = newVersion;
+            this.preparedUpdates.clear();
+        }
+        return changed;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Prepare lobby update for the client
+     *
+     * @param baseVersion last version of the client, 0 for full data
+     * @return update or null if client already has current version
+     */
+    public synchronized LobbyUpdateView prepareUpdate(long baseVersion) {
+        PreparedUpdate update = prepareSharedUpdate(baseVersion);
+        return update == null ? null : update.getView();
+    }
+
+    /**
+     * Prepare lobby update for the client with shared compressed data
+     *
+     * @param baseVersion last version of the client, 0 for full data
+     * @return update or null if client already has current version
+     */
+    public synchronized PreparedUpdate prepareSharedUpdate(long baseVersion) {
+        if (baseVersion == this.version && baseVersion != 0) {
+            return null;
+        }
+        if (baseVersion < 0 || baseVersion > this.version) {
+            // unknown version (e.g. from old server's lobby)
+            baseVersion = 0;
+        }
+        return preparedUpdates.computeIfAbsent(baseVersion, version -> new PreparedUpdate(createUpdate(version)));
+    }
+
+    private LobbyUpdateView createUpdate(long baseVersion) {
+        List<TableView> changedTables = new ArrayList<>();
+        for (UUID tableId : tablesOrder) {
+            if (baseVersion == 0 || tablesVersions.get(tableId) > baseVersion) {
+                changedTables.add(tables.get(tableId));
+            }
+        }
+        return new LobbyUpdateView(
+                roomId,
+                baseVersion,
+                version,
+                new ArrayList<>(tablesOrder),
+                changedTables,
+                baseVersion == 0 || finishedMatchesVersion > baseVersion ? finishedMatches : null,
+                baseVersion == 0 || roomUsersVersion > baseVersion ? roomUsers : null
+        );
+    }
+}
@@ -40,9 +40,7 @@ public class ReplaySession implements GameCallback {
     }
 
     public synchronized void next(int moves) {
-        for (int i = 0; i < moves; i++) {
-            replay.next();
-        }
+        replay.skip(moves);
         updateGame(replay.next(), replay.getGame());
     }
 
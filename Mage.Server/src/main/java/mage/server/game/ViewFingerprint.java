@@ -0,0 +1,125 @@
+package mage.server.game;
+
+import mage.util.StateHashUtil;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Network: 64 bits fingerprint of the view's data to find changed objects (see GameViewDiffTracker, LobbySnapshot)
+ * <p>
+ * Uses same data as serialization (all not transient fields), but reads it directly, so it's much
+ * faster than ObjectOutputStream and doesn't allocate buffers. Fields list of each class is cached.
+ */
+public final class ViewFingerprint {
+
+    private static final long NULL_VALUE = 0x6A09E667F3BCC909L;
+    private static final long CYCLE_VALUE = 0xBB67AE8584CAA73BL;
+
+    private static final ClassValue<Field[]> CLASS_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> res = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    res.add(field);
+                }
+            }
+            return res.toArray(new Field[0]);
+        }
+    };
+
+    private ViewFingerprint() {
+    }
+
+    public static long of(Object data) {
+        return hash(0, data, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * @param path objects in the current path to find cycles (shared objects must be processed each time,
+     *             so same data from different builds gets same fingerprint)
+     */
+    private static long hash(long hash, Object value, Set<Object> path) {
+        if (value == null) {
+            return StateHashUtil.ordered(hash, NULL_VALUE);
+        }
+
+        // simple values
+        if (value instanceof String) {
+            return StateHashUtil.ordered(hash, ofString((String) value));
+        } else if (value instanceof Boolean) {
+            return StateHashUtil.ordered(hash, (Boolean) value);
+        } else if (value instanceof Double) {
+            return StateHashUtil.ordered(hash, Double.doubleToLongBits((Double) value));
+        } else if (value instanceof Float) {
+            return StateHashUtil.ordered(hash, Float.floatToIntBits((Float) value));
+        } else if (value instanceof Number) {
+            return StateHashUtil.ordered(hash, ((Number) value).longValue());
+        } else if (value instanceof Character) {
+            return StateHashUtil.ordered(hash, (Character) value);
+        } else if (value instanceof UUID) {
+            return StateHashUtil.ordered(hash, (UUID) value);
+        } else if (value instanceof Enum) {
+            hash = StateHashUtil.ordered(hash, ofString(((Enum<?>) value).getDeclaringClass().getName()));
+            return StateHashUtil.ordered(hash, (Enum<?>) value);
+        }
+
+        if (!path.add(value)) {
+            return StateHashUtil.ordered(hash, CYCLE_VALUE);
+        }
+        try {
+            Class<?> type = value.getClass();
+            hash = StateHashUtil.ordered(hash, ofString(type.getName()));
+            if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                hash = StateHashUtil.ordered(hash, collection.size());
+                for (Object item : collection) {
+                    hash = hash(hash, item, path);
+                }
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                hash = StateHashUtil.ordered(hash, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    hash = hash(hash, entry.getKey(), path);
+                    hash = hash(hash, entry.getValue(), path);
+                }
+            } else if (type.isArray()) {
+                int length = Array.getLength(value);
+                hash = StateHashUtil.ordered(hash, length);
+                for (int i = 0; i < length; i++) {
+                    hash = hash(hash, Array.get(value, i), path);
+                }
+            } else if (type.getName().startsWith("java.")) {
+                // jdk's internals are not accessible, so use its own data
+                hash = StateHashUtil.ordered(hash, ofString(value.toString()));
+            } else {
+                for (Field field : CLASS_FIELDS.get(type)) {
+                    hash = hash(hash, field.get(value), path);
+                }
+            }
+            return hash;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can't read view data: " + e.getMessage(), e);
+        } finally {
+            path.remove(value);
+        }
+    }
+
+    private static long ofString(String value) {
+        // FNV-1a 64 bits (string's own hash code is 32 bits only, so it can miss changes)
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -22,6 +22,10 @@ public interface ConfigSettings {
 
     int getNumAcceptThreads();
 
+    int getNioPort();
+
+    int getNioIoThreads();
+
     int getBacklogSize();
 
     int getMaxGameThreads();
@@ -42,6 +46,8 @@ public interface ConfigSettings {
 
     Boolean isSaveGameActivated();
 
+    boolean isGameViewDiffActivated();
+
     Boolean isAuthenticationActivated();
 
     String getGoogleAccount();
@@ -5,7 +5,6 @@ import mage.players.net.UserData;
 import mage.server.DisconnectReason;
 import mage.server.Session;
 import mage.server.User;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import javax.annotation.Nonnull;
 import java.util.Optional;
@@ -14,7 +13,7 @@ public interface SessionManager {
 
     Optional<Session> getSession(@Nonnull String sessionId);
 
-    void createSession(String sessionId, InvokerCallbackHandler callbackHandler);
+    void createSession(String sessionId, Session.CallbackSender callbackSender);
 
     boolean registerUser(String sessionId, String userName, String password, String email) throws MageException;
 
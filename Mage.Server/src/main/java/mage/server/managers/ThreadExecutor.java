@@ -1,5 +1,7 @@
 package mage.server.managers;
 
+import mage.util.GameThreadLimiter;
+
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -15,6 +17,11 @@ public interface ThreadExecutor {
      */
     ExecutorService getGameExecutor();
 
+    /**
+     * Limit for games processed at the same time (game threads waiting for a human's answer are not counted)
+     */
+    GameThreadLimiter getGameThreadLimiter();
+
     /**
      * Tourney thread
      */
@@ -25,6 +32,11 @@ public interface ThreadExecutor {
      */
     ExecutorService getCallExecutor();
 
+    /**
+     * Network threads to send callbacks to clients (one active task per session, see SessionCallbackQueue)
+     */
+    ExecutorService getCallbackExecutor();
+
     /**
      * Helper threads to execute async timers and time related tasks
      */
@@ -0,0 +1,316 @@
+package mage.server.record;
+
+import mage.game.result.ResultProtos;
+import mage.server.rating.GlickoRating;
+import mage.server.rating.GlickoRatingSystem;
+
+import java.util.*;
+
+/**
+ * Calculates new users stats and ratings from finished tables in memory, without db calls.
+ * <p>
+ * Usage: collect user names from records, load its stats from db by one query, process records,
+ * save all changed stats by one batch.
+ */
+class UserStatsUpdater {
+
+    private final Map<String, UserStats> loadedStats;
+
+    // new stats for changed users (keep order for same save order on each run)
+    private final Map<String, ResultProtos.UserStatsProto> changedProtos = new LinkedHashMap<>();
+    private final Map<String, Long> changedEndTimes = new HashMap<>();
+    private final Set<String> updatedUsers = new LinkedHashSet<>();
+
+    /**
+     * @param loadedStats current stats from db for all users from records (missing users will be created)
+     */
+    UserStatsUpdater(Map<String, UserStats> loadedStats) {
+        this.loadedStats = loadedStats;
+    }
+
+    static Set<String> collectUserNames(List<TableRecord> records) {
+        Set<String> res = new HashSet<>();
+        for (TableRecord record : records) {
+            ResultProtos.TableProto table = record.getProto();
+            if (table == null || table.getControllerName().equals("System")) {
+                continue;
+            }
+            if (table.hasMatch()) {
+                for (ResultProtos.MatchPlayerProto player : table.getMatch().getPlayersList()) {
+                    res.add(player.getName());
+                }
+            } else if (table.hasTourney()) {
+                for (ResultProtos.TourneyPlayerProto player : table.getTourney().getPlayersList()) {
+                    res.add(player.getName());
+                }
+                for (ResultProtos.TourneyRoundProto round : table.getTourney().getRoundsList()) {
+                    for (ResultProtos.MatchProto match : round.getMatchesList()) {
+                        for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
+                            res.add(player.getName());
+                        }
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    void process(List<TableRecord> records) {
+        for (TableRecord record : records) {
+            ResultProtos.TableProto table = record.getProto();
+            if (table == null) {
+                continue;
+            }
+            if (table.getControllerName().equals("System")) {
+                // This is a sub table within a tournament, so it's already handled by the main
+                // tournament table.
+                continue;
+            }
+            if (table.hasMatch()) {
+                ResultProtos.MatchProto match = table.getMatch();
+                for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
+                    ResultProtos.UserStatsProto proto = getProto(player.getName());
+                    ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
+                            .setMatches(proto.getMatches() + 1);
+                    switch (player.getQuit()) {
+                        case IDLE_TIMEOUT:
+                            builder.setMatchesIdleTimeout(proto.getMatchesIdleTimeout() + 1);
+                            break;
+                        case TIMER_TIMEOUT:
+                            builder.setMatchesTimerTimeout(proto.getMatchesTimerTimeout() + 1);
+                            break;
+                        case QUIT:
+                            builder.setMatchesQuit(proto.getMatchesQuit() + 1);
+                            break;
+                    }
+                    setProto(builder.build(), table.getEndTimeMs());
+                    updatedUsers.add(player.getName());
+                }
+                updateRating(match, table.getEndTimeMs());
+            } else if (table.hasTourney()) {
+                ResultProtos.TourneyProto tourney = table.getTourney();
+                for (ResultProtos.TourneyPlayerProto player : tourney.getPlayersList()) {
+                    ResultProtos.UserStatsProto proto = getProto(player.getName());
+                    ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
+                            .setTourneys(proto.getTourneys() + 1);
+                    switch (player.getQuit()) {
+                        case DURING_ROUND:
+                            builder.setTourneysQuitDuringRound(proto.getTourneysQuitDuringRound() + 1);
+                            break;
+                        case DURING_DRAFTING:
+                            builder.setTourneysQuitDuringDrafting(proto.getTourneysQuitDuringDrafting() + 1);
+                            break;
+                        case DURING_CONSTRUCTION:
+                            builder.setTourneysQuitDuringConstruction(proto.getTourneysQuitDuringConstruction() + 1);
+                            break;
+                    }
+                    setProto(builder.build(), table.getEndTimeMs());
+                    updatedUsers.add(player.getName());
+                }
+
+                for (ResultProtos.TourneyRoundProto round : tourney.getRoundsList()) {
+                    for (ResultProtos.MatchProto match : round.getMatchesList()) {
+                        updateRating(match, table.getEndTimeMs());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Users with changed stats (including rating only changes)
+     */
+    List<UserStats> getChangedStats() {
+        List<UserStats> res = new ArrayList<>(changedProtos.size());
+        for (Map.Entry<String, ResultProtos.UserStatsProto> entry : changedProtos.entrySet()) {
+            res.add(new UserStats(entry.getValue(), changedEndTimes.get(entry.getKey())));
+        }
+        return res;
+    }
+
+    boolean isNewUser(String userName) {
+        return !loadedStats.containsKey(userName);
+    }
+
+    /**
+     * Users with changed matches or tourneys stats
+     */
+    List<String> getUpdatedUsers() {
+        return new ArrayList<>(updatedUsers);
+    }
+
+    private ResultProtos.UserStatsProto getProto(String userName) {
+        ResultProtos.UserStatsProto proto = changedProtos.get(userName);
+        if (proto == null) {
+            UserStats userStats = loadedStats.get(userName);
+            proto = userStats != null ? userStats.getProto() : null;
+        }
+        if (proto == null) {
+            proto = ResultProtos.UserStatsProto.newBuilder().setName(userName).build();
+        }
+        return proto;
+    }
+
+    private long getEndTimeMs(String userName, long defaultEndTimeMs) {
+        Long endTimeMs = changedEndTimes.get(userName);
+        if (endTimeMs == null) {
+            UserStats userStats = loadedStats.get(userName);
+            endTimeMs = userStats != null ? userStats.getEndTimeMs() : defaultEndTimeMs;
+        }
+        return endTimeMs;
+    }
+
+    private void setProto(ResultProtos.UserStatsProto proto, long endTimeMs) {
+        changedProtos.put(proto.getName(), proto);
+        changedEndTimes.put(proto.getName(), endTimeMs);
+    }
+
+    private void updateRating(ResultProtos.MatchProto match, long tableEndTimeMs) {
+        long matchEndTimeMs;
+        if (match.hasEndTimeMs()) {
+            matchEndTimeMs = match.getEndTimeMs();
+        } else {
+            matchEndTimeMs = tableEndTimeMs;
+        }
+
+        // process only match with options
+        if (!match.hasMatchOptions()) {
+            return;
+        }
+        ResultProtos.MatchOptionsProto matchOptions = match.getMatchOptions();
+
+        // process only rated matches
+        if (!matchOptions.getRated()) {
+            return;
+        }
+
+        // rating only for duels
+        if (match.getPlayersCount() != 2) {
+            return;
+        }
+
+        ResultProtos.MatchPlayerProto player1 = match.getPlayers(0);
+        ResultProtos.MatchPlayerProto player2 = match.getPlayers(1);
+
+        // rate only games between human players
+        if (!player1.getHuman() || !player2.getHuman()) {
+            return;
+        }
+
+        double outcome;
+        if ((player1.getQuit() == ResultProtos.MatchQuitStatus.NO_MATCH_QUIT && player1.getWins() > player2.getWins())
+                || player2.getQuit() != ResultProtos.MatchQuitStatus.NO_MATCH_QUIT) {
+            // player1 won
+            outcome = 1;
+        } else if ((player2.getQuit() == ResultProtos.MatchQuitStatus.NO_MATCH_QUIT && player1.getWins() < player2.getWins())
+                || player1.getQuit() != ResultProtos.MatchQuitStatus.NO_MATCH_QUIT) {
+            // player2 won
+            outcome = 0;
+        } else {
+            // draw
+            outcome = 0.5;
+        }
+
+        // get players stats (new users get table's end time)
+        long player1EndTimeMs = getEndTimeMs(player1.getName(), tableEndTimeMs);
+        ResultProtos.UserStatsProto player1StatsProto = getProto(player1.getName());
+        long player2EndTimeMs = getEndTimeMs(player2.getName(), tableEndTimeMs);
+        ResultProtos.UserStatsProto player2StatsProto = getProto(player2.getName());
+
+        ResultProtos.UserStatsProto.Builder player1StatsBuilder =
+                ResultProtos.UserStatsProto.newBuilder(player1StatsProto);
+        ResultProtos.UserStatsProto.Builder player2StatsBuilder =
+                ResultProtos.UserStatsProto.newBuilder(player2StatsProto);
+
+        // update general rating
+        ResultProtos.GlickoRatingProto player1GeneralRatingProto = null;
+        if (player1StatsProto.hasGeneralGlickoRating()) {
+            player1GeneralRatingProto = player1StatsProto.getGeneralGlickoRating();
+        }
+
+        ResultProtos.GlickoRatingProto player2GeneralRatingProto = null;
+        if (player2StatsProto.hasGeneralGlickoRating()) {
+            player2GeneralRatingProto = player2StatsProto.getGeneralGlickoRating();
+        }
+
+        updateRating(player1GeneralRatingProto, player2GeneralRatingProto, outcome, matchEndTimeMs,
+                player1StatsBuilder.getGeneralGlickoRatingBuilder(), player2StatsBuilder.getGeneralGlickoRatingBuilder());
+
+        if (matchOptions.hasLimited()) {
+            if (matchOptions.getLimited()) {
+                // update limited rating
+                ResultProtos.GlickoRatingProto player1LimitedRatingProto = null;
+                if (player1StatsProto.hasLimitedGlickoRating()) {
+                    player1LimitedRatingProto = player1StatsProto.getLimitedGlickoRating();
+                }
+
+                ResultProtos.GlickoRatingProto player2LimitedRatingProto = null;
+                if (player2StatsProto.hasLimitedGlickoRating()) {
+                    player2LimitedRatingProto = player2StatsProto.getLimitedGlickoRating();
+                }
+
+                updateRating(player1LimitedRatingProto, player2LimitedRatingProto, outcome, matchEndTimeMs,
+                        player1StatsBuilder.getLimitedGlickoRatingBuilder(), player2StatsBuilder.getLimitedGlickoRatingBuilder());
+            } else {
+                // update constructed rating
+                ResultProtos.GlickoRatingProto player1ConstructedRatingProto = null;
+                if (player1StatsProto.hasConstructedGlickoRating()) {
+                    player1ConstructedRatingProto = player1StatsProto.getConstructedGlickoRating();
+                }
+
+                ResultProtos.GlickoRatingProto player2ConstructedRatingProto = null;
+                if (player2StatsProto.hasConstructedGlickoRating()) {
+                    player2ConstructedRatingProto = player2StatsProto.getConstructedGlickoRating();
+                }
+
+                updateRating(player1ConstructedRatingProto, player2ConstructedRatingProto, outcome, matchEndTimeMs,
+                        player1StatsBuilder.getConstructedGlickoRatingBuilder(), player2StatsBuilder.getConstructedGlickoRatingBuilder());
+            }
+        }
+
+        setProto(player1StatsBuilder.build(), player1EndTimeMs);
+        setProto(player2StatsBuilder.build(), player2EndTimeMs);
+    }
+
+    private void updateRating(
+            ResultProtos.GlickoRatingProto player1RatingProto,
+            ResultProtos.GlickoRatingProto player2RatingProto,
+            double outcome,
+            long tableEndTimeMs,
+            ResultProtos.GlickoRatingProto.Builder player1GlickoRatingBuilder,
+            ResultProtos.GlickoRatingProto.Builder player2GlickoRatingBuilder) {
+
+        GlickoRating player1GlickoRating;
+        if (player1RatingProto != null) {
+            player1GlickoRating = new GlickoRating(
+                    player1RatingProto.getRating(),
+                    player1RatingProto.getRatingDeviation(),
+                    player1RatingProto.getLastGameTimeMs());
+        } else {
+            player1GlickoRating = GlickoRatingSystem.getInitialRating();
+        }
+
+        GlickoRating player2GlickoRating;
+        if (player2RatingProto != null) {
+            player2GlickoRating = new GlickoRating(
+                    player2RatingProto.getRating(),
+                    player2RatingProto.getRatingDeviation(),
+                    player2RatingProto.getLastGameTimeMs());
+        } else {
+            player2GlickoRating = GlickoRatingSystem.getInitialRating();
+        }
+
+        GlickoRatingSystem glickoRatingSystem = new GlickoRatingSystem();
+        glickoRatingSystem.updateRating(player1GlickoRating, player2GlickoRating, outcome, tableEndTimeMs);
+
+        player1GlickoRatingBuilder
+                .setRating(player1GlickoRating.getRating())
+                .setRatingDeviation(player1GlickoRating.getRatingDeviation())
+                .setLastGameTimeMs(tableEndTimeMs);
+
+        player2GlickoRatingBuilder
+                .setRating(player2GlickoRating.getRating())
+                .setRatingDeviation(player2GlickoRating.getRatingDeviation())
+                .setLastGameTimeMs(tableEndTimeMs);
+    }
+}
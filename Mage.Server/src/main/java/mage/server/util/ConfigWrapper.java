@@ -47,6 +47,14 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getNumAcceptThreads().intValue();
     }
 
+    public int getNioPort() {
+        return config.getServer().getNioPort().intValue();
+    }
+
+    public int getNioIoThreads() {
+        return config.getServer().getNioIoThreads().intValue();
+    }
+
     public int getBacklogSize() {
         return config.getServer().getBacklogSize().intValue();
     }
@@ -87,6 +95,10 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().isSaveGameActivated();
     }
 
+    public boolean isGameViewDiffActivated() {
+        return config.getServer().isGameViewDiffActivated();
+    }
+
     public Boolean isAuthenticationActivated() {
         return config.getServer().isAuthenticationActivated();
     }
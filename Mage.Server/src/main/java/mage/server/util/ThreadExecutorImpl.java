@@ -2,6 +2,7 @@ package mage.server.util;
 
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ThreadExecutor;
+import mage.util.GameThreadLimiter;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
@@ -20,7 +21,9 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     private static final int GAMES_PER_TOURNEY_RATIO = 50 / 10;
 
     private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
+    private final ExecutorService callbackExecutor; // network threads to send data to clients, so slow clients can't freeze game threads
     private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
+    private final GameThreadLimiter gameThreadLimiter; // limit for games processed at the same time (waiting games are not counted)
     private final ExecutorService tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
     private final ScheduledExecutorService timeoutExecutor;
     private final ScheduledExecutorService timeoutIdleExecutor;
@@ -30,8 +33,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
      * noxx: what the settings below do is setting the ability to keep OS
      * threads for new games for 60 seconds If there is no new game created
      * within this time period, the thread may be discarded. But anyway if new
-     * game is created later, new OS/java thread will be created for it taking
-     * MaxGameThreads limit into account.
+     * game is created later, new OS/java thread will be created for it.
+     * <p>
+     * Game threads are not limited by pool size: game thread sleeps most of the
+     * time on human's decision points, so MaxGameThreads limits only games
+     * processed at the same time (see GameThreadLimiter), not hosted games.
      * <p>
      * This all is done for performance reasons as creating new OS threads is
      * resource consuming process.
@@ -39,13 +45,19 @@ public class ThreadExecutorImpl implements ThreadExecutor {
 
     public ThreadExecutorImpl(ConfigSettings config) {
         //callExecutor = Executors.newCachedThreadPool();
-        callExecutor = new CachedThreadPoolWithException();
+        callExecutor = new CachedThreadPoolWithException("CALL");
         ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
 
-        //gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+        callbackExecutor = new CachedThreadPoolWithException("CALLBACK");
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_NETWORK_CALLBACK_SENDER));
+
+        //gameExecutor = Executors.newCachedThreadPool();
+        gameExecutor = new CachedThreadPoolWithException("GAME");
+        gameThreadLimiter = new GameThreadLimiter(config.getMaxGameThreads());
         ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
@@ -71,19 +83,22 @@ public class ThreadExecutorImpl implements ThreadExecutor {
 
     static class CachedThreadPoolWithException extends ThreadPoolExecutor {
 
-        CachedThreadPoolWithException() {
+        private final String threadsInfo;
+
+        CachedThreadPoolWithException(String threadsInfo) {
             // use same params as Executors.newCachedThreadPool()
             super(0, Integer.MAX_VALUE,60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+            this.threadsInfo = threadsInfo;
         }
 
         @Override
         protected void afterExecute(Runnable r, Throwable t) {
             super.afterExecute(r, t);
 
-            // catch errors in CALL threads (from client commands)
+            // catch errors in CALL threads (from client commands) and GAME threads (from game processing)
             t = ThreadUtils.findRunnableException(r, t);
             if (t != null && !(t instanceof CancellationException)) {
-                logger.error("Catch unhandled error in CALL thread: " + t.getMessage(), t);
+                logger.error("Catch unhandled error in " + threadsInfo + " thread: " + t.getMessage(), t);
             }
         }
     }
@@ -99,11 +114,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         protected void afterExecute(Runnable r, Throwable t) {
             super.afterExecute(r, t);
 
-            // catch errors in GAME threads (from game processing)
+            // catch errors in TOURNEY threads (from tourney processing)
             t = ThreadUtils.findRunnableException(r, t);
             if (t != null && !(t instanceof CancellationException)) {
-                // it's impossible to brake game thread in normal use case, so each bad use case must be researched
-                logger.error("Catch unhandled error in GAME thread: " + t.getMessage(), t);
+                // it's impossible to brake tourney thread in normal use case, so each bad use case must be researched
+                logger.error("Catch unhandled error in TOURNEY thread: " + t.getMessage(), t);
             }
         }
     }
@@ -121,6 +136,16 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return callExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    @Override
+    public GameThreadLimiter getGameThreadLimiter() {
+        return gameThreadLimiter;
+    }
+
     @Override
     public ExecutorService getTourneyExecutor() {
         return tourneyExecutor;
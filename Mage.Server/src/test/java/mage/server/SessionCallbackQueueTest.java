@@ -0,0 +1,133 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.view.GameViewDiff;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionCallbackQueueTest {
+
+    private static ClientCallback diffUpdate(UUID gameId) {
+        return new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, new GameViewDiff(1, null, Collections.emptyMap()), false);
+    }
+
+    private static ClientCallback inform(UUID gameId) {
+        return new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, gameId, null, false);
+    }
+
+    private static ClientCallback dialog(UUID gameId) {
+        return new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId, null, false);
+    }
+
+    private static List<ClientCallback> pollAll(SessionCallbackQueue queue) {
+        List<ClientCallback> res = new ArrayList<>();
+        SessionCallbackQueue.Entry entry;
+        while ((entry = queue.poll()) != null) {
+            res.add(entry.getCall());
+        }
+        return res;
+    }
+
+    @Test
+    @DisplayName("should start single writer")
+    void startSingleWriter() {
+        SessionCallbackQueue queue = new SessionCallbackQueue();
+        UUID gameId = UUID.randomUUID();
+        assertThat(queue.add(dialog(gameId))).isEqualTo(SessionCallbackQueue.AddResult.START_WRITER);
+        assertThat(queue.add(dialog(gameId))).isEqualTo(SessionCallbackQueue.AddResult.QUEUED);
+        assertThat(pollAll(queue)).hasSize(2);
+
+        // writer stopped on empty queue
+        assertThat(queue.add(dialog(gameId))).isEqualTo(SessionCallbackQueue.AddResult.START_WRITER);
+    }
+
+    @Test
+    @DisplayName("should replace not sent game updates and keep dialogs order")
+    void coalesceGameUpdates() {
+        SessionCallbackQueue queue = new SessionCallbackQueue();
+        UUID gameId = UUID.randomUUID();
+        UUID otherGameId = UUID.randomUUID();
+        ClientCallback update = diffUpdate(gameId);
+        ClientCallback ask = dialog(gameId);
+        ClientCallback otherUpdate = diffUpdate(otherGameId);
+        ClientCallback oldInform = inform(gameId);
+        ClientCallback newInform = inform(gameId);
+
+        queue.add(update);
+        queue.add(ask);
+        queue.add(otherUpdate);
+        queue.add(oldInform);
+        queue.add(newInform);
+
+        assertThat(queue.getCoalescedCount()).isEqualTo(2);
+        assertThat(pollAll(queue)).containsExactly(ask, otherUpdate, newInform);
+    }
+
+    @Test
+    @DisplayName("should send all diffs cause each diff depends on the previous one")
+    void keepDiffs() {
+        SessionCallbackQueue queue = new SessionCallbackQueue();
+        UUID gameId = UUID.randomUUID();
+        ClientCallback inform = inform(gameId);
+        ClientCallback diff1 = diffUpdate(gameId);
+        ClientCallback diff2 = diffUpdate(gameId);
+
+        queue.add(inform);
+        queue.add(diff1);
+        queue.add(diff2);
+
+        assertThat(queue.getCoalescedCount()).isEqualTo(0);
+        assertThat(pollAll(queue)).containsExactly(inform, diff1, diff2);
+    }
+
+    @Test
+    @DisplayName("should find not sent game updates, so diffs can be collapsed by full game view")
+    void findGameUpdates() {
+        SessionCallbackQueue queue = new SessionCallbackQueue();
+        UUID gameId = UUID.randomUUID();
+        UUID otherGameId = UUID.randomUUID();
+
+        queue.add(dialog(gameId));
+        queue.add(inform(gameId));
+        assertThat(queue.hasGameUpdate(gameId)).isFalse();
+
+        queue.add(diffUpdate(gameId));
+        assertThat(queue.hasGameUpdate(gameId)).isTrue();
+        assertThat(queue.hasGameUpdate(otherGameId)).isFalse();
+
+        pollAll(queue);
+        assertThat(queue.hasGameUpdate(gameId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject callbacks on full queue")
+    void overflow() {
+        SessionCallbackQueue queue = new SessionCallbackQueue();
+        UUID gameId = UUID.randomUUID();
+        for (int i = 0; i < SessionCallbackQueue.MAX_QUEUE_SIZE; i++) {
+            assertThat(queue.add(dialog(gameId))).isNotEqualTo(SessionCallbackQueue.AddResult.OVERFLOW);
+        }
+        assertThat(queue.add(dialog(gameId))).isEqualTo(SessionCallbackQueue.AddResult.OVERFLOW);
+    }
+
+    @Test
+    @DisplayName("should accept game update on full queue if it replaces old one")
+    void coalesceOnFullQueue() {
+        SessionCallbackQueue queue = new SessionCallbackQueue();
+        UUID gameId = UUID.randomUUID();
+        for (int i = 0; i < SessionCallbackQueue.MAX_QUEUE_SIZE - 1; i++) {
+            queue.add(dialog(gameId));
+        }
+        queue.add(inform(gameId));
+        assertThat(queue.add(inform(gameId))).isEqualTo(SessionCallbackQueue.AddResult.QUEUED);
+        assertThat(queue.size()).isEqualTo(SessionCallbackQueue.MAX_QUEUE_SIZE);
+    }
+}
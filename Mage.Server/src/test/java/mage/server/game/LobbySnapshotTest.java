@@ -0,0 +1,97 @@
+package mage.server.game;
+
+import mage.utils.CompressUtil;
+import mage.view.LobbyUpdateView;
+import mage.view.RoomUsersView;
+import mage.view.UsersView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LobbySnapshotTest {
+
+    private static List<RoomUsersView> createUsers(String... names) {
+        List<UsersView> users = new ArrayList<>();
+        for (String name : names) {
+            users.add(new UsersView("world", name, "", 0, "", 0, "", "", 1500, 1500, 1500));
+        }
+        return Collections.singletonList(new RoomUsersView(users, 0, 0, 10));
+    }
+
+    @Test
+    @DisplayName("should change version on real changes only")
+    void changeVersionOnChangesOnly() {
+        LobbySnapshot snapshot = new LobbySnapshot(UUID.randomUUID());
+        assertThat(snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user1"))).isTrue();
+        assertThat(snapshot.getVersion()).isEqualTo(1);
+
+        // same data
+        assertThat(snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user1"))).isFalse();
+        assertThat(snapshot.update(new ArrayList<>(), new ArrayList<>(), null)).isFalse();
+        assertThat(snapshot.getVersion()).isEqualTo(1);
+
+        // new data
+        assertThat(snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user1", "user2"))).isTrue();
+        assertThat(snapshot.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should send changed data since client's version")
+    void prepareUpdates() {
+        UUID roomId = UUID.randomUUID();
+        LobbySnapshot snapshot = new LobbySnapshot(roomId);
+        snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user1"));
+
+        // new client
+        LobbyUpdateView full = snapshot.prepareUpdate(0);
+        assertThat(full.isFull()).isTrue();
+        assertThat(full.getRoomId()).isEqualTo(roomId);
+        assertThat(full.getVersion()).isEqualTo(1);
+        assertThat(full.getFinishedMatches()).isNotNull();
+        assertThat(full.getRoomUsers()).isNotNull();
+
+        // actual client
+        assertThat(snapshot.prepareUpdate(1)).isNull();
+
+        // changed users only
+        snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user2"));
+        LobbyUpdateView diff = snapshot.prepareUpdate(1);
+        assertThat(diff.isFull()).isFalse();
+        assertThat(diff.getBaseVersion()).isEqualTo(1);
+        assertThat(diff.getVersion()).isEqualTo(2);
+        assertThat(diff.getChangedTables()).isEmpty();
+        assertThat(diff.getFinishedMatches()).isNull();
+        assertThat(diff.getRoomUsers().get(0).getUsersView().get(0).getUserName()).isEqualTo("user2");
+
+        // same update for all clients with same version
+        assertThat(snapshot.prepareUpdate(1)).isSameAs(diff);
+
+        // unknown version
+        assertThat(snapshot.prepareUpdate(100).isFull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should compress update once for all clients with same version")
+    void shareCompressedUpdates() {
+        LobbySnapshot snapshot = new LobbySnapshot(UUID.randomUUID());
+        snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user1"));
+
+        LobbySnapshot.PreparedUpdate update = snapshot.prepareSharedUpdate(0);
+        Object data = update.getCompressedData();
+        assertThat(snapshot.prepareSharedUpdate(0).getCompressedData()).isSameAs(data);
+        assertThat(snapshot.prepareUpdate(0)).isSameAs(update.getView());
+        LobbyUpdateView clientView = (LobbyUpdateView) CompressUtil.decompress(data);
+        assertThat(clientView.getVersion()).isEqualTo(1);
+        assertThat(clientView.getRoomUsers().get(0).getUsersView().get(0).getUserName()).isEqualTo("user1");
+
+        // new version must be compressed again
+        snapshot.update(new ArrayList<>(), new ArrayList<>(), createUsers("user2"));
+        assertThat(snapshot.prepareSharedUpdate(0).getCompressedData()).isNotSameAs(data);
+    }
+}
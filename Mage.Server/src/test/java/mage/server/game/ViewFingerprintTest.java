@@ -0,0 +1,79 @@
+package mage.server.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewFingerprintTest {
+
+    private static class TestView implements Serializable {
+        private final UUID id;
+        private String name;
+        private int counters;
+        private List<String> rules;
+        private TestView child;
+        private transient String cache;
+
+        TestView(UUID id, String name, int counters, String... rules) {
+            this.id = id;
+            this.name = name;
+            this.counters = counters;
+            this.rules = new ArrayList<>(Arrays.asList(rules));
+        }
+    }
+
+    @Test
+    @DisplayName("should have same fingerprint for same data")
+    void sameData() {
+        UUID id = UUID.randomUUID();
+        TestView view = new TestView(id, "Grizzly Bears", 1, "rule 1", "rule 2");
+        TestView sameView = new TestView(id, "Grizzly Bears", 1, "rule 1", "rule 2");
+        assertThat(ViewFingerprint.of(view)).isEqualTo(ViewFingerprint.of(sameView));
+
+        // not serialized data must be ignored
+        sameView.cache = "cache";
+        assertThat(ViewFingerprint.of(view)).isEqualTo(ViewFingerprint.of(sameView));
+    }
+
+    @Test
+    @DisplayName("should find changes in any data")
+    void changedData() {
+        UUID id = UUID.randomUUID();
+        TestView view = new TestView(id, "Grizzly Bears", 1, "rule 1");
+        long print = ViewFingerprint.of(view);
+
+        assertThat(ViewFingerprint.of(new TestView(UUID.randomUUID(), "Grizzly Bears", 1, "rule 1"))).isNotEqualTo(print);
+        assertThat(ViewFingerprint.of(new TestView(id, "Grizzly Bear", 1, "rule 1"))).isNotEqualTo(print);
+        assertThat(ViewFingerprint.of(new TestView(id, "Grizzly Bears", 2, "rule 1"))).isNotEqualTo(print);
+        assertThat(ViewFingerprint.of(new TestView(id, "Grizzly Bears", 1, "rule 2"))).isNotEqualTo(print);
+        assertThat(ViewFingerprint.of(new TestView(id, "Grizzly Bears", 1, "rule 1", null))).isNotEqualTo(print);
+
+        // nested data
+        view.child = new TestView(id, "Grizzly Bears", 1);
+        long childPrint = ViewFingerprint.of(view);
+        assertThat(childPrint).isNotEqualTo(print);
+        view.child.counters++;
+        assertThat(ViewFingerprint.of(view)).isNotEqualTo(childPrint);
+    }
+
+    @Test
+    @DisplayName("should support cycled data")
+    void cycledData() {
+        UUID id = UUID.randomUUID();
+        TestView view = new TestView(id, "Delver of Secrets", 0);
+        view.child = new TestView(id, "Insectile Aberration", 0);
+        view.child.child = view;
+        long print = ViewFingerprint.of(view);
+        assertThat(ViewFingerprint.of(view)).isEqualTo(print);
+
+        view.child.name = "Insectile Aberration 2";
+        assertThat(ViewFingerprint.of(view)).isNotEqualTo(print);
+    }
+}
@@ -0,0 +1,112 @@
+package mage.server.record;
+
+import mage.game.result.ResultProtos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserStatsUpdaterTest {
+
+    private static final int RECORDS_COUNT = 10000;
+    private static final int USERS_COUNT = 500;
+
+    private static TableRecord createMatchRecord(String player1, String player2, int player1Wins, boolean limited, long endTimeMs) {
+        ResultProtos.MatchProto match = ResultProtos.MatchProto.newBuilder()
+                .setMatchOptions(ResultProtos.MatchOptionsProto.newBuilder()
+                        .setRated(true)
+                        .setLimited(limited))
+                .addPlayers(ResultProtos.MatchPlayerProto.newBuilder()
+                        .setName(player1)
+                        .setHuman(true)
+                        .setWins(player1Wins))
+                .addPlayers(ResultProtos.MatchPlayerProto.newBuilder()
+                        .setName(player2)
+                        .setHuman(true)
+                        .setWins(1 - player1Wins)
+                        .setQuit(endTimeMs % 10 == 0 ? ResultProtos.MatchQuitStatus.QUIT : ResultProtos.MatchQuitStatus.NO_MATCH_QUIT))
+                .build();
+        ResultProtos.TableProto table = ResultProtos.TableProto.newBuilder()
+                .setControllerName(player1)
+                .setEndTimeMs(endTimeMs)
+                .setMatch(match)
+                .build();
+        return new TableRecord(table, endTimeMs);
+    }
+
+    @Test
+    @DisplayName("should process many records in memory")
+    void processManyRecords() {
+        Random random = new Random(42);
+        List<TableRecord> records = new ArrayList<>();
+        for (int i = 0; i < RECORDS_COUNT; i++) {
+            int player1 = random.nextInt(USERS_COUNT);
+            int player2 = (player1 + 1 + random.nextInt(USERS_COUNT - 1)) % USERS_COUNT;
+            records.add(createMatchRecord("user" + player1, "user" + player2, random.nextInt(2), random.nextBoolean(), 1000 + i));
+        }
+
+        // half of users already known
+        Set<String> userNames = UserStatsUpdater.collectUserNames(records);
+        assertThat(userNames).hasSize(USERS_COUNT);
+        Map<String, UserStats> loadedStats = new HashMap<>();
+        for (int i = 0; i < USERS_COUNT / 2; i++) {
+            ResultProtos.UserStatsProto proto = ResultProtos.UserStatsProto.newBuilder()
+                    .setName("user" + i)
+                    .setMatches(10)
+                    .build();
+            loadedStats.put(proto.getName(), new UserStats(proto, 500));
+        }
+
+        long startTime = System.currentTimeMillis();
+        UserStatsUpdater updater = new UserStatsUpdater(loadedStats);
+        updater.process(records);
+        List<UserStats> changedStats = updater.getChangedStats();
+        long processTime = System.currentTimeMillis() - startTime;
+        assertThat(processTime).isLessThan(5000);
+
+        assertThat(updater.getUpdatedUsers()).hasSize(USERS_COUNT);
+        assertThat(changedStats).hasSize(USERS_COUNT);
+
+        int totalMatches = 0;
+        int totalQuits = 0;
+        for (UserStats userStats : changedStats) {
+            ResultProtos.UserStatsProto proto = userStats.getProto();
+            totalMatches += proto.getMatches();
+            totalQuits += proto.getMatchesQuit();
+            assertThat(proto.hasGeneralGlickoRating()).isTrue();
+            assertThat(updater.isNewUser(proto.getName())).isEqualTo(!loadedStats.containsKey(proto.getName()));
+            if (updater.isNewUser(proto.getName())) {
+                assertThat(userStats.getEndTimeMs()).isGreaterThanOrEqualTo(1000);
+            }
+        }
+        assertThat(totalMatches).isEqualTo(RECORDS_COUNT * 2 + 10 * (USERS_COUNT / 2));
+        assertThat(totalQuits).isEqualTo(RECORDS_COUNT / 10);
+    }
+
+    @Test
+    @DisplayName("should use stats from previous records of the same batch")
+    void processSameUserRecords() {
+        List<TableRecord> records = Arrays.asList(
+                createMatchRecord("user1", "user2", 1, false, 1001),
+                createMatchRecord("user1", "user2", 1, false, 1002)
+        );
+
+        UserStatsUpdater updater = new UserStatsUpdater(new HashMap<>());
+        updater.process(records);
+
+        Map<String, ResultProtos.UserStatsProto> protos = new HashMap<>();
+        updater.getChangedStats().forEach(userStats -> protos.put(userStats.getProto().getName(), userStats.getProto()));
+        assertThat(protos.get("user1").getMatches()).isEqualTo(2);
+        assertThat(protos.get("user2").getMatches()).isEqualTo(2);
+
+        // winner of both matches must get rating from both matches
+        double rating1 = protos.get("user1").getGeneralGlickoRating().getRating();
+        double rating2 = protos.get("user2").getGeneralGlickoRating().getRating();
+        assertThat(rating1).isGreaterThan(rating2);
+        assertThat(protos.get("user1").getGeneralGlickoRating().getLastGameTimeMs()).isEqualTo(1002);
+        assertThat(protos.get("user1").hasConstructedGlickoRating()).isTrue();
+        assertThat(protos.get("user1").hasLimitedGlickoRating()).isFalse();
+    }
+}
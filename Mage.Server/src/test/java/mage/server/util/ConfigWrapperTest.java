@@ -33,6 +33,8 @@ public class ConfigWrapperTest {
         public int socketWriteTimeout;
         public int maxPoolSize;
         public int numAcceptThreads;
+        public int nioPort;
+        public int nioIoThreads;
         public int backlogSize;
         public int maxGameThreads;
         public int maxSecondsIdle;
@@ -43,6 +45,7 @@ public class ConfigWrapperTest {
         public int maxPasswordLength;
         public String maxAiOpponents;
         public boolean saveGameActivated;
+        public boolean gameViewDiffActivated;
         public boolean authenticationActivated;
         public String googleAccount;
         public String mailgunApiKey;
@@ -84,6 +87,8 @@ public class ConfigWrapperTest {
             server.setSocketWriteTimeout(bi(socketWriteTimeout));
             server.setMaxPoolSize(bi(maxPoolSize));
             server.setNumAcceptThreads(bi(numAcceptThreads));
+            server.setNioPort(bi(nioPort));
+            server.setNioIoThreads(bi(nioIoThreads));
             server.setBacklogSize(bi(backlogSize));
             server.setMaxGameThreads(bi(maxGameThreads));
             server.setMaxSecondsIdle(bi(maxSecondsIdle));
@@ -94,6 +99,7 @@ public class ConfigWrapperTest {
             server.setMaxPasswordLength(bi(maxPasswordLength));
             server.setMaxAiOpponents(maxAiOpponents);
             server.setSaveGameActivated(saveGameActivated);
+            server.setGameViewDiffActivated(gameViewDiffActivated);
             server.setAuthenticationActivated(authenticationActivated);
             server.setGoogleAccount(googleAccount);
             server.setMailgunApiKey(mailgunApiKey);
@@ -161,6 +167,8 @@ public class ConfigWrapperTest {
                 testInt("socket write timeout", c -> c.socketWriteTimeout = expectedPositiveInt, ConfigWrapper::getSocketWriteTimeout),
                 testInt("max pool size", c -> c.maxPoolSize = expectedPositiveInt, ConfigWrapper::getMaxPoolSize),
                 testInt("number of accept threads", c -> c.numAcceptThreads = expectedPositiveInt, ConfigWrapper::getNumAcceptThreads),
+                testInt("nio port", c -> c.nioPort = expectedPositiveInt, ConfigWrapper::getNioPort),
+                testInt("nio io threads", c -> c.nioIoThreads = expectedPositiveInt, ConfigWrapper::getNioIoThreads),
                 testInt("backlog size", c -> c.backlogSize = expectedPositiveInt, ConfigWrapper::getBacklogSize),
                 testInt("max game threads", c -> c.maxGameThreads = expectedPositiveInt, ConfigWrapper::getMaxGameThreads),
                 testInt("max seconds idle", c -> c.maxSecondsIdle = expectedPositiveInt, ConfigWrapper::getMaxSecondsIdle),
@@ -171,6 +179,7 @@ public class ConfigWrapperTest {
                 testInt("max password length", c -> c.maxPasswordLength = expectedPositiveInt, ConfigWrapper::getMaxPasswordLength),
                 testString("max AI opponents", c -> c.maxAiOpponents = expectedString, ConfigWrapper::getMaxAiOpponents),
                 testTrue("save game activated", c -> c.saveGameActivated = true, ConfigWrapper::isSaveGameActivated),
+                testTrue("game view diff activated", c -> c.gameViewDiffActivated = true, ConfigWrapper::isGameViewDiffActivated),
                 testTrue("authentication activated", c -> c.authenticationActivated = true, ConfigWrapper::isAuthenticationActivated),
                 testString("google account", c -> c.googleAccount = expectedString, ConfigWrapper::getGoogleAccount),
                 testString("mailgun api key", c -> c.mailgunApiKey = expectedString, ConfigWrapper::getMailgunApiKey),
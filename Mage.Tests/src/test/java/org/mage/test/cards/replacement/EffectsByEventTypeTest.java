@@ -0,0 +1,44 @@
+package org.mage.test.cards.replacement;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Replacement and rule modifying effects can be searched by event type, see ContinuousEffectsList.getByEventType
+ */
+public class EffectsByEventTypeTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_EffectsWithAndWithoutDeclaredTypesMustWork() {
+        // Prevent all combat damage that would be dealt this turn.
+        addCard(Zone.HAND, playerA, "Holy Day", 1); // {W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        //
+        // Your opponents can't cast spells this turn.
+        addCard(Zone.HAND, playerB, "Silence", 1); // {W}
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 1);
+
+        // rule modifying effect
+        checkPlayableAbility("before silence", 1, PhaseStep.UPKEEP, playerA, "Cast Lightning Bolt", true);
+        castSpell(1, PhaseStep.UPKEEP, playerB, "Silence");
+        waitStackResolved(1, PhaseStep.UPKEEP);
+        checkPlayableAbility("after silence", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Cast Lightning Bolt", false);
+        checkPlayableAbility("after silence", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Cast Holy Day", false);
+
+        // prevention effect
+        castSpell(3, PhaseStep.PRECOMBAT_MAIN, playerA, "Holy Day");
+        attack(3, playerA, "Silvercoat Lion");
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerA, "Holy Day", 1);
+        assertLife(playerB, 20);
+    }
+}
@@ -0,0 +1,38 @@
+package org.mage.test.cards.triggers;
+
+import mage.abilities.TriggeredAbilities;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Triggers with declared event types must work same way as triggers without it (see TriggeredAbility.getTriggerEventTypes)
+ */
+public class TriggersEventTypeIndexTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_IndexedTriggerMustWork() {
+        // Flying
+        // Whenever Hypnotic Specter deals damage to an opponent, that player discards a card at random.
+        addCard(Zone.BATTLEFIELD, playerA, "Hypnotic Specter", 1);
+        addCard(Zone.HAND, playerB, "Grizzly Bears", 1);
+
+        // state copy must keep triggers and its index
+        runCode("state copy", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            TriggeredAbilities triggers = game.getState().copy().getTriggers();
+            Assert.assertEquals("triggers copy must keep all triggers", game.getState().getTriggers().size(), triggers.size());
+        });
+
+        attack(1, playerA, "Hypnotic Specter");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20 - 2);
+        assertHandCount(playerB, "Grizzly Bears", 0);
+        assertGraveyardCount(playerB, "Grizzly Bears", 1);
+    }
+}
@@ -0,0 +1,134 @@
+package org.mage.test.load;
+
+import mage.interfaces.MageServer;
+import mage.remote.nio.NioClient;
+import mage.remote.nio.NioConnection;
+import mage.remote.nio.NioEventLoop;
+import mage.remote.nio.NioMessage;
+import mage.remote.nio.NioServer;
+import org.apache.log4j.Logger;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Network load test for nio transport: many idle clients, pipelined requests and server push
+ * on loopback, without real game server (commands processed by stub)
+ * <p>
+ * Compare threads usage with jboss transport: it needs few threads per each connected client
+ */
+public class NioTransportLoadTest {
+
+    private static final Logger logger = Logger.getLogger(NioTransportLoadTest.class);
+
+    private static final int TEST_CLIENTS_COUNT = 1000;
+    private static final int TEST_IO_THREADS = 2;
+    private static final int TEST_WORKER_THREADS = 8;
+    private static final int TEST_REQUEST_THREADS = 8;
+    private static final int TEST_REQUESTS_PER_THREAD = 5000;
+
+    @Test
+    @Ignore
+    public void test_ManyClientsOnLoopback() throws Throwable {
+        Map<String, NioConnection> connections = new ConcurrentHashMap<>();
+        MageServer stubServer = (MageServer) Proxy.newProxyInstance(
+                MageServer.class.getClassLoader(),
+                new Class<?>[]{MageServer.class},
+                (proxy, method, args) -> method.getName().equals("ping") ? Boolean.TRUE : null
+        );
+        NioServer server = new NioServer(MageServer.class, stubServer, new NioServer.SessionListener() {
+            @Override
+            public void onConnect(String sessionId, String host, NioConnection connection) {
+                connections.put(sessionId, connection);
+            }
+
+            @Override
+            public void onDisconnect(String sessionId, boolean byUser, boolean keepSession) {
+                connections.remove(sessionId);
+            }
+        }, null, TEST_IO_THREADS, TEST_WORKER_THREADS);
+        server.start("localhost", 0, 1000);
+
+        int threadsBefore = Thread.activeCount();
+        NioEventLoop clientsLoop = new NioEventLoop();
+        ExecutorService clientsCallbacks = Executors.newSingleThreadExecutor();
+        AtomicInteger receivedCallbacks = new AtomicInteger();
+        List<NioClient> clients = new ArrayList<>();
+        try {
+            // idle clients
+            long startTime = System.currentTimeMillis();
+            for (int i = 0; i < TEST_CLIENTS_COUNT; i++) {
+                NioClient client = new NioClient(clientsLoop, clientsCallbacks, data -> receivedCallbacks.incrementAndGet(), null);
+                client.connect("localhost", server.getPort(), 5000);
+                clients.add(client);
+            }
+            logger.info(String.format("Connected %d clients in %d ms, server connections: %d, threads: %d -> %d",
+                    TEST_CLIENTS_COUNT,
+                    System.currentTimeMillis() - startTime,
+                    server.getConnectionsCount(),
+                    threadsBefore,
+                    Thread.activeCount()
+            ));
+            Assert.assertEquals(TEST_CLIENTS_COUNT, connections.size());
+
+            // pipelined requests from many threads by one connection
+            NioClient client = clients.get(0);
+            MageServer clientServer = client.createProxy(MageServer.class);
+            ExecutorService requestsExecutor = Executors.newFixedThreadPool(TEST_REQUEST_THREADS);
+            List<Future<Long>> results = new ArrayList<>();
+            startTime = System.currentTimeMillis();
+            for (int i = 0; i < TEST_REQUEST_THREADS; i++) {
+                results.add(requestsExecutor.submit(() -> {
+                    long maxLatency = 0;
+                    for (int j = 0; j < TEST_REQUESTS_PER_THREAD; j++) {
+                        long callStart = System.nanoTime();
+                        Assert.assertTrue(clientServer.ping(client.getSessionId(), ""));
+                        maxLatency = Math.max(maxLatency, System.nanoTime() - callStart);
+                    }
+                    return maxLatency;
+                }));
+            }
+            long maxLatency = 0;
+            for (Future<Long> result : results) {
+                maxLatency = Math.max(maxLatency, result.get());
+            }
+            requestsExecutor.shutdown();
+            long requestsTime = Math.max(1, System.currentTimeMillis() - startTime);
+            int requestsCount = TEST_REQUEST_THREADS * TEST_REQUESTS_PER_THREAD;
+            logger.info(String.format("Processed %d requests in %d ms (%d per sec), avg latency: %.3f ms, max latency: %.3f ms",
+                    requestsCount,
+                    requestsTime,
+                    requestsCount * 1000L / requestsTime,
+                    (double) requestsTime * TEST_REQUEST_THREADS / requestsCount,
+                    maxLatency / 1_000_000.0
+            ));
+
+            // server push to all clients
+            startTime = System.currentTimeMillis();
+            for (NioConnection connection : connections.values()) {
+                connection.send(NioMessage.callback("test"));
+            }
+            long endTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+            while (receivedCallbacks.get() < TEST_CLIENTS_COUNT && System.currentTimeMillis() < endTime) {
+                Thread.sleep(10);
+            }
+            logger.info(String.format("Pushed %d callbacks in %d ms",
+                    receivedCallbacks.get(),
+                    System.currentTimeMillis() - startTime
+            ));
+            Assert.assertEquals(TEST_CLIENTS_COUNT, receivedCallbacks.get());
+        } finally {
+            clients.forEach(client -> client.disconnect(false));
+            clientsLoop.shutdown();
+            clientsCallbacks.shutdown();
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.util.DebugUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Priority loop can skip layer effects apply without game changes, see GameImpl.applyEffectsIfChanged
+ */
+public class ApplyEffectsSkipTest extends CardTestPlayerBase {
+
+    private boolean oldCheckSkips;
+
+    @Before
+    public void enableSkipsCheck() {
+        // raise error on any skip with different result
+        oldCheckSkips = DebugUtil.GAME_APPLY_EFFECTS_CHECK_SKIPS;
+        DebugUtil.GAME_APPLY_EFFECTS_CHECK_SKIPS = true;
+    }
+
+    @After
+    public void restoreSkipsCheck() {
+        DebugUtil.GAME_APPLY_EFFECTS_CHECK_SKIPS = oldCheckSkips;
+    }
+
+    @Test
+    public void test_EffectsMustBeAppliedAfterChanges() {
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1); // creatures you control get +1/+1
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.HAND, playerA, "Giant Growth", 1); // +3/+3 until end of turn
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 1);
+        addCard(Zone.HAND, playerB, "Shock", 1); // 2 damage
+
+        checkPT("before", 1, PhaseStep.UPKEEP, playerA, "Silvercoat Lion", 3, 3);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Silvercoat Lion");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPT("boosted", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Silvercoat Lion", 6, 6);
+        checkPT("boosted on end step", 1, PhaseStep.END_TURN, playerA, "Silvercoat Lion", 6, 6);
+
+        // boost ends on turn end, so only anthem keeps lion alive
+        castSpell(2, PhaseStep.UPKEEP, playerB, "Shock", "Silvercoat Lion");
+        waitStackResolved(2, PhaseStep.UPKEEP);
+        checkPT("after boost", 2, PhaseStep.UPKEEP, playerA, "Silvercoat Lion", 3, 3);
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertPermanentCount(playerA, "Silvercoat Lion", 1);
+        assertPowerToughness(playerA, "Silvercoat Lion", 3, 3);
+        assertDamageReceived(playerA, "Silvercoat Lion", 2);
+    }
+}
@@ -0,0 +1,51 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.util.CardRulesCache;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+/**
+ * Rules text of unchanged objects must be reused between game views, see CardRulesCache
+ */
+public class CardRulesCacheTest extends CardTestPlayerBase {
+
+    private void assertFlying(String info, Game game, boolean mustHave) {
+        Permanent permanent = game.getBattlefield().getAllActivePermanents()
+                .stream()
+                .filter(p -> p.getName().equals("Silvercoat Lion"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(info, permanent);
+
+        long hits = CardRulesCache.getHits();
+        List<String> rules = permanent.getRules(game);
+        List<String> sameRules = permanent.getRules(game);
+        Assert.assertEquals(info + " - same rules for unchanged object", rules, sameRules);
+        Assert.assertTrue(info + " - must use cached rules", CardRulesCache.getHits() > hits);
+        Assert.assertEquals(info + " - flying", mustHave, rules.stream().anyMatch(rule -> rule.startsWith("Flying")));
+    }
+
+    @Test
+    public void test_RulesMustBeChangedWithAbilities() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1); // 2/2, without abilities
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.HAND, playerA, "Jump", 1); // {U}, target creature gains flying until end of turn
+
+        runCode("before", 1, PhaseStep.UPKEEP, playerA, (info, player, game) -> assertFlying(info, game, false));
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Jump", "Silvercoat Lion");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("gained", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> assertFlying(info, game, true));
+        runCode("lost", 2, PhaseStep.UPKEEP, playerB, (info, player, game) -> assertFlying(info, game, false));
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+}
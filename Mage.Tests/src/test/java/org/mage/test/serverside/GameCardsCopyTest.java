@@ -0,0 +1,81 @@
+package org.mage.test.serverside;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Rarity;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.UUID;
+
+/**
+ * Game copies share cards with the source game and both games clone it on first usage only, see GameImpl.getCard
+ */
+public class GameCardsCopyTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_CopyMustNotChangeSourceGame() {
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        UUID cardId = playerA.getHand().iterator().next();
+        Card sourceCard = currentGame.getCard(cardId);
+        Assert.assertNotNull(sourceCard);
+        Assert.assertSame(sourceCard, currentGame.getCard(cardId));
+
+        // copies clone card on first usage and use it all the time
+        Game copy = currentGame.copy();
+        Game copyOfCopy = copy.copy();
+        Card copiedCard = copy.getCard(cardId);
+        Assert.assertNotSame(sourceCard, copiedCard);
+        Assert.assertSame(copiedCard, copy.getCard(cardId));
+        Assert.assertEquals(sourceCard.getName(), copiedCard.getName());
+
+        // copy of copy must not change the parent copy
+        Card copiedCopyCard = copyOfCopy.getCards().stream()
+                .filter(card -> card.getId().equals(cardId))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(copiedCopyCard);
+        Assert.assertNotSame(sourceCard, copiedCopyCard);
+        Assert.assertNotSame(copiedCard, copiedCopyCard);
+        Assert.assertSame(copiedCard, copy.getCard(cardId));
+    }
+
+    @Test
+    public void test_CopyMustKeepDataFromCopyMoment() {
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        UUID cardId = playerA.getHand().iterator().next();
+        Card sourceCard = currentGame.getCard(cardId);
+        Rarity rarity = sourceCard.getRarity();
+
+        // source game continues after copy, so it must clone shared card before usage
+        Game copy = currentGame.copy();
+        Card changedSourceCard = currentGame.getCard(cardId);
+        Assert.assertNotSame(sourceCard, changedSourceCard);
+        Assert.assertSame(changedSourceCard, currentGame.getCard(cardId));
+        changedSourceCard.setRarity(Rarity.SPECIAL);
+        Assert.assertTrue(currentGame.getCards().contains(changedSourceCard));
+
+        // copy must see data from the copy moment (even if it uses card after the source changes)
+        Card copiedCard = copy.getCard(cardId);
+        Assert.assertNotSame(changedSourceCard, copiedCard);
+        Assert.assertEquals(rarity, copiedCard.getRarity());
+        Assert.assertEquals(rarity, sourceCard.getRarity());
+
+        // and vice versa
+        copiedCard.setRarity(Rarity.BONUS);
+        Assert.assertEquals(Rarity.SPECIAL, currentGame.getCard(cardId).getRarity());
+    }
+}
@@ -0,0 +1,62 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.server.game.GameRecorder;
+import mage.server.game.GameReplay;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Game record must keep checkpoints for replays, see GameRecorder
+ */
+public class GameRecorderTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_RecordAndReplay() throws IOException {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        Path file = Files.createTempFile("xmage-test", ".gamerec");
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            GameRecorder recorder = new GameRecorder(file, writer);
+            recorder.start(currentGame);
+            recorder.onUpdate(currentGame); // first checkpoint
+            recorder.onUpdate(currentGame); // same step, no checkpoint
+
+            // checkpoint must keep the state from the call moment (it will be written later by writer)
+            getPermanent("Grizzly Bears", playerA).tap(currentGame);
+            Assert.assertTrue("must finish record", recorder.finish(currentGame));
+
+            GameReplay replay = new GameReplay(file);
+            Assert.assertNotNull("must load game", replay.getGame());
+            Assert.assertEquals(currentGame.getId(), replay.getGame().getId());
+            Assert.assertEquals("first and final checkpoints", 2, replay.getStatesCount());
+
+            replay.start();
+            GameState state = replay.next();
+            Assert.assertNotNull(state);
+            Assert.assertEquals(2, state.getTurnNum());
+            Assert.assertEquals(1, state.getBattlefield().getAllPermanents().size());
+            Assert.assertFalse(state.getBattlefield().getAllPermanents().iterator().next().isTapped());
+            state = replay.next();
+            Assert.assertNotNull(state);
+            Assert.assertTrue(state.getBattlefield().getAllPermanents().iterator().next().isTapped());
+            Assert.assertNull("no more states", replay.next());
+        } finally {
+            writer.shutdown();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -3,13 +3,22 @@ package org.mage.test.serverside;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.players.PlayableObjectStats;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.server.game.GameViewCache;
+import mage.server.game.GameViewDiffTracker;
+import mage.utils.CompressUtil;
+import mage.view.CardView;
 import mage.view.GameView;
+import mage.view.GameViewDiff;
+import mage.view.PermanentView;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -78,4 +87,189 @@ public class GameViewTest extends CardTestPlayerBase {
         gameView = getGameView(null, userWatcher);
         Assert.assertEquals(1, gameView.getWatchedHands().size());
     }
+
+    @Test
+    public void test_GameViewDiffs() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.HAND, playerA, "Forest", 2);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameViewDiffTracker tracker = new GameViewDiffTracker();
+
+        // first update must be full
+        Object data = sendToClient(tracker.prepareGameUpdate(getGameView(playerA)));
+        Assert.assertTrue(data instanceof GameView);
+        GameView clientView = (GameView) data;
+
+        // unchanged cards must be skipped
+        data = sendToClient(tracker.prepareGameUpdate(getGameView(playerA)));
+        Assert.assertTrue(data instanceof GameViewDiff);
+        GameViewDiff diff = (GameViewDiff) data;
+        Assert.assertEquals(0, diff.getGameView().getMyPlayer().getBattlefield().size());
+        Assert.assertEquals(0, diff.getGameView().getMyHand().size());
+        clientView = diff.applyTo(clientView);
+        Assert.assertNotNull(clientView);
+        Assert.assertEquals(4, clientView.getMyPlayer().getBattlefield().size());
+        Assert.assertEquals(2, clientView.getMyHand().size());
+
+        // changed cards must be sent
+        getPermanent("Grizzly Bears", playerA).tap(currentGame);
+        diff = (GameViewDiff) sendToClient(tracker.prepareGameUpdate(getGameView(playerA)));
+        Assert.assertEquals(1, diff.getGameView().getMyPlayer().getBattlefield().size());
+        GameView oldClientView = clientView;
+        clientView = diff.applyTo(clientView);
+        Assert.assertNotNull(clientView);
+        Assert.assertEquals(4, clientView.getMyPlayer().getBattlefield().size());
+        Assert.assertTrue(clientView.getMyPlayer().getBattlefield().values()
+                .stream()
+                .filter(permanent -> permanent.getName().equals("Grizzly Bears"))
+                .allMatch(PermanentView::isTapped));
+
+        // diff for unknown base must be ignored
+        diff = (GameViewDiff) sendToClient(tracker.prepareGameUpdate(getGameView(playerA)));
+        Assert.assertNull(diff.applyTo(oldClientView));
+
+        // client can ask for full game view
+        tracker.requestFullGameView();
+        Assert.assertTrue(tracker.prepareGameUpdate(getGameView(playerA)) instanceof GameView);
+    }
+
+    @Test
+    public void test_GameViewDiffsMustResetClientSideData() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.HAND, playerA, "Forest", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameViewDiffTracker tracker = new GameViewDiffTracker();
+        GameView clientView = (GameView) sendToClient(tracker.prepareGameUpdate(getGameView(playerA)));
+        PlayableObjectStats playableStats = new PlayableObjectStats(
+                getPermanent("Forest", playerA).getAbilities().getActivatedAbilities(Zone.BATTLEFIELD)
+        );
+        Assert.assertTrue(playableStats.getPlayableAmount() > 0);
+
+        // client marks cards by game view's data, next diffs reuse same card views, so it must be cleared each time
+        for (int i = 1; i <= 2; i++) {
+            for (CardView card : clientView.getMyPlayer().getBattlefield().values()) {
+                card.setCanAttack(true);
+                card.setCanBlock(true);
+                card.setChoosable(true);
+                card.setSelected(true);
+                card.setPlayableStats(playableStats.copy());
+            }
+            for (CardView card : clientView.getMyHand().values()) {
+                card.setChoosable(true);
+                card.setPlayableStats(playableStats.copy());
+            }
+
+            GameViewDiff diff = (GameViewDiff) sendToClient(tracker.prepareGameUpdate(getGameView(playerA)));
+            Assert.assertEquals("diff " + i, 0, diff.getGameView().getMyPlayer().getBattlefield().size());
+            clientView = diff.applyTo(clientView);
+            Assert.assertNotNull("diff " + i, clientView);
+            Assert.assertEquals("diff " + i, 2, clientView.getMyPlayer().getBattlefield().size());
+            Assert.assertEquals("diff " + i, 1, clientView.getMyHand().size());
+
+            for (CardView card : clientView.getMyPlayer().getBattlefield().values()) {
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isCanAttack());
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isCanBlock());
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isChoosable());
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isSelected());
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isPlayable());
+            }
+            for (CardView card : clientView.getMyHand().values()) {
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isChoosable());
+                Assert.assertFalse("diff " + i + ", " + card.getName(), card.isPlayable());
+            }
+        }
+    }
+
+    @Test
+    public void test_GameViewCacheForWatchers() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.HAND, playerA, "Forest", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        UUID userWatcher1 = UUID.randomUUID();
+        UUID userWatcher2 = UUID.randomUUID();
+        GameViewCache cache = new GameViewCache(currentGame);
+
+        // watchers must get same data, but in own containers
+        GameView gameView1 = cache.prepareWatcherGameView(userWatcher1);
+        GameView gameView2 = cache.prepareWatcherGameView(userWatcher2);
+        Assert.assertEquals(1, getBattlefieldSize(gameView1));
+        Assert.assertEquals(1, getBattlefieldSize(gameView2));
+        gameView1.getPlayers().forEach(player -> player.getBattlefield().clear());
+        Assert.assertEquals(0, getBattlefieldSize(gameView1));
+        Assert.assertEquals(1, getBattlefieldSize(gameView2));
+        Assert.assertEquals(1, getBattlefieldSize(cache.prepareWatcherGameView(userWatcher1)));
+
+        // watched hands must be personal
+        playerA.addPermissionToShowHandCards(userWatcher1);
+        cache.invalidate();
+        Assert.assertEquals(1, cache.prepareWatcherGameView(userWatcher1).getWatchedHands().size());
+        Assert.assertEquals(0, cache.prepareWatcherGameView(userWatcher2).getWatchedHands().size());
+
+        // game changes must be visible after invalidate
+        playerA.getHand().clear();
+        cache.invalidate();
+        Assert.assertEquals(0, cache.prepareWatcherGameView(userWatcher1).getWatchedHands().values().stream().mapToInt(Map::size).sum());
+    }
+
+    @Test
+    public void test_PlayableCalcReusesViewCopyForOuterCalcOnly() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+
+        runCode("check playable", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // nested calcs can change the game, so it must use own copies
+            Game playableGame = game.createSimulationForPlayableCalc();
+            Assert.assertNotSame(game, playableGame);
+            Assert.assertNotSame(playableGame, playableGame.createSimulationForPlayableCalc());
+
+            // reusable copy used by outer calc only
+            Game reusableGame = game.copy();
+            reusableGame.setSimulationForPlayableCalc();
+            Game outerGame = reusableGame.createSimulationForPlayableCalc();
+            Assert.assertSame(reusableGame, outerGame);
+            Assert.assertNotSame(outerGame, outerGame.createSimulationForPlayableCalc());
+
+            // game view uses own game copy for playable calc, so real game must be untouched
+            GameView gameView = getGameView(playerA);
+            Assert.assertFalse(game.isSimulation());
+            Assert.assertFalse(game.inCheckPlayableState());
+            UUID bearsId = getCardIdByName(game, "Grizzly Bears");
+            Assert.assertTrue("card must be playable in GUI", gameView.getCanPlayObjects().containsObject(bearsId));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private UUID getCardIdByName(Game game, String cardName) {
+        return playerA.getHand().getCards(game).stream()
+                .filter(card -> card.getName().equals(cardName))
+                .map(card -> card.getId())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private int getBattlefieldSize(GameView gameView) {
+        return gameView.getPlayers().stream().mapToInt(player -> player.getBattlefield().size()).sum();
+    }
+
+    private Object sendToClient(Object data) {
+        // simulate network serialization
+        return CompressUtil.decompress(new ZippedObjectImpl<>(data));
+    }
 }
@@ -1,37 +1,79 @@
 package org.mage.test.serverside.performance;
 
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
 import mage.game.Game;
+import org.junit.Assert;
 import org.junit.Ignore;
+import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
 /**
- * Test for copying game state.
+ * Test for copying game state: time and allocated memory per game copy
+ * <p>
+ * Enable it for local performance tests only
  *
  * @ayratn
  */
-@Ignore
 public class CopyGameStatePerformanceTest extends CardTestPlayerBase {
 
-    public void run() throws Exception {
-        init();
-        reset();
-        System.out.println("Started copying...");
-        long t1 = System.currentTimeMillis();
-        for (int i = 0; i < 2000; i++) {
-            Game game = currentGame.copy();
-            Game game2 = game.copy();
+    private static final int WARMUP_COPIES = 200;
+    private static final int BENCHMARK_COPIES = 2000;
+
+    @Test
+    @Ignore
+    public void test_GameCopy_BigLibraries() {
+        // commander like decks: most of the cards are in libraries
+        addCard(Zone.LIBRARY, playerA, "Grizzly Bears", 80);
+        addCard(Zone.LIBRARY, playerA, "Lightning Bolt", 10);
+        addCard(Zone.LIBRARY, playerB, "Llanowar Elves", 80);
+        addCard(Zone.LIBRARY, playerB, "Giant Growth", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 5);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        runBenchmark("big libraries", false);
+        runBenchmark("big libraries with cards usage", true);
+    }
+
+    private void runBenchmark(String info, boolean useAllCards) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assert.assertTrue("Memory stats must be supported by java", threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean memoryBean = (com.sun.management.ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_COPIES; i++) {
+            makeCopy(useAllCards);
         }
-        long t2 = System.currentTimeMillis();
-        System.out.println("Test took: " + (t2-t1) + " ms");
+
+        long startBytes = memoryBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_COPIES; i++) {
+            makeCopy(useAllCards);
+        }
+        long totalTime = System.nanoTime() - startTime;
+        long totalBytes = memoryBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        System.out.println(String.format("Game copy (%s, %d cards): %.3f ms and %d KB per copy",
+                info,
+                currentGame.getCards().size(),
+                totalTime / 1_000_000.0 / BENCHMARK_COPIES,
+                totalBytes / 1024 / BENCHMARK_COPIES
+        ));
     }
 
-    public static void main(String[] args) {
-        CopyGameStatePerformanceTest test = new CopyGameStatePerformanceTest();
-        try {
-            test.run();
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException(e);
+    private void makeCopy(boolean useAllCards) {
+        Game game = currentGame.copy();
+        if (useAllCards) {
+            // worst case: simulation uses all game cards
+            game.getCards();
         }
     }
 }
@@ -0,0 +1,158 @@
+package org.mage.test.serverside.performance;
+
+import mage.abilities.effects.ContinuousEffect;
+import mage.abilities.effects.ContinuousEffectsList;
+import mage.abilities.effects.ContinuousRuleModifyingEffect;
+import mage.abilities.effects.ReplacementEffect;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.events.GameEvent;
+import mage.game.events.ZoneChangeEvent;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestCommander4Players;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Test for replacement and rule modifying effects lookup on a 4 players commander board with many static abilities:
+ * full list search (old code) vs search by event type index, see ContinuousEffectsList.getByEventType
+ * <p>
+ * Enable it for local performance tests only
+ */
+public class EffectsByEventTypePerformanceTest extends CardTestCommander4Players {
+
+    private static final int WARMUP_ROUNDS = 2000;
+    private static final int BENCHMARK_ROUNDS = 20000;
+
+    @Test
+    @Ignore
+    public void test_EffectsLookup_FourPlayersCommanderBoard() {
+        for (TestPlayer player : Arrays.asList(playerA, playerB, playerC, playerD)) {
+            addCard(Zone.COMMAND, player, "Balduvian Bears", 1); // commander
+            addCard(Zone.BATTLEFIELD, player, "Forest", 10);
+            addCard(Zone.BATTLEFIELD, player, "Grizzly Bears", 5);
+
+            // hatebears and replacement effects (core effects with declared event types and cards with own effects)
+            addCard(Zone.BATTLEFIELD, player, "Platinum Angel", 1); // You can't lose the game
+            addCard(Zone.BATTLEFIELD, player, "Anointed Procession", 1); // create twice that many tokens
+            addCard(Zone.BATTLEFIELD, player, "Hardened Scales", 1); // additional +1/+1 counter
+            addCard(Zone.BATTLEFIELD, player, "Torpor Orb", 1); // creatures entering don't cause abilities to trigger
+            addCard(Zone.BATTLEFIELD, player, "Rest in Peace", 1); // cards going to graveyard are exiled instead
+            addCard(Zone.BATTLEFIELD, player, "Thalia, Heretic Cathar", 1); // opponents' creatures enter tapped
+            addCard(Zone.BATTLEFIELD, player, "Aven Mindcensor", 1); // search top four cards instead
+            addCard(Zone.BATTLEFIELD, player, "Grafdigger's Cage", 1); // can't enter from graveyards or libraries
+            addCard(Zone.BATTLEFIELD, player, "Spirit of the Labyrinth", 1); // can't draw more than one card each turn
+            addCard(Zone.BATTLEFIELD, player, "Collector Ouphe", 1); // artifacts activated abilities can't be activated
+            addCard(Zone.BATTLEFIELD, player, "Drannith Magistrate", 1); // can't cast spells from anywhere other than hands
+        }
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // most common events from game engine
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        List<GameEvent> events = new ArrayList<>();
+        events.add(new ZoneChangeEvent(bears, null, playerA.getId(), Zone.BATTLEFIELD, Zone.GRAVEYARD));
+        events.add(GameEvent.getEvent(GameEvent.EventType.DRAW_CARD, playerA.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.DAMAGE_PLAYER, playerB.getId(), null, playerA.getId(), 2));
+        events.add(GameEvent.getEvent(GameEvent.EventType.GAIN_LIFE, playerA.getId(), null, playerA.getId(), 1));
+        events.add(GameEvent.getEvent(GameEvent.EventType.CAST_SPELL, bears.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.ACTIVATE_ABILITY, bears.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, bears.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.UNTAP, bears.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.ADD_COUNTERS, bears.getId(), null, playerA.getId(), 1));
+        events.add(GameEvent.getEvent(GameEvent.EventType.CREATE_TOKEN, playerA.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.SEARCH_LIBRARY, playerA.getId(), null, playerA.getId()));
+        events.add(GameEvent.getEvent(GameEvent.EventType.LOSES, playerA.getId(), null, playerA.getId()));
+
+        // replacement, prevention and rule modifying effects
+        List<ContinuousEffectsList<?>> lists = new ArrayList<>();
+        int effectsCount = 0;
+        for (ContinuousEffectsList<?> list : currentGame.getContinuousEffects().allEffectsLists) {
+            if (!list.isEmpty() && (list.get(0) instanceof ReplacementEffect || list.get(0) instanceof ContinuousRuleModifyingEffect)) {
+                lists.add(list);
+                effectsCount += list.size();
+            }
+        }
+        Assert.assertTrue("must have many static effects", effectsCount >= 40);
+
+        // indexed search must find same effects
+        for (GameEvent event : events) {
+            for (ContinuousEffectsList<?> list : lists) {
+                Assert.assertEquals(event.getType().toString(), findByFullSearch(list, event), findByIndex(list, event));
+            }
+        }
+
+        runBenchmark("full search", lists, events, effectsCount, true);
+        runBenchmark("indexed search", lists, events, effectsCount, false);
+    }
+
+    private void runBenchmark(String info, List<ContinuousEffectsList<?>> lists, List<GameEvent> events, int effectsCount, boolean useFullSearch) {
+        int found = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            found += lookupAll(lists, events, useFullSearch);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            found += lookupAll(lists, events, useFullSearch);
+        }
+        long totalTime = System.nanoTime() - startTime;
+
+        System.out.println(String.format("Effects lookup (%s, %d effects, %d event types): %.1f ns per event (%d found)",
+                info,
+                effectsCount,
+                events.size(),
+                (double) totalTime / BENCHMARK_ROUNDS / events.size(),
+                found
+        ));
+    }
+
+    private int lookupAll(List<ContinuousEffectsList<?>> lists, List<GameEvent> events, boolean useFullSearch) {
+        int found = 0;
+        for (GameEvent event : events) {
+            for (ContinuousEffectsList<?> list : lists) {
+                found += useFullSearch ? findByFullSearch(list, event).size() : findByIndex(list, event).size();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Old version of effects search: check all effects of the list
+     */
+    private List<UUID> findByFullSearch(ContinuousEffectsList<?> list, GameEvent event) {
+        List<UUID> res = new ArrayList<>();
+        for (ContinuousEffect effect : list) {
+            if (checksEventType(effect, event)) {
+                res.add(effect.getId());
+            }
+        }
+        return res;
+    }
+
+    private List<UUID> findByIndex(ContinuousEffectsList<?> list, GameEvent event) {
+        List<UUID> res = new ArrayList<>();
+        for (ContinuousEffect effect : list.getByEventType(event.getType())) {
+            if (checksEventType(effect, event)) {
+                res.add(effect.getId());
+            }
+        }
+        return res;
+    }
+
+    private boolean checksEventType(ContinuousEffect effect, GameEvent event) {
+        if (effect instanceof ReplacementEffect) {
+            return ((ReplacementEffect) effect).checksEventType(event, currentGame);
+        } else {
+            return ((ContinuousRuleModifyingEffect) effect).checksEventType(event, currentGame);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.constants.Zone;
+import mage.game.FreeForAll;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.mulligan.MulliganType;
+import mage.players.Player;
+import mage.view.GameView;
+import mage.view.PlayerView;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.impl.CardTestPlayerAPIImpl;
+
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test for game view creation on a 6 players board with 300 permanents:
+ * zones scan per player (old code) vs shared zones partition for all player views
+ * <p>
+ * Enable it for local performance tests only
+ */
+public class GameViewPerformanceTest extends CardTestPlayerAPIImpl {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int BENCHMARK_ROUNDS = 500;
+
+    private TestPlayer playerE;
+    private TestPlayer playerF;
+
+    @Override
+    protected Game createNewGameAndPlayers() throws GameException, FileNotFoundException {
+        Game game = new FreeForAll(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 20, 7);
+        playerA = createPlayer(game, "PlayerA");
+        playerB = createPlayer(game, "PlayerB");
+        playerC = createPlayer(game, "PlayerC");
+        playerD = createPlayer(game, "PlayerD");
+        playerE = createPlayer(game, "PlayerE");
+        playerF = createPlayer(game, "PlayerF");
+        return game;
+    }
+
+    @Test
+    @Ignore
+    public void test_GameView_SixPlayersBoard() {
+        List<TestPlayer> players = Arrays.asList(playerA, playerB, playerC, playerD, playerE, playerF);
+        for (TestPlayer player : players) {
+            addCard(Zone.BATTLEFIELD, player, "Forest", 30);
+            addCard(Zone.BATTLEFIELD, player, "Grizzly Bears", 20);
+            addCard(Zone.EXILED, player, "Lightning Bolt", 5);
+        }
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+        Assert.assertEquals(300, currentGame.getBattlefield().getAllPermanents().size());
+
+        // same data for both versions
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        for (PlayerView playerView : gameView.getPlayers()) {
+            Player player = currentGame.getPlayer(playerView.getPlayerId());
+            PlayerView oldView = new PlayerView(player, currentGame.getState(), currentGame, playerA.getId(), null);
+            Assert.assertEquals(50, playerView.getBattlefield().size());
+            Assert.assertEquals(oldView.getBattlefield().keySet(), playerView.getBattlefield().keySet());
+            Assert.assertEquals(oldView.getExile().keySet(), playerView.getExile().keySet());
+        }
+
+        runBenchmark("zones scan per player", true);
+        runBenchmark("shared zones partition", false);
+    }
+
+    private void runBenchmark(String info, boolean useScanPerPlayer) {
+        int found = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            found += makePlayerViews(useScanPerPlayer);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            found += makePlayerViews(useScanPerPlayer);
+        }
+        long totalTime = System.nanoTime() - startTime;
+
+        System.out.println(String.format("Game view (%s, %d players, %d permanents): %.3f ms per view (%d permanent views)",
+                info,
+                currentGame.getPlayers().size(),
+                currentGame.getBattlefield().getAllPermanents().size(),
+                (double) totalTime / BENCHMARK_ROUNDS / 1_000_000,
+                found
+        ));
+    }
+
+    private int makePlayerViews(boolean useScanPerPlayer) {
+        int found = 0;
+        if (useScanPerPlayer) {
+            // each player view makes own zones scan
+            for (Player player : currentGame.getState().getPlayers().values()) {
+                found += new PlayerView(player, currentGame.getState(), currentGame, playerA.getId(), null).getBattlefield().size();
+            }
+        } else {
+            // full game view with shared zones partition (also contains stack, combat and other data)
+            GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+            for (PlayerView playerView : gameView.getPlayers()) {
+                found += playerView.getBattlefield().size();
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,138 @@
+package org.mage.test.serverside.performance;
+
+import mage.MageObject;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.command.CommandObject;
+import mage.game.permanent.Permanent;
+import mage.game.stack.Spell;
+import mage.game.stack.StackObject;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestCommander4Players;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Test for game.getObject: lookup time on a 4 players board, full search (old code) vs indexed search
+ * <p>
+ * Enable it for local performance tests only
+ */
+public class GetObjectPerformanceTest extends CardTestCommander4Players {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int BENCHMARK_ROUNDS = 2000;
+
+    @Test
+    @Ignore
+    public void test_GetObject_FourPlayersBoard() {
+        for (TestPlayer player : Arrays.asList(playerA, playerB, playerC, playerD)) {
+            addCard(Zone.COMMAND, player, "Balduvian Bears", 1); // commander
+            addCard(Zone.BATTLEFIELD, player, "Forest", 10);
+            addCard(Zone.BATTLEFIELD, player, "Grizzly Bears", 10);
+            addCard(Zone.HAND, player, "Lightning Bolt", 5);
+            addCard(Zone.GRAVEYARD, player, "Giant Growth", 5);
+        }
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // busy stack: spells from all hands
+        for (TestPlayer player : Arrays.asList(playerA, playerB, playerC, playerD)) {
+            for (Card card : player.getHand().getCards(currentGame)) {
+                currentGame.getStack().push(new Spell(card, card.getSpellAbility().copy(), player.getId(), Zone.HAND, currentGame));
+            }
+        }
+
+        // lookups for all zones
+        List<UUID> ids = new ArrayList<>();
+        currentGame.getBattlefield().getAllPermanents().forEach(permanent -> ids.add(permanent.getId()));
+        currentGame.getStack().forEach(stackObject -> {
+            ids.add(stackObject.getId());
+            ids.add(stackObject.getSourceId());
+        });
+        currentGame.getState().getCommand().forEach(commandObject -> ids.add(commandObject.getId()));
+        for (Player player : currentGame.getPlayers().values()) {
+            ids.addAll(player.getGraveyard());
+        }
+        ids.add(UUID.randomUUID()); // unknown object
+
+        for (UUID id : ids) {
+            Assert.assertSame(findObjectByFullSearch(currentGame, id), currentGame.getObject(id));
+        }
+
+        runBenchmark("full search", ids, true);
+        runBenchmark("indexed search", ids, false);
+    }
+
+    private void runBenchmark(String info, List<UUID> ids, boolean useFullSearch) {
+        int found = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            found += lookupAll(ids, useFullSearch);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            found += lookupAll(ids, useFullSearch);
+        }
+        long totalTime = System.nanoTime() - startTime;
+
+        System.out.println(String.format("Get object (%s, %d objects, %d on stack): %.1f ns per lookup (%d found)",
+                info,
+                ids.size(),
+                currentGame.getStack().size(),
+                (double) totalTime / BENCHMARK_ROUNDS / ids.size(),
+                found
+        ));
+    }
+
+    private int lookupAll(List<UUID> ids, boolean useFullSearch) {
+        int found = 0;
+        for (UUID id : ids) {
+            MageObject object = useFullSearch ? findObjectByFullSearch(currentGame, id) : currentGame.getObject(id);
+            if (object != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Old version of game.getObject with full search on the stack and command zone
+     */
+    private MageObject findObjectByFullSearch(Game game, UUID objectId) {
+        Permanent permanent = game.getState().getBattlefield().getPermanent(objectId);
+        if (permanent != null) {
+            return permanent;
+        }
+        if (game.getPermanentsEntering().containsKey(objectId)) {
+            return game.getPermanentEntering(objectId);
+        }
+        for (StackObject item : game.getState().getStack()) {
+            if (item.getId().equals(objectId)) {
+                return item;
+            }
+            if (item instanceof Spell && item.getSourceId().equals(objectId)) {
+                return item;
+            }
+        }
+        for (CommandObject commandObject : game.getState().getCommand()) {
+            if (commandObject.getId().equals(objectId)) {
+                return commandObject;
+            }
+        }
+        MageObject object = game.getCard(objectId);
+        if (object == null) {
+            object = game.getLastKnownInformation(objectId, Zone.BATTLEFIELD);
+        }
+        return object;
+    }
+}
@@ -15,6 +15,8 @@ import mage.counters.CounterType;
 import mage.game.mulligan.LondonMulligan;
 import mage.game.permanent.PermanentCard;
 import mage.game.permanent.PermanentImpl;
+import mage.remote.traffic.ZippedObjectCodec;
+import mage.remote.traffic.ZippedObjectCodecs;
 import mage.remote.traffic.ZippedObjectImpl;
 import mage.util.CardUtil;
 import mage.utils.CompressUtil;
@@ -175,6 +177,74 @@ public class SerializationTest extends CardTestPlayerBase {
         Assert.assertEquals("Must be same", 1, uncompressed.getPlayers().get(0).getBattlefield().size());
     }
 
+    @Test
+    public void test_Game_AllCompressionCodecs() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        for (String codecName : ZippedObjectCodecs.getNames()) {
+            ZippedObjectCodec codec = ZippedObjectCodecs.get(codecName);
+            // use multiple times to check reusable buffers
+            for (int i = 0; i < 3; i++) {
+                GameView gameView = getGameView(playerA);
+                Object compressed = CompressUtil.compress(gameView, codec);
+                Assert.assertTrue("Must be zip", compressed instanceof ZippedObjectImpl);
+                Assert.assertEquals(codecName, ((ZippedObjectImpl<?>) compressed).getCodecName());
+                GameView uncompressed = (GameView) CompressUtil.decompress(compressed);
+                Assert.assertNotNull("Must be decompressed by " + codecName, uncompressed);
+                Assert.assertEquals("Must be same", 1, uncompressed.getPlayers().get(0).getBattlefield().size());
+            }
+        }
+    }
+
+    @Test
+    @Ignore // enable for local performance tests only
+    public void test_CompressionCodecs_Performance() {
+        // typical game update: some permanents and cards in hand
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.HAND, playerA, "Giant Growth", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Llanowar Elves", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.GRAVEYARD, playerB, "Lightning Bolt", 5);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        final int warmupUpdates = 200;
+        final int benchmarkUpdates = 2000;
+        GameView gameView = getGameView(playerA);
+        for (String codecName : ZippedObjectCodecs.getNames()) {
+            ZippedObjectCodec codec = ZippedObjectCodecs.get(codecName);
+            for (int i = 0; i < warmupUpdates; i++) {
+                CompressUtil.decompress(CompressUtil.compress(gameView, codec));
+            }
+
+            long bytes = 0;
+            long compressTime = 0;
+            long decompressTime = 0;
+            for (int i = 0; i < benchmarkUpdates; i++) {
+                long start = System.nanoTime();
+                ZippedObjectImpl<?> compressed = (ZippedObjectImpl<?>) CompressUtil.compress(gameView, codec);
+                compressTime += System.nanoTime() - start;
+                bytes += compressed.getSize();
+
+                start = System.nanoTime();
+                CompressUtil.decompress(compressed);
+                decompressTime += System.nanoTime() - start;
+            }
+
+            System.out.println(String.format("Codec %s: %d bytes, compress %.3f ms, decompress %.3f ms per update",
+                    codecName,
+                    bytes / benchmarkUpdates,
+                    compressTime / 1_000_000.0 / benchmarkUpdates,
+                    decompressTime / 1_000_000.0 / benchmarkUpdates
+            ));
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void test_Choices_MustHaveProtectionFromKeySetUsage() {
         Map<String, Ability> abilityMap = new HashMap<>();
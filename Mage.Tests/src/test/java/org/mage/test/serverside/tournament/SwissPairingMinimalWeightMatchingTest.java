@@ -270,6 +270,50 @@ public class SwissPairingMinimalWeightMatchingTest {
         }
     }
 
+    @Test
+    public void BigTournamentPairingsMustBeFast() {
+        int playersCount = 256;
+        int roundsCount = 8;
+
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (int i = 0; i < playersCount; i++) {
+            players.add(new TournamentPlayer(createTourneyPlayer(i + 1), null));
+        }
+
+        List<TournamentPairing> playedPairs = new ArrayList<>();
+        List<Round> rounds = new ArrayList<>();
+        for (int i = 0; i < roundsCount; i++) {
+            long startTime = System.currentTimeMillis();
+            SwissPairingMinimalWeightMatching swissPairing =
+                    new SwissPairingMinimalWeightMatching(new ArrayList<>(players), rounds, i + 1 == roundsCount);
+            RoundPairings roundPairings = swissPairing.getRoundPairings();
+            long pairingTime = System.currentTimeMillis() - startTime;
+            Assert.assertTrue("Too slow pairings for " + playersCount + " players: " + pairingTime + " ms", pairingTime < 1000);
+
+            Assert.assertEquals(playersCount / 2, roundPairings.getPairings().size());
+            Assert.assertEquals(0, roundPairings.getPlayerByes().size());
+
+            Set<TournamentPlayer> pairedPlayers = new HashSet<>();
+            Round round = new Round(i + 1, new TournamentStub());
+            rounds.add(round);
+            for (TournamentPairing pairing : roundPairings.getPairings()) {
+                Assert.assertTrue(pairedPlayers.add(pairing.getPlayer1()));
+                Assert.assertTrue(pairedPlayers.add(pairing.getPlayer2()));
+                if (ContainsPair(playedPairs, pairing.getPlayer1(), pairing.getPlayer2())) {
+                    throw new AssertionError("Match between players has been played already.");
+                }
+                playedPairs.add(pairing);
+
+                round.addPairing(pairing);
+                if (RandomUtil.nextBoolean()) {
+                    pairing.getPlayer1().setPoints(pairing.getPlayer1().getPoints() + 3);
+                } else {
+                    pairing.getPlayer2().setPoints(pairing.getPlayer2().getPoints() + 3);
+                }
+            }
+        }
+    }
+
     private void SimulateTournament(int playersCount, int roundsCount) {
 
         List<TournamentPlayer> players = new ArrayList<>();
@@ -1,13 +1,18 @@
 package org.mage.test.utils;
 
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
 import mage.cards.repository.CardScanner;
+import mage.cards.repository.ExpansionInfo;
+import mage.cards.repository.ExpansionRepository;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Testing of CardRepository functionality.
@@ -205,4 +210,36 @@ public class CardRepositoryTest {
         Assert.assertEquals("320", CardRepository.instance.findCardWithPreferredSetAndNumber("Hauken's Insight", "VOW", "320").getCardNumber());
         Assert.assertEquals("332", CardRepository.instance.findCardWithPreferredSetAndNumber("Hauken's Insight", "VOW", "332").getCardNumber());
     }
+
+    @Test
+    public void test_SearchResultsMustBeIndependent() {
+        // repository uses shared in-memory catalog, so search results must be a copies
+        List<CardInfo> cards = CardRepository.instance.findCards("Silvercoat Lion");
+        Assert.assertFalse(cards.isEmpty());
+        int cardsAmount = cards.size();
+        cards.clear();
+        Assert.assertEquals(cardsAmount, CardRepository.instance.findCards("Silvercoat Lion").size());
+        Assert.assertEquals(1, CardRepository.instance.findCards("Silvercoat Lion", 1).size());
+
+        Set<String> names = CardRepository.instance.getCreatureNames();
+        Assert.assertTrue(names.contains("Silvercoat Lion"));
+        names.remove("Silvercoat Lion");
+        Assert.assertTrue(CardRepository.instance.getCreatureNames().contains("Silvercoat Lion"));
+        Assert.assertFalse(CardRepository.instance.getNonLandAndNonCreatureNames().contains("Silvercoat Lion"));
+    }
+
+    @Test
+    public void test_ScannedSetsMustHaveFingerprints() {
+        // unchanged sets skipped on next scans by cards fingerprint
+        ExpansionSet set = Sets.findSet("VOW");
+        Assert.assertNotNull(set);
+        ExpansionInfo setInfo = ExpansionRepository.instance.getSetByCode("VOW");
+        Assert.assertNotNull(setInfo);
+        Assert.assertEquals(set.getCardsFingerprint(), setInfo.getCardsFingerprint());
+        Assert.assertNotEquals(set.getCardsFingerprint(), Sets.findSet("M21").getCardsFingerprint());
+
+        Set<String> cardNumbers = CardRepository.instance.getCardNumbers("VOW");
+        Assert.assertTrue(cardNumbers.contains("65"));
+        Assert.assertTrue(CardRepository.instance.getSetCodesWithCards().contains("VOW"));
+    }
 }
@@ -0,0 +1,33 @@
+package org.mage.test.utils;
+
+import mage.cards.ExpansionSet;
+import mage.cards.ExpansionSetsRegistry;
+import mage.cards.Sets;
+import mage.util.ClassScanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class ExpansionSetsRegistryTest {
+
+    @Test
+    public void test_RegistryMustContainAllSets() throws Exception {
+        ExpansionSetsRegistry registry = (ExpansionSetsRegistry) Class.forName(ExpansionSetsRegistry.GENERATED_CLASS_NAME)
+                .getConstructor()
+                .newInstance();
+        Set<String> registrySets = new TreeSet<>();
+        registry.getExpansionSets().forEach(set -> registrySets.add(set.getCode()));
+
+        Set<String> scannedSets = new TreeSet<>();
+        for (Class c : ClassScanner.findClasses(null, Collections.singletonList("mage.sets"), ExpansionSet.class)) {
+            scannedSets.add(((ExpansionSet) c.getMethod("getInstance").invoke(null)).getCode());
+        }
+
+        Assert.assertFalse(registrySets.isEmpty());
+        Assert.assertEquals(scannedSets, registrySets);
+        Assert.assertEquals(registrySets, new TreeSet<>(Sets.getInstance().keySet()));
+    }
+}
@@ -0,0 +1,75 @@
+package org.mage.test.utils;
+
+import mage.util.GameThreadLimiter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class GameThreadLimiterTest {
+
+    @Test
+    public void test_WaitingGameMustFreeSlot() throws Exception {
+        GameThreadLimiter limiter = new GameThreadLimiter(1);
+
+        // first game goes to human's decision point and sleeps
+        CountDownLatch firstWaiting = new CountDownLatch(1);
+        CountDownLatch firstAnswer = new CountDownLatch(1);
+        Thread firstGame = new Thread(() -> {
+            limiter.enter();
+            try {
+                GameThreadLimiter.beforeWaitingForPlayer();
+                try {
+                    firstWaiting.countDown();
+                    firstAnswer.await();
+                } catch (InterruptedException ignore) {
+                } finally {
+                    GameThreadLimiter.afterWaitingForPlayer();
+                }
+            } finally {
+                limiter.exit();
+            }
+        });
+        firstGame.start();
+        Assert.assertTrue(firstWaiting.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, limiter.getActiveGames());
+
+        // second game must get free slot
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CountDownLatch secondFinish = new CountDownLatch(1);
+        Thread secondGame = new Thread(() -> {
+            limiter.enter();
+            try {
+                secondStarted.countDown();
+                secondFinish.await();
+            } catch (InterruptedException ignore) {
+            } finally {
+                limiter.exit();
+            }
+        });
+        secondGame.start();
+        Assert.assertTrue(secondStarted.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, limiter.getActiveGames());
+
+        // first game got an answer, so it must wait until second game frees the slot
+        firstAnswer.countDown();
+        firstGame.join(200);
+        Assert.assertTrue(firstGame.isAlive());
+
+        secondFinish.countDown();
+        secondGame.join(10000);
+        firstGame.join(10000);
+        Assert.assertFalse(firstGame.isAlive());
+        Assert.assertEquals(0, limiter.getActiveGames());
+    }
+
+    @Test
+    public void test_UnboundThreadMustIgnoreCalls() {
+        GameThreadLimiter limiter = new GameThreadLimiter(1);
+        GameThreadLimiter.beforeWaitingForPlayer();
+        GameThreadLimiter.afterWaitingForPlayer();
+        limiter.exit();
+        Assert.assertEquals(0, limiter.getActiveGames());
+    }
+}
@@ -0,0 +1,74 @@
+package org.mage.test.utils;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.game.stack.StackAbility;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+public class StateHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_StateHashChanges() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.HAND, playerA, "Forest", 1);
+        addCard(Zone.HAND, playerB, "Mountain", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // same state must have same hash
+        long fullHash = currentGame.getState().getStateHash(currentGame);
+        long viewerHash = currentGame.getState().getStateHash(currentGame, playerA.getId());
+        Game copy = currentGame.copy();
+        Assert.assertEquals(fullHash, copy.getState().getStateHash(copy));
+        Assert.assertEquals(viewerHash, copy.getState().getStateHash(copy, playerA.getId()));
+
+        // hidden info must be ignored for viewer
+        Assert.assertNotEquals(fullHash, viewerHash);
+        copy.getPlayer(playerB.getId()).getHand().clear();
+        copy.getPlayer(playerB.getId()).getHand().add(copy.getPlayer(playerB.getId()).getLibrary().getFromTop(copy));
+        Assert.assertEquals(viewerHash, copy.getState().getStateHash(copy, playerA.getId()));
+
+        // battlefield changes
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        bears.tap(null, currentGame);
+        long tappedHash = currentGame.getState().getStateHash(currentGame);
+        Assert.assertNotEquals(fullHash, tappedHash);
+        bears.getCounters(currentGame).addCounter(CounterType.P1P1.createInstance());
+        Assert.assertNotEquals(tappedHash, currentGame.getState().getStateHash(currentGame));
+
+        // life changes
+        long beforeLifeHash = currentGame.getState().getStateHash(currentGame);
+        playerB.setLife(10, currentGame, null);
+        Assert.assertNotEquals(beforeLifeHash, currentGame.getState().getStateHash(currentGame));
+    }
+
+    @Test
+    public void test_StateHashIgnoresStackObjectIds() {
+        addCard(Zone.BATTLEFIELD, playerA, "Prodigal Pyromancer", 1); // {T}: deals 1 damage to any target
+
+        // same ability on stack from different activations (e.g. AI simulations) must have same hash
+        activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "{T}: ", playerB);
+        runCode("check stack hash", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(1, game.getStack().size());
+            Game copy = game.copy();
+            long stackHash = copy.getState().getStateHash(copy);
+            StackAbility stackAbility = (StackAbility) copy.getStack().getFirst();
+            stackAbility.newId();
+            Assert.assertNotEquals(game.getStack().getFirst().getId(), stackAbility.getId());
+            Assert.assertEquals(stackHash, copy.getState().getStateHash(copy));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20 - 1);
+    }
+}
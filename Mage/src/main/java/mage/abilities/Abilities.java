@@ -265,6 +265,11 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
 
     String getValue();
 
+    /**
+     * AI related: abilities hash to find changes in game state (gained abilities keep original id on re-apply)
+     */
+    long getStateHash();
+
     @Deprecated
         // use permanent.removeAbility instead
     boolean remove(Object o);
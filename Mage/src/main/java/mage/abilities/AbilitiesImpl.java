@@ -9,6 +9,7 @@ import mage.abilities.mana.ManaAbility;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.util.CardUtil;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -315,4 +316,13 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         }
         return sb.toString();
     }
+
+    @Override
+    public long getStateHash() {
+        long hash = 0;
+        for (T ability : this) {
+            hash = StateHashUtil.unordered(hash, StateHashUtil.ordered(StateHashUtil.of(ability.getClass().getName()), ability.getOriginalId()));
+        }
+        return hash;
+    }
 }
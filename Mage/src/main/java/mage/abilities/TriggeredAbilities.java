@@ -12,6 +12,7 @@ import mage.util.Copyable;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +24,16 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // event types index for fast triggers search, see TriggeredAbility.getTriggerEventTypes
+    // reason: most triggers are waiting for one or two event types, so no needs to check all triggers on each event
+    // index keeps same order as main list (by insert order number), so triggers processing order will be the same
+    private static final Map<Class<?>, Boolean> indexSupportedClasses = new ConcurrentHashMap<>();
+    private final Map<String, Long> indexOrders = new HashMap<>();
+    private final Map<String, Set<GameEvent.EventType>> indexEventTypes = new HashMap<>();
+    private final Map<GameEvent.EventType, TreeMap<Long, String>> indexByEventType = new EnumMap<>(GameEvent.EventType.class);
+    private final TreeMap<Long, String> indexForAnyEvent = new TreeMap<>(); // triggers without declared event types
+    private long indexNextOrder = 0;
+
     // data integrity check for triggers
     // reason: game engine can generate additional events and triggers while checking another one,
     // it can generate multiple bugs, freeze, etc, see https://github.com/magefree/mage/issues/8426
@@ -46,12 +57,21 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         makeSureNotProcessing(null);
 
         for (Map.Entry<String, TriggeredAbility> entry : abilities.entrySet()) {
-            this.put(entry.getKey(), entry.getValue().copy());
+            // must use super here, index copied below without additional event types search
+            super.put(entry.getKey(), entry.getValue().copy());
         }
         for (Map.Entry<String, List<UUID>> entry : abilities.sources.entrySet()) {
             sources.put(entry.getKey(), entry.getValue());
         }
 
+        this.indexOrders.putAll(abilities.indexOrders);
+        this.indexEventTypes.putAll(abilities.indexEventTypes);
+        for (Map.Entry<GameEvent.EventType, TreeMap<Long, String>> entry : abilities.indexByEventType.entrySet()) {
+            this.indexByEventType.put(entry.getKey(), new TreeMap<>(entry.getValue()));
+        }
+        this.indexForAnyEvent.putAll(abilities.indexForAnyEvent);
+        this.indexNextOrder = abilities.indexNextOrder;
+
         this.enableIntegrityCheck1_MustKeepSameTriggersOrder = abilities.enableIntegrityCheck1_MustKeepSameTriggersOrder;
         this.enableIntegrityCheck2_MustKeepSameTriggersList = abilities.enableIntegrityCheck2_MustKeepSameTriggersList;
         this.enableIntegrityCheck3_CantStartEventProcessingBeforeFinishPrev = abilities.enableIntegrityCheck3_CantStartEventProcessingBeforeFinishPrev;
@@ -78,7 +98,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     public void checkStateTriggers(Game game) {
         makeSureNotProcessing(null);
 
-        processingStart(null);
+        processingStart(null, this.values());
         boolean needErrorChecksOnEnd = true;
         try {
             for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
@@ -98,10 +118,10 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        processingStart(event);
-        boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        List<TriggeredAbility> currentTriggers = findTriggers(event.getType());
+        processingStart(event, currentTriggers);
+        boolean needErrorChecksOnEnd = true;
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -130,13 +150,40 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
-    private void processingStart(GameEvent newEvent) {
+    /**
+     * Find all triggers that can be used for the event type (in same order as main list)
+     */
+    private List<TriggeredAbility> findTriggers(GameEvent.EventType eventType) {
+        NavigableMap<Long, String> typed = indexByEventType.get(eventType);
+        if (typed == null) {
+            typed = Collections.emptyNavigableMap();
+        }
+        List<TriggeredAbility> res = new ArrayList<>(typed.size() + indexForAnyEvent.size());
+
+        // merge two sorted lists
+        Iterator<Map.Entry<Long, String>> typedIterator = typed.entrySet().iterator();
+        Iterator<Map.Entry<Long, String>> anyIterator = indexForAnyEvent.entrySet().iterator();
+        Map.Entry<Long, String> typedEntry = typedIterator.hasNext() ? typedIterator.next() : null;
+        Map.Entry<Long, String> anyEntry = anyIterator.hasNext() ? anyIterator.next() : null;
+        while (typedEntry != null || anyEntry != null) {
+            if (anyEntry == null || (typedEntry != null && typedEntry.getKey() < anyEntry.getKey())) {
+                res.add(this.get(typedEntry.getValue()));
+                typedEntry = typedIterator.hasNext() ? typedIterator.next() : null;
+            } else {
+                res.add(this.get(anyEntry.getValue()));
+                anyEntry = anyIterator.hasNext() ? anyIterator.next() : null;
+            }
+        }
+        return res;
+    }
+
+    private void processingStart(GameEvent newEvent, Collection<TriggeredAbility> need) {
         makeSureNotProcessing(newEvent);
 
         this.processingStarted = true;
         this.processingStartedEvent = newEvent == null ? null : newEvent.getType();
         this.processingNeed.clear();
-        this.processingNeed.addAll(this.values());
+        this.processingNeed.addAll(need);
         this.processingDone.clear();
     }
 
@@ -294,11 +341,14 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        String sourceKey = sourceId.toString();
+        removeAll(keySet().stream()
+                .filter(key -> key.endsWith(sourceKey))
+                .collect(Collectors.toList()));
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        removeAll(sources.keySet());
         sources.clear();
     }
 
@@ -308,9 +358,112 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        removeAll(entrySet().stream()
+                .filter(entry -> game.getObject(entry.getValue().getSourceId()) == null
+                        && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
+                        && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList()));
+    }
+
+    private void removeAll(Collection<String> keys) {
+        // must use remove by key to keep index updated (keySet and entrySet views will ignore it)
+        for (String key : new ArrayList<>(keys)) {
+            this.remove(key);
+        }
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility value) {
+        TriggeredAbility oldValue = super.put(key, value);
+        // same key keeps same position in the main list, so keep same order in the index too
+        Long order = indexOrders.get(key);
+        if (order == null) {
+            order = indexNextOrder++;
+            indexOrders.put(key, order);
+        } else {
+            indexRemove(key, order);
+        }
+        indexAdd(key, order, value);
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends TriggeredAbility> m) {
+        // must use put to keep index updated
+        for (Map.Entry<? extends String, ? extends TriggeredAbility> entry : m.entrySet()) {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility oldValue = super.remove(key);
+        Long order = indexOrders.remove(key);
+        if (order != null) {
+            indexRemove((String) key, order);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        indexOrders.clear();
+        indexEventTypes.clear();
+        indexByEventType.clear();
+        indexForAnyEvent.clear();
+    }
+
+    private void indexAdd(String key, Long order, TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = findEventTypes(ability);
+        indexEventTypes.put(key, eventTypes);
+        if (eventTypes.isEmpty()) {
+            indexForAnyEvent.put(order, key);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                indexByEventType.computeIfAbsent(eventType, x -> new TreeMap<>()).put(order, key);
+            }
+        }
+    }
+
+    private void indexRemove(String key, Long order) {
+        Set<GameEvent.EventType> eventTypes = indexEventTypes.remove(key);
+        if (eventTypes == null || eventTypes.isEmpty()) {
+            indexForAnyEvent.remove(order);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                TreeMap<Long, String> list = indexByEventType.get(eventType);
+                if (list != null) {
+                    list.remove(order);
+                    if (list.isEmpty()) {
+                        indexByEventType.remove(eventType);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<GameEvent.EventType> findEventTypes(TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = ability.getTriggerEventTypes();
+        if (eventTypes == null || eventTypes.isEmpty()
+                || !indexSupportedClasses.computeIfAbsent(ability.getClass(), TriggeredAbilities::isEventTypesSupported)) {
+            return Collections.emptySet();
+        }
+        return eventTypes;
+    }
+
+    private static boolean isEventTypesSupported(Class<?> abilityClass) {
+        // protection from child classes with overridden checkEventType, but without overridden event types:
+        // event types must be declared by same or child class of the checkEventType's class
+        try {
+            Class<?> checkClass = abilityClass.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+            Class<?> typesClass = abilityClass.getMethod("getTriggerEventTypes").getDeclaringClass();
+            return checkClass.isAssignableFrom(typesClass);
+        } catch (NoSuchMethodException e) {
+            logger.error("Can't find trigger's methods for event types index: " + abilityClass.getName(), e);
+            return false;
+        }
     }
 
     @Override
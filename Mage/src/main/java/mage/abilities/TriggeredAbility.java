@@ -4,6 +4,8 @@ import mage.abilities.condition.Condition;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,6 +22,17 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Event types that can pass checkEventType. Used by game engine to check only interested
+     * triggers on each event instead all triggers.
+     * <p>
+     * Empty set - unknown event types, so trigger will be checked on any event.
+     * If you override checkEventType then you must override that method too (or keep it empty)
+     */
+    default Set<GameEvent.EventType> getTriggerEventTypes() {
+        return Collections.emptySet();
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.StackAbility;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class ActivateAbilityTriggeredAbility extends TriggeredAbilityImpl {
 
     private final FilterStackObject filter;
@@ -42,6 +45,11 @@ public class ActivateAbilityTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getPlayerId().equals(getControllerId())) {
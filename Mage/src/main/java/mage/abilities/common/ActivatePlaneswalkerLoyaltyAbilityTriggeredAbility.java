@@ -12,6 +12,9 @@ import mage.game.permanent.Permanent;
 import mage.game.stack.StackAbility;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class ActivatePlaneswalkerLoyaltyAbilityTriggeredAbility extends TriggeredAbilityImpl {
 
     private final SubType planeswalkerSubType;
@@ -40,6 +43,11 @@ public class ActivatePlaneswalkerLoyaltyAbilityTriggeredAbility extends Triggere
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getPlayerId().equals(getControllerId())) {
@@ -11,6 +11,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -50,6 +53,11 @@ public class AttacksAndIsNotBlockedAllTriggeredAbility extends TriggeredAbilityI
         return event.getType() == EventType.UNBLOCKED_ATTACKER;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.UNBLOCKED_ATTACKER);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
@@ -10,6 +10,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 public class AttacksOrBlocksAttachedTriggeredAbility extends TriggeredAbilityImpl {
@@ -38,6 +40,11 @@ public class AttacksOrBlocksAttachedTriggeredAbility extends TriggeredAbilityImp
                 || event.getType() == GameEvent.EventType.CREATURE_BLOCKS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.CREATURE_BLOCKS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = getSourcePermanentOrLKI(game);
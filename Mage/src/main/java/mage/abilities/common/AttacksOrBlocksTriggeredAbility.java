@@ -7,6 +7,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AttacksOrBlocksTriggeredAbility extends TriggeredAbilityImpl {
 
     public AttacksOrBlocksTriggeredAbility(Effect effect, boolean optional) {
@@ -33,6 +36,11 @@ public class AttacksOrBlocksTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED || event.getType() == GameEvent.EventType.CREATURE_BLOCKS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.CREATURE_BLOCKS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return getSourceId().equals((event.getType() == GameEvent.EventType.ATTACKER_DECLARED) ? event.getSourceId() : event.getTargetId());
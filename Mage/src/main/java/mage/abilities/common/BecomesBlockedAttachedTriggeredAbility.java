@@ -9,6 +9,8 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -38,6 +40,11 @@ public class BecomesBlockedAttachedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.CREATURE_BLOCKED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREATURE_BLOCKED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = getSourcePermanentOrLKI(game);
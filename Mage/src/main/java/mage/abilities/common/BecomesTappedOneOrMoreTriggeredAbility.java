@@ -11,6 +11,9 @@ import mage.game.events.TappedBatchEvent;
 import mage.game.events.TappedEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -39,6 +42,11 @@ public class BecomesTappedOneOrMoreTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.TAPPED_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED_BATCH);
+    }
+
     @Override
     public boolean checkEvent(TappedEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
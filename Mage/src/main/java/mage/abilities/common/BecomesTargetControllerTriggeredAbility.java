@@ -13,6 +13,9 @@ import mage.game.stack.StackObject;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -55,6 +58,11 @@ public class BecomesTargetControllerTriggeredAbility extends TriggeredAbilityImp
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getTargetId().equals(getControllerId())) {
@@ -11,6 +11,8 @@ import mage.game.combat.CombatGroup;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -48,6 +50,11 @@ public class BlocksOrBecomesBlockedByOneOrMoreTriggeredAbility extends Triggered
         return event.getType() == GameEvent.EventType.DECLARED_BLOCKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARED_BLOCKERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         for (CombatGroup group : game.getCombat().getGroups()) {
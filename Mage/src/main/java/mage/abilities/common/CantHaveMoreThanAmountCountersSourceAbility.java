@@ -13,6 +13,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author emerald000
@@ -80,6 +83,11 @@ class CantHaveMoreThanAmountCountersSourceEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ADD_COUNTER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ADD_COUNTER);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
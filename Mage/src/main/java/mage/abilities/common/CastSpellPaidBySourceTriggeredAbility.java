@@ -12,6 +12,9 @@ import mage.game.stack.Spell;
 import mage.target.targetpointer.FixedTarget;
 import mage.watchers.common.ManaPaidObjectSourceWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -45,6 +48,11 @@ public class CastSpellPaidBySourceTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!controllerId.equals(event.getPlayerId())) {
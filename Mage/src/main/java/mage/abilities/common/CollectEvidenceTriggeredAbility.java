@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -30,6 +33,11 @@ public class CollectEvidenceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.EVIDENCE_COLLECTED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EVIDENCE_COLLECTED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return isControlledBy(event.getPlayerId());
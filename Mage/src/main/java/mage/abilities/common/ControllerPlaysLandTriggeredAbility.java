@@ -8,6 +8,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author jeffwadsworth
  */
@@ -27,6 +30,11 @@ public class ControllerPlaysLandTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.LAND_PLAYED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LAND_PLAYED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent land = game.getPermanent(event.getTargetId());
@@ -10,6 +10,9 @@ import mage.game.events.DamagedEvent;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801, xenohedron
  */
@@ -38,6 +41,11 @@ public class DealsCombatDamageEquippedTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!((DamagedBatchBySourceEvent) event).isCombatDamage()) {
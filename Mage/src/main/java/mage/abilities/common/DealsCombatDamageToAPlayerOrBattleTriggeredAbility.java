@@ -8,6 +8,9 @@ import mage.game.events.DamagedEvent;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -34,6 +37,11 @@ public class DealsCombatDamageToAPlayerOrBattleTriggeredAbility extends Triggere
                 || event.getType() == GameEvent.EventType.DAMAGED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER, GameEvent.EventType.DAMAGED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getSourceId().equals(getSourceId())
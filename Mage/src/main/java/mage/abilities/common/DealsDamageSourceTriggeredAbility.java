@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.DamagedEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -38,6 +41,11 @@ public class DealsDamageSourceTriggeredAbility extends TriggeredAbilityImpl impl
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // all events in the batch are always relevant
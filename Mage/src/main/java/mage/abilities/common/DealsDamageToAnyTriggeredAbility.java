@@ -14,6 +14,9 @@ import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -50,6 +53,11 @@ public class DealsDamageToAnyTriggeredAbility extends TriggeredAbilityImpl imple
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // all events in the batch are always relevant if triggers at all
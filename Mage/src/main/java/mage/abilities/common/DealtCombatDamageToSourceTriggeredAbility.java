@@ -9,6 +9,9 @@ import mage.game.events.DamagedBatchForOnePermanentEvent;
 import mage.game.events.DamagedPermanentEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -34,6 +37,11 @@ public class DealtCombatDamageToSourceTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // all events in the batch are always relevant if triggers at all
@@ -14,6 +14,9 @@ import mage.game.events.ZoneChangeEvent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DealtDamageAndDiedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final FilterCreaturePermanent filter;
@@ -55,6 +58,11 @@ public class DealtDamageAndDiedTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // If Axelrod Gunnarson and a creature it dealt damage to are both put into a graveyard at the same time,
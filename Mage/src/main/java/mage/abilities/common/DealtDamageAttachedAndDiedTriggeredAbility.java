@@ -16,6 +16,9 @@ import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DealtDamageAttachedAndDiedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final FilterCreaturePermanent filter;
@@ -52,6 +55,11 @@ public class DealtDamageAttachedAndDiedTriggeredAbility extends TriggeredAbility
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent attachment = getSourcePermanentOrLKI(game);
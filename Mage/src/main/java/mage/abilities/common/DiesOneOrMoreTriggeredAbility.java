@@ -12,6 +12,9 @@ import mage.game.events.ZoneChangeBatchEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -41,6 +44,11 @@ public class DiesOneOrMoreTriggeredAbility extends TriggeredAbilityImpl implemen
         return event.getType() == GameEvent.EventType.ZONE_CHANGE_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE_BATCH);
+    }
+
     @Override
     public boolean checkEvent(ZoneChangeEvent event, Game game) {
         if (!event.isDiesEvent()) {
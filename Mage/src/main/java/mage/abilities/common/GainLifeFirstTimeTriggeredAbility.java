@@ -12,8 +12,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -46,6 +48,11 @@ public class GainLifeFirstTimeTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.GAINED_LIFE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.GAINED_LIFE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         GainLifeFirstTimeWatcher watcher = game.getState().getWatcher(GainLifeFirstTimeWatcher.class);
@@ -90,6 +97,11 @@ class GainLifeFirstTimeWatcher extends Watcher {
         gainedMap.putIfAbsent(event.getPlayerId(), event.getId());
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.GAINED_LIFE);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -157,6 +157,11 @@ class WasCastFromExileWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     static boolean check(MageObjectReference mor, Game game) {
         return game
                 .getState()
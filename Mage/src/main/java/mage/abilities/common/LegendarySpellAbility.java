@@ -8,6 +8,9 @@ import mage.filter.predicate.Predicates;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author JRHerlehy Created on 4/8/18.
  */
@@ -64,6 +67,11 @@ class LegendarySpellAbilityCheckEffect extends ContinuousRuleModifyingEffectImpl
         return event.getType() == GameEvent.EventType.CAST_SPELL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getSourceId().equals(source.getSourceId())
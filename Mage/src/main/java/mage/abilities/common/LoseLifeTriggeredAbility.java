@@ -11,6 +11,8 @@ import mage.game.events.GameEvent;
 import mage.game.events.LifeLostEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -48,6 +50,11 @@ public class LoseLifeTriggeredAbility extends TriggeredAbilityImpl implements Ba
         return event.getType() == GameEvent.EventType.LOST_LIFE_BATCH_FOR_ONE_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LOST_LIFE_BATCH_FOR_ONE_PLAYER);
+    }
+
     private boolean filterPlayer(UUID playerId, Game game) {
         switch (targetController) {
             case YOU:
@@ -7,6 +7,9 @@ import mage.counters.CounterType;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class OneOrMoreCountersAddedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final CounterType counterType;
@@ -41,6 +44,11 @@ public class OneOrMoreCountersAddedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.COUNTERS_ADDED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERS_ADDED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getData().equals(counterType.getName())
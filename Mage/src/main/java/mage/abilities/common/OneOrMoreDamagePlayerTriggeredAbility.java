@@ -14,7 +14,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author Xanderhall, xenohedron
@@ -59,6 +61,11 @@ public class OneOrMoreDamagePlayerTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PLAYER);
+    }
+
     @Override
     public boolean checkEvent(DamagedPlayerEvent event, Game game) {
         if (onlyCombat && !event.isCombatDamage()) {
@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.DiceRolledEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Controller rolls one or more dice.
  *
@@ -37,6 +40,11 @@ public class OneOrMoreDiceRolledTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DICE_ROLLED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DICE_ROLLED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!isControlledBy(event.getTargetId())) {
@@ -12,6 +12,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.MilledBatchAllEvent;
 import mage.game.events.MilledCardEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -44,6 +47,11 @@ public class OneOrMoreMilledTriggeredAbility extends TriggeredAbilityImpl implem
         return event.getType() == GameEvent.EventType.MILLED_CARDS_BATCH_FOR_ALL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MILLED_CARDS_BATCH_FOR_ALL);
+    }
+
     @Override
     public boolean checkEvent(MilledCardEvent event, Game game) {
         Card card = event.getCard(game);
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.common.CardsDrawnDuringDrawStepWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author AsterAether, Susucr
  */
@@ -28,6 +31,11 @@ public class OpponentDrawCardExceptFirstCardDrawStepTriggeredAbility extends Tri
         return event.getType() == GameEvent.EventType.DREW_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (game.getPlayer(this.getControllerId()).hasOpponent(event.getPlayerId(), game)) {
@@ -7,6 +7,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 // Author: alexander-novo
 // A triggered ability for cards which say "whenever <someone> play(s) a card..."
 public class PlayCardTriggeredAbility extends TriggeredAbilityImpl {
@@ -66,6 +69,11 @@ public class PlayCardTriggeredAbility extends TriggeredAbilityImpl {
                 || event.getType() == GameEvent.EventType.LAND_PLAYED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.LAND_PLAYED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         boolean playerMatches;
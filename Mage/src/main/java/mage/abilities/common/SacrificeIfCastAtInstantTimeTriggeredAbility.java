@@ -11,6 +11,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Lonefox
  */
@@ -34,6 +37,11 @@ public class SacrificeIfCastAtInstantTimeTriggeredAbility extends TriggeredAbili
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // TODO: The sacrifice should occur only if you cast it using its own ability. If you cast it using some
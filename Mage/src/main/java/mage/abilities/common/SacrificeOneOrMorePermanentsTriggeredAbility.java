@@ -14,8 +14,10 @@ import mage.game.events.SacrificedPermanentEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTargets;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +68,11 @@ public class SacrificeOneOrMorePermanentsTriggeredAbility extends TriggeredAbili
         return event.getType() == GameEvent.EventType.SACRIFICED_PERMANENT_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SACRIFICED_PERMANENT_BATCH);
+    }
+
     @Override
     public boolean checkEvent(SacrificedPermanentEvent event, Game game) {
         Permanent permanent = game.getPermanentOrLKIBattlefield(event.getTargetId());
@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author PurpleCrowbar
  */
@@ -76,6 +79,11 @@ class SkipExtraTurnsEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.EXTRA_TURN;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EXTRA_TURN);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return !onlyOpponents || game.getPlayer(source.getControllerId()).hasOpponent(event.getPlayerId(), game);
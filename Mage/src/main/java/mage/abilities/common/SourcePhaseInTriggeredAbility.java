@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -31,6 +34,11 @@ public class SourcePhaseInTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.PHASED_IN;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PHASED_IN);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return getSourceId().equals(event.getTargetId());
@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -39,6 +42,11 @@ public class SpellControlledDealsDamageTriggeredAbility extends TriggeredAbility
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_BY_SOURCE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // all events in the batch are always relevant if triggers at all
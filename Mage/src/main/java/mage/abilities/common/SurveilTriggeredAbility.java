@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author PurpleCrowbar
  */
@@ -34,6 +37,11 @@ public class SurveilTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SURVEILED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SURVEILED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (isControlledBy(event.getPlayerId())) {
@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -34,6 +37,11 @@ public class TheRingTemptsYouChooseAnotherTriggeredAbility extends TriggeredAbil
         return event.getType() == GameEvent.EventType.TEMPTED_BY_RING;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TEMPTED_BY_RING);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return this.isControlledBy(event.getPlayerId())
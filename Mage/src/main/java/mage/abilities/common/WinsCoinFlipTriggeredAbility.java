@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.CoinFlippedEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -32,6 +35,11 @@ public class WinsCoinFlipTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.COIN_FLIPPED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COIN_FLIPPED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         CoinFlippedEvent flipEvent = (CoinFlippedEvent) event;
@@ -5,6 +5,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AtTheBeginOfCombatDelayedTriggeredAbility extends DelayedTriggeredAbility {
     public AtTheBeginOfCombatDelayedTriggeredAbility(Effect effect) {
         super(effect);
@@ -25,6 +28,11 @@ public class AtTheBeginOfCombatDelayedTriggeredAbility extends DelayedTriggeredA
         return event.getType() == GameEvent.EventType.COMBAT_PHASE_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_PHASE_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return true;
@@ -1,6 +1,8 @@
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.MageObject;
@@ -57,6 +59,11 @@ public class OnLeaveReturnExiledAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(this.getSourceId())) {
@@ -7,6 +7,9 @@ import mage.constants.Duration;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Based on {@link EntersBattlefieldEffect}.
  * This allows rule wording such as "as {this} becomes attached to a creature..."
@@ -59,6 +62,11 @@ public class BecomesAttachedToCreatureSourceEffect extends ReplacementEffectImpl
         return GameEvent.EventType.ATTACH == event.getType();
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACH);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getSourceId().equals(source.getSourceId())) {
@@ -318,7 +318,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public boolean checkIfThereArePayCostToAttackBlockEffects(GameEvent event, Game game) {
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : replacementEffects.getByEventType(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -355,8 +355,7 @@ public class ContinuousEffects implements Serializable {
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (Iterator<ReplacementEffect> iterator = replacementEffects.iterator(); iterator.hasNext(); ) {
-            ReplacementEffect effect = iterator.next();
+        for (ReplacementEffect effect : replacementEffects.getByEventType(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -388,8 +387,7 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        for (Iterator<PreventionEffect> iterator = preventionEffects.iterator(); iterator.hasNext(); ) {
-            PreventionEffect effect = iterator.next();
+        for (PreventionEffect effect : preventionEffects.getByEventType(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -798,7 +796,7 @@ public class ContinuousEffects implements Serializable {
      * @return
      */
     public boolean preventedByRuleModification(GameEvent event, Ability targetAbility, Game game, boolean silentMode) {
-        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects) {
+        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects.getByEventType(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
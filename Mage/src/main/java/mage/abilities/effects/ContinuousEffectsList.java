@@ -7,11 +7,13 @@ import mage.cards.Card;
 import mage.constants.Duration;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @param <T>
@@ -24,6 +26,13 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, Set<Ability>> effectAbilityMap = new HashMap<>();
 
+    // event types index for fast replacement and rule modifying effects search, see ReplacementEffect.getCheckedEventTypes
+    // index is lazy and must be rebuilt after any list changes (modCount), so all add/remove/copy code works without index updates
+    // index keeps same order as main list, so effects processing order will be the same
+    private static final Map<Class<?>, Boolean> indexSupportedClasses = new ConcurrentHashMap<>();
+    private transient Map<GameEvent.EventType, List<T>> indexByEventType = null;
+    private transient int indexModCount = 0;
+
     public ContinuousEffectsList() {
     }
 
@@ -235,6 +244,57 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         this.add(effect);
     }
 
+    /**
+     * Find all effects that can be used for the event type (in same order as main list).
+     * Warning, result is shared, so don't modify it
+     */
+    public List<T> getByEventType(GameEvent.EventType eventType) {
+        if (indexByEventType == null || indexModCount != modCount) {
+            indexByEventType = new EnumMap<>(GameEvent.EventType.class);
+            indexModCount = modCount;
+        }
+        return indexByEventType.computeIfAbsent(eventType, type -> {
+            List<T> res = new ArrayList<>();
+            for (T effect : this) {
+                Set<GameEvent.EventType> eventTypes = getEventTypes(effect);
+                if (eventTypes.isEmpty() || eventTypes.contains(type)) {
+                    res.add(effect);
+                }
+            }
+            return res;
+        });
+    }
+
+    private static Set<GameEvent.EventType> getEventTypes(ContinuousEffect effect) {
+        Set<GameEvent.EventType> eventTypes;
+        if (effect instanceof ReplacementEffect) {
+            eventTypes = ((ReplacementEffect) effect).getCheckedEventTypes();
+        } else if (effect instanceof ContinuousRuleModifyingEffect) {
+            eventTypes = ((ContinuousRuleModifyingEffect) effect).getCheckedEventTypes();
+        } else {
+            return Collections.emptySet();
+        }
+        if (eventTypes == null
+                || eventTypes.isEmpty()
+                || !indexSupportedClasses.computeIfAbsent(effect.getClass(), ContinuousEffectsList::isEventTypesSupported)) {
+            return Collections.emptySet();
+        }
+        return eventTypes;
+    }
+
+    private static boolean isEventTypesSupported(Class<?> effectClass) {
+        // protection from child classes with overridden checksEventType, but without overridden event types:
+        // event types must be declared by same or child class of the checksEventType's class
+        try {
+            Class<?> checkClass = effectClass.getMethod("checksEventType", GameEvent.class, Game.class).getDeclaringClass();
+            Class<?> typesClass = effectClass.getMethod("getCheckedEventTypes").getDeclaringClass();
+            return checkClass.isAssignableFrom(typesClass);
+        } catch (NoSuchMethodException e) {
+            logger.error("Can't find effect's methods for event types index: " + effectClass.getName(), e);
+            return false;
+        }
+    }
+
     public Set<Ability> getAbility(UUID effectId) {
         return effectAbilityMap.computeIfAbsent(effectId, x -> new HashSet<>());
     }
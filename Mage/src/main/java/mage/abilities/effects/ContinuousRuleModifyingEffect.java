@@ -4,6 +4,9 @@ import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -19,6 +22,17 @@ public interface ContinuousRuleModifyingEffect extends ContinuousEffect {
      */
     boolean checksEventType(GameEvent event, Game game);
 
+    /**
+     * Event types that can pass checksEventType. Used by game engine to check only interested
+     * effects on each event instead all effects.
+     * <p>
+     * Empty set - unknown event types, so effect will be checked on any event.
+     * If you override checksEventType then you must override that method too (or keep it empty)
+     */
+    default Set<GameEvent.EventType> getCheckedEventTypes() {
+        return Collections.emptySet();
+    }
+
     /**
      * 
      * @param event the event to check if it may happen
@@ -1,7 +1,9 @@
 
 package mage.abilities.effects;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.Ability;
@@ -43,6 +45,11 @@ public class PlaneswalkerRedirectionEffect extends RedirectionEffect {
         return event.getType() == GameEvent.EventType.DAMAGE_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_PLAYER);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         DamageEvent damageEvent = (DamageEvent) event;
@@ -11,6 +11,7 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -136,6 +137,11 @@ class PreventDamageAndRemoveCountersWatcher extends Watcher {
         morRemovedCounterThisDamageBatch.clear();
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_COULD_HAVE_FIRED);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -12,6 +12,9 @@ import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.Target;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
@@ -58,6 +61,11 @@ public abstract class RedirectionEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER);
+    }
+
     @Override
     public boolean replaceEvent(GameEvent event, Ability source, Game game) {
         int damageToRedirect = event.getAmount();
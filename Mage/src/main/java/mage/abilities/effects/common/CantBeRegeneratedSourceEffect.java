@@ -1,7 +1,9 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import mage.abilities.Ability;
 import mage.abilities.Mode;
@@ -36,6 +38,11 @@ public class CantBeRegeneratedSourceEffect extends ContinuousRuleModifyingEffect
         return event.getType() == GameEvent.EventType.REGENERATE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.REGENERATE);
+    }
+
     @Override
     public void init(Ability source, Game game) {
         super.init(source, game);
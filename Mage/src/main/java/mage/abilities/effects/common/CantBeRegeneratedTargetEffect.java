@@ -8,6 +8,9 @@ import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -32,6 +35,11 @@ public class CantBeRegeneratedTargetEffect extends ContinuousRuleModifyingEffect
         return event.getType() == GameEvent.EventType.REGENERATE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.REGENERATE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return getTargetPointer().getTargets(game, source).contains(event.getTargetId());
@@ -11,6 +11,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -35,6 +38,11 @@ public class CantBeTargetedCardsGraveyardsEffect extends ContinuousRuleModifying
         return event.getType() == GameEvent.EventType.TARGET;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGET);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Card targetCard = game.getCard(event.getTargetId());
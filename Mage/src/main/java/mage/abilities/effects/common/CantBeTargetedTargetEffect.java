@@ -13,6 +13,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.StackAbility;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -44,6 +47,11 @@ public class CantBeTargetedTargetEffect extends ContinuousRuleModifyingEffectImp
         return event.getType() == GameEvent.EventType.TARGET;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGET);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (getTargetPointer().getTargets(game, source).contains(event.getTargetId())) {
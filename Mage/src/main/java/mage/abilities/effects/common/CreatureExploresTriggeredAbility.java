@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class CreatureExploresTriggeredAbility extends TriggeredAbilityImpl {
 
     public CreatureExploresTriggeredAbility(Effect effect) {
@@ -23,6 +26,11 @@ public class CreatureExploresTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.EXPLORED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EXPLORED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent creature = game.getPermanentOrLKIBattlefield(event.getTargetId());
@@ -1,8 +1,10 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.MageObject;
@@ -87,6 +89,11 @@ public class DontUntapInControllersNextUntapStepTargetEffect extends ContinuousR
                 || event.getType() == GameEvent.EventType.UNTAP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP, GameEvent.EventType.UNTAP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // the check if a permanent untap phase is already handled is needed if multiple effects are added to prevent untap in next untap step of controller
@@ -1,7 +1,9 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -70,6 +72,11 @@ public class EnterBattlefieldPayCostOrPutGraveyardEffect extends ReplacementEffe
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (source.getSourceId().equals(event.getTargetId())) {
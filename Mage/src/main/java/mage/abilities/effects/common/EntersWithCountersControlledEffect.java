@@ -12,6 +12,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -45,6 +48,11 @@ public class EntersWithCountersControlledEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (excludeSource && event.getTargetId().equals(source.getSourceId())) {
@@ -11,6 +11,8 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -61,6 +63,11 @@ public class RegenerateSourceEffect extends ReplacementEffectImpl {
                 || event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // The regeneration effect is discarded if the permanent is blinked or changes zone
@@ -7,6 +7,9 @@ import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author jeffwadsworth
  */
@@ -37,6 +40,11 @@ public class SkipCombatStepEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.COMBAT_PHASE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_PHASE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getPlayerId().equals(getTargetPointer().getFirst(game, source));
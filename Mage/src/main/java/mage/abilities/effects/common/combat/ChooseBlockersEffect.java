@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.watchers.common.ControlCombatRedundancyWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author L_J, TheElk801
  */
@@ -33,6 +36,11 @@ public class ChooseBlockersEffect extends ContinuousRuleModifyingEffectImpl {
         return event.getType() == GameEvent.EventType.DECLARING_BLOCKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARING_BLOCKERS);
+    }
+
     @Override
     public void init(Ability source, Game game) {
         super.init(source, game);
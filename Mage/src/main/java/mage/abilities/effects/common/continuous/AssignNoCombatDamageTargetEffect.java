@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.DamageEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author awjackson
  */
@@ -48,6 +51,11 @@ public class AssignNoCombatDamageTargetEffect extends ReplacementEffectImpl {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return ((DamageEvent) event).isCombatDamage() && event.getSourceId().equals(getTargetPointer().getFirst(game, source));
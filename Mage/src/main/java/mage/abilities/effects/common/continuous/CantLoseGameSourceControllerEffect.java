@@ -7,6 +7,9 @@ import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -36,6 +39,11 @@ public class CantLoseGameSourceControllerEffect extends ContinuousRuleModifyingE
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.WINS, GameEvent.EventType.LOSES);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         switch (event.getType()) {
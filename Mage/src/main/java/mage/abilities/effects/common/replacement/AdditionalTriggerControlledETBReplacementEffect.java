@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.NumberOfTriggersEvent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -35,6 +38,11 @@ public class AdditionalTriggerControlledETBReplacementEffect extends Replacement
         return event.getType() == GameEvent.EventType.NUMBER_OF_TRIGGERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.NUMBER_OF_TRIGGERS);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // Only triggers for the source controller
@@ -15,6 +15,9 @@ import mage.game.permanent.Permanent;
 import mage.game.permanent.PermanentToken;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author notgreat
  */
@@ -73,6 +76,11 @@ public class GraveyardFromAnywhereExileReplacementEffect extends ReplacementEffe
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
@@ -9,6 +9,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -33,6 +36,11 @@ public class LeaveBattlefieldExileTargetReplacementEffect extends ReplacementEff
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean replaceEvent(GameEvent event, Ability source, Game game) {
         ((ZoneChangeEvent) event).setToZone(Zone.EXILED);
@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -45,6 +48,11 @@ public class ModifyCountersAddedEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ADD_COUNTERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ADD_COUNTERS);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if ((counterType != null && !event.getData().equals(counterType.getName())) || event.getAmount() <= 0) {
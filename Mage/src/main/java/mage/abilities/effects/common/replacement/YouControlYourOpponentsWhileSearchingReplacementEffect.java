@@ -9,6 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.SearchLibraryEvent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author JayDi85
  */
@@ -35,6 +38,11 @@ public class YouControlYourOpponentsWhileSearchingReplacementEffect extends Repl
         return event.getType() == GameEvent.EventType.SEARCH_LIBRARY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SEARCH_LIBRARY);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Player controller = game.getPlayer(source.getControllerId());
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -48,6 +51,11 @@ public class CantCastOrActivateOpponentsYourTurnEffect extends ContinuousRuleMod
                 || event.getType() == GameEvent.EventType.ACTIVATE_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL, GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (!game.isActivePlayer(source.getControllerId())
@@ -1,6 +1,8 @@
 
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.Ability;
@@ -34,6 +36,11 @@ public class CantHaveCountersSourceEffect extends ContinuousRuleModifyingEffectI
         return event.getType() == GameEvent.EventType.ADD_COUNTERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ADD_COUNTERS);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         UUID sourceId = source != null ? source.getSourceId() : null;
@@ -2,6 +2,8 @@
 
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.Ability;
@@ -37,6 +39,11 @@ public class CantRegenerateTargetEffect extends ContinuousRuleModifyingEffectImp
         return event.getType() == GameEvent.EventType.REGENERATE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.REGENERATE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         UUID targetId = getTargetPointer().getFirst(game, source);
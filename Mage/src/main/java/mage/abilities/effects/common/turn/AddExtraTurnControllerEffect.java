@@ -13,6 +13,8 @@ import mage.game.events.GameEvent;
 import mage.game.turn.TurnMod;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -104,6 +106,11 @@ class LoseGameDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return this.turnId != null && this.turnId.equals(game.getState().getExtraTurnId());
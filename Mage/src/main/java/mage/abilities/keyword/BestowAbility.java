@@ -18,6 +18,9 @@ import mage.target.TargetPermanent;
 import mage.target.common.TargetCreaturePermanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 702.102. Bestow
  * <p>
@@ -162,6 +165,11 @@ class BestowEntersBattlefieldEffect extends ReplacementEffectImpl {
         return EventType.ENTERS_THE_BATTLEFIELD_SELF == event.getType();
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD_SELF);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getTargetId().equals(source.getSourceId());
@@ -19,6 +19,9 @@ import mage.players.Player;
 import mage.target.common.TargetCardInExile;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Cascade A keyword ability that may let a player cast a random extra spell for
  * no cost. See rule 702.84, “Cascade.”
@@ -76,6 +79,11 @@ public class CascadeAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Spell spell = game.getStack().getSpell(event.getTargetId());
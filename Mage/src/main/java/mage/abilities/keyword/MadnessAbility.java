@@ -21,6 +21,8 @@ import mage.game.events.ZoneChangeEvent;
 import mage.game.stack.Spell;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -149,6 +151,11 @@ class MadnessReplacementEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getTargetId().equals(source.getSourceId())
@@ -188,6 +195,11 @@ class MadnessTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MADNESS_CARD_EXILED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MADNESS_CARD_EXILED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // Check that the event was from the connected replacement effect
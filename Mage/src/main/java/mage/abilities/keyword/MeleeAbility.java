@@ -62,6 +62,11 @@ class MeleeWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE, GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     static int getNumberOfAttackedPlayers(UUID attackerId, Game game) {
         return game
                 .getState()
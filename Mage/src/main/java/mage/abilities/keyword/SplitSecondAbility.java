@@ -11,7 +11,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Split Second
@@ -68,6 +70,11 @@ class SplitSecondEffect extends ContinuousRuleModifyingEffectImpl {
                 || event.getType() == GameEvent.EventType.ACTIVATE_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL, GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == GameEvent.EventType.CAST_SPELL) {
@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfDrawTriggeredAbility extends AtStepTriggeredAbility {
 
     /**
@@ -37,6 +40,11 @@ public class BeginningOfDrawTriggeredAbility extends AtStepTriggeredAbility {
         return event.getType() == GameEvent.EventType.DRAW_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DRAW_STEP_PRE);
+    }
+
     @Override
     protected String generateTriggerPhrase() {
         switch (targetController) {
@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -37,6 +40,11 @@ public class BeginningOfPostcombatMainTriggeredAbility extends AtStepTriggeredAb
         return event.getType() == GameEvent.EventType.POSTCOMBAT_MAIN_PHASE_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.POSTCOMBAT_MAIN_PHASE_PRE);
+    }
+
     @Override
     protected String generateTriggerPhrase() {
         switch (targetController) {
@@ -30,8 +30,9 @@ import mage.util.ManaUtil;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.*;
 
 public abstract class CardImpl extends MageObjectImpl implements Card {
@@ -40,6 +41,12 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     private static final Logger logger = Logger.getLogger(CardImpl.class);
 
+    // card constructors cache, so new cards creation do not need reflection lookups (e.g. on each game start)
+    private static final ClassValue<MethodHandle> cardConstructors = new CardConstructors(
+            MethodType.methodType(Card.class, UUID.class, CardSetInfo.class));
+    private static final ClassValue<MethodHandle> cardConstructorsWithoutSetInfo = new CardConstructors(
+            MethodType.methodType(Card.class, UUID.class));
+
     protected UUID ownerId;
     protected Rarity rarity;
     protected Class<? extends Card> secondSideCardClazz;
@@ -183,27 +190,39 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         try {
             Card card;
             if (setInfo == null) {
-                Constructor<?> con = clazz.getConstructor(UUID.class);
-                card = (Card) con.newInstance(new Object[]{null});
+                card = (Card) cardConstructorsWithoutSetInfo.get(clazz).invokeExact((UUID) null);
             } else {
                 setCode = setInfo.getExpansionSetCode();
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
-                card = (Card) con.newInstance(null, setInfo);
+                card = (Card) cardConstructors.get(clazz).invokeExact((UUID) null, setInfo);
             }
             return card;
-        } catch (Exception e) {
+        } catch (Throwable e) {
             String err = "Error loading card: " + clazz.getCanonicalName() + " (" + setCode + ")";
             if (errorList != null) {
                 errorList.add(err);
             }
+            logger.fatal(err, e);
+            return null;
+        }
+    }
 
-            if (e instanceof InvocationTargetException) {
-                logger.fatal(err, ((InvocationTargetException) e).getTargetException());
-            } else {
-                logger.fatal(err, e);
-            }
+    private static final class CardConstructors extends ClassValue<MethodHandle> {
 
-            return null;
+        private final MethodType constructorType;
+
+        private CardConstructors(MethodType constructorType) {
+            this.constructorType = constructorType;
+        }
+
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findConstructor(type, constructorType.changeReturnType(void.class))
+                        .asType(constructorType);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException("Can't find card constructor " + constructorType + " in " + type.getName(), e);
+            }
         }
     }
 
@@ -49,6 +49,8 @@ public interface Cards extends Set<UUID>, Serializable, Copyable<Cards> {
 
     String getValue(Game game); // AI related code to find changes in game state
 
+    long getStateHash(Game game); // AI related code to find changes in game state, same as getValue but without strings
+
     /**
      * Get a collection view of the unique non-null cards in this set.
      *
@@ -7,6 +7,7 @@ import mage.constants.Zone;
 import mage.filter.FilterCard;
 import mage.game.Game;
 import mage.util.RandomUtil;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 
 import java.io.Serializable;
@@ -164,6 +165,19 @@ public class CardsImpl extends LinkedHashSet<UUID> implements Cards, Serializabl
         return sb.toString();
     }
 
+    @Override
+    public long getStateHash(Game game) {
+        // same cards in any order must have same hash
+        long hash = 0;
+        for (UUID cardId : this) {
+            Card card = game.getCard(cardId);
+            if (card != null) {
+                hash = StateHashUtil.unordered(hash, StateHashUtil.of(card.getName()));
+            }
+        }
+        return hash;
+    }
+
     @Override
     public void addAllCards(Collection<? extends Card> cards) {
         if (cards != null) {
@@ -15,6 +15,10 @@ import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -193,6 +197,30 @@ public abstract class ExpansionSet implements Serializable {
         return cards;
     }
 
+    /**
+     * Content hash of the set's cards list. Stored in cards db, so unchanged sets can be
+     * skipped on startup scan (see CardScanner)
+     */
+    public String getCardsFingerprint() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Can't find hash algorithm for set's cards", e);
+        }
+        for (SetCardInfo card : cards) {
+            CardGraphicInfo graphicInfo = card.getGraphicInfo();
+            String cardData = card.getName()
+                    + "|" + card.getCardNumber()
+                    + "|" + card.getRarity()
+                    + "|" + (card.getCardClass() == null ? "" : card.getCardClass().getName())
+                    + "|" + (graphicInfo == null ? "" : graphicInfo.getFrameStyle() + "|" + graphicInfo.getUsesVariousArt() + "|" + graphicInfo.getFrameColor())
+                    + "\n";
+            digest.update(cardData.getBytes(StandardCharsets.UTF_8));
+        }
+        return new BigInteger(1, digest.digest()).toString(16);
+    }
+
     @Override
     public String toString() {
         return name;
@@ -0,0 +1,15 @@
+package mage.cards;
+
+import java.util.List;
+
+/**
+ * Build-time generated list of all available sets (see ExpansionSetsRegistryGenerator and Mage.Sets/pom.xml).
+ * <p>
+ * Allows to load sets without classpath scanning and reflection calls on each set class.
+ */
+public interface ExpansionSetsRegistry {
+
+    String GENERATED_CLASS_NAME = "mage.sets.GeneratedExpansionSetsRegistry";
+
+    List<ExpansionSet> getExpansionSets();
+}
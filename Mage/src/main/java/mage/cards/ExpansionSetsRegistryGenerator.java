@@ -0,0 +1,73 @@
+package mage.cards;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build tool: generates ExpansionSetsRegistry implementation from sets source files.
+ * <p>
+ * Runs by Mage.Sets build before compile, so generated class will be always in sync with sets package
+ * (all top level classes from mage.sets package must be a sets with static getInstance method).
+ * <p>
+ * Usage: ExpansionSetsRegistryGenerator sets_source_dir output_source_dir
+ */
+public final class ExpansionSetsRegistryGenerator {
+
+    private static final String SETS_PACKAGE = "mage.sets";
+
+    private ExpansionSetsRegistryGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ExpansionSetsRegistryGenerator sets_source_dir output_source_dir");
+        }
+
+        File setsDir = new File(args[0]);
+        File[] files = setsDir.listFiles((dir, name) -> name.endsWith(".java"));
+        if (files == null || files.length == 0) {
+            throw new IllegalStateException("Can't find sets source files in " + setsDir.getAbsolutePath());
+        }
+        List<String> setClassNames = new ArrayList<>();
+        for (File file : files) {
+            setClassNames.add(file.getName().substring(0, file.getName().length() - ".java".length()));
+        }
+        Collections.sort(setClassNames);
+
+        File outputFile = new File(args[1], ExpansionSetsRegistry.GENERATED_CLASS_NAME.replace('.', File.separatorChar) + ".java");
+        if (!outputFile.getParentFile().exists() && !outputFile.getParentFile().mkdirs()) {
+            throw new IOException("Can't create output dir " + outputFile.getParentFile().getAbsolutePath());
+        }
+        Files.write(outputFile.toPath(), generateSource(setClassNames).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Generated sets registry with " + setClassNames.size() + " sets: " + outputFile.getAbsolutePath());
+    }
+
+    static String generateSource(List<String> setClassNames) {
+        String className = ExpansionSetsRegistry.GENERATED_CLASS_NAME.substring(SETS_PACKAGE.length() + 1);
+        StringBuilder res = new StringBuilder();
+        res.append("package ").append(SETS_PACKAGE).append(";\n\n");
+        res.append("import mage.cards.ExpansionSet;\n");
+        res.append("import mage.cards.ExpansionSetsRegistry;\n\n");
+        res.append("import java.util.ArrayList;\n");
+        res.append("import java.util.List;\n\n");
+        res.append("/**\n");
+        res.append(" * Generated by ExpansionSetsRegistryGenerator, do not edit.\n");
+        res.append(" */\n");
+        res.append("public final class ").append(className).append(" implements ExpansionSetsRegistry {\n\n");
+        res.append("    @Override\n");
+        res.append("    public List<ExpansionSet> getExpansionSets() {\n");
+        res.append("        List<ExpansionSet> res = new ArrayList<>(").append(setClassNames.size()).append(");\n");
+        for (String setClassName : setClassNames) {
+            res.append("        res.add(").append(setClassName).append(".getInstance());\n");
+        }
+        res.append("        return res;\n");
+        res.append("    }\n");
+        res.append("}\n");
+        return res.toString();
+    }
+}
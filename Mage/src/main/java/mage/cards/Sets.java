@@ -29,15 +29,40 @@ public class Sets extends HashMap<String, ExpansionSet> {
     private final Set<String> customSets = new HashSet<>();
 
     private Sets() {
-        List<String> packages = new ArrayList<>();
-        packages.add("mage.sets");
-        for (Class c : ClassScanner.findClasses(null, packages, ExpansionSet.class)) {
-            try {
-                addSet((ExpansionSet) c.getMethod("getInstance").invoke(null));
-            } catch (Exception ex) {
-                logger.error(ex);
+        long startTime = System.currentTimeMillis();
+        List<ExpansionSet> generatedSets = loadGeneratedSets();
+        if (generatedSets != null) {
+            generatedSets.forEach(this::addSet);
+        } else {
+            // dev builds without generated registry (e.g. IDE compile without maven) - find sets by classpath scan
+            List<String> packages = new ArrayList<>();
+            packages.add("mage.sets");
+            for (Class c : ClassScanner.findClasses(null, packages, ExpansionSet.class)) {
+                try {
+                    addSet((ExpansionSet) c.getMethod("getInstance").invoke(null));
+                } catch (Exception ex) {
+                    logger.error(ex);
+                }
             }
         }
+        logger.info("Sets loaded: " + this.size() + " (" + (generatedSets != null ? "registry" : "classpath scan")
+                + ", " + (System.currentTimeMillis() - startTime) + " ms)");
+    }
+
+    private static List<ExpansionSet> loadGeneratedSets() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = Sets.class.getClassLoader();
+        }
+        try {
+            Class<?> registryClass = Class.forName(ExpansionSetsRegistry.GENERATED_CLASS_NAME, true, classLoader);
+            return ((ExpansionSetsRegistry) registryClass.getConstructor().newInstance()).getExpansionSets();
+        } catch (ClassNotFoundException ex) {
+            return null;
+        } catch (Exception ex) {
+            logger.error("Can't load generated sets registry, sets will be searched by classpath scan", ex);
+            return null;
+        }
     }
 
     public void addSet(ExpansionSet set) {
@@ -0,0 +1,231 @@
+package mage.cards.repository;
+
+import mage.constants.CardType;
+import mage.constants.SuperType;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Read only in-memory snapshot of the cards database for fast searches without SQL queries
+ * (deck loading, deck validation, card names choose, etc).
+ * <p>
+ * Built once from all db records, database keeps as persistence layer only. Must be re-created
+ * after any db changes (see CardRepository). All returned lists are copies, so callers can modify it.
+ * <p>
+ * All text searches ignore char case like the db (see IGNORECASE in DatabaseUtils).
+ */
+class CardCatalog {
+
+    private static final List<CardInfo> EMPTY = Collections.emptyList();
+
+    private final int cardsCount;
+
+    // name -> all printings
+    private final Map<String, List<CardInfo>> byName = new HashMap<>();
+    // flip, second side, adventure, mdfc second side name -> all printings
+    private final Map<String, List<CardInfo>> byOtherName = new HashMap<>();
+    // set code + card number -> all cards (double faced cards can use same number for both sides)
+    private final Map<String, List<CardInfo>> bySetAndNumber = new HashMap<>();
+    // class name -> all printings
+    private final Map<String, List<CardInfo>> byClassName = new HashMap<>();
+    private final List<String> classNames = new ArrayList<>();
+
+    private final SortedSet<String> names;
+    private final SortedSet<String> nonLandNames;
+    private final SortedSet<String> nonbasicLandNames;
+    private final SortedSet<String> notBasicLandNames;
+    private final SortedSet<String> creatureNames;
+    private final SortedSet<String> artifactNames;
+    private final SortedSet<String> nonLandAndNonCreatureNames;
+    private final SortedSet<String> nonArtifactAndNonLandNames;
+
+    CardCatalog(List<CardInfo> allCards) {
+        this.cardsCount = allCards.size();
+        for (CardInfo card : allCards) {
+            addTo(byName, card.getName(), card);
+            addTo(byOtherName, card.getFlipCardName(), card);
+            addTo(byOtherName, card.getSecondSideName(), card);
+            addTo(byOtherName, card.getAdventureSpellName(), card);
+            addTo(byOtherName, card.getModalDoubleFacedSecondSideName(), card);
+            addTo(bySetAndNumber, getSetAndNumberKey(card.getSetCode(), card.getCardNumber()), card);
+            addTo(byClassName, card.getClassName(), card);
+            classNames.add(card.getClassName());
+        }
+
+        // same filters as old sql queries by types/supertypes columns
+        names = collectNames(allCards, card -> true);
+        nonLandNames = collectNames(allCards, card -> !hasType(card, CardType.LAND));
+        nonbasicLandNames = collectNames(allCards, card -> !hasSuperType(card, SuperType.BASIC) && hasType(card, CardType.LAND));
+        notBasicLandNames = collectNames(allCards, card -> !hasSuperType(card, SuperType.BASIC));
+        creatureNames = collectNames(allCards, card -> hasType(card, CardType.CREATURE));
+        artifactNames = collectNames(allCards, card -> hasType(card, CardType.ARTIFACT));
+        nonLandAndNonCreatureNames = collectNames(allCards, card -> !hasType(card, CardType.CREATURE) && !hasType(card, CardType.LAND));
+        nonArtifactAndNonLandNames = collectNames(allCards, card -> !hasType(card, CardType.ARTIFACT) && !hasType(card, CardType.LAND));
+    }
+
+    private static void addTo(Map<String, List<CardInfo>> map, String key, CardInfo card) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        List<CardInfo> list = map.computeIfAbsent(getKey(key), k -> new ArrayList<>(1));
+        if (list.isEmpty() || list.get(list.size() - 1) != card) {
+            // same card can use same name for different sides
+            list.add(card);
+        }
+    }
+
+    private static List<CardInfo> find(Map<String, List<CardInfo>> map, String key) {
+        if (key == null) {
+            return EMPTY;
+        }
+        return map.getOrDefault(getKey(key), EMPTY);
+    }
+
+    private static String getKey(String value) {
+        return value.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String getSetAndNumberKey(String setCode, String cardNumber) {
+        return setCode + "_" + cardNumber;
+    }
+
+    private static boolean hasType(CardInfo card, CardType cardType) {
+        return card.types != null && card.types.contains(cardType.name());
+    }
+
+    private static boolean hasSuperType(CardInfo card, SuperType superType) {
+        return card.supertypes != null && card.supertypes.contains(superType.name());
+    }
+
+    private static SortedSet<String> collectNames(List<CardInfo> allCards, Predicate<CardInfo> filter) {
+        SortedSet<String> res = new TreeSet<>();
+        for (CardInfo card : allCards) {
+            if (filter.test(card)) {
+                addNames(card, res);
+            }
+        }
+        return Collections.unmodifiableSortedSet(res);
+    }
+
+    private static void addNames(CardInfo card, Set<String> namesList) {
+        // normal names
+        int result = card.getName().indexOf(" // ");
+        if (result > 0) {
+            namesList.add(card.getName().substring(0, result));
+            namesList.add(card.getName().substring(result + 4));
+        } else {
+            namesList.add(card.getName());
+        }
+
+        // additional names from double side cards
+        if (card.getSecondSideName() != null && !card.getSecondSideName().isEmpty()) {
+            namesList.add(card.getSecondSideName());
+        }
+        if (card.getModalDoubleFacedSecondSideName() != null && !card.getModalDoubleFacedSecondSideName().isEmpty()) {
+            namesList.add(card.getModalDoubleFacedSecondSideName());
+        }
+        if (card.getFlipCardName() != null && !card.getFlipCardName().isEmpty()) {
+            namesList.add(card.getFlipCardName());
+        }
+    }
+
+    int getCardsCount() {
+        return cardsCount;
+    }
+
+    /**
+     * Same logic as db search, see CardRepository.findCards for details
+     */
+    List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        List<CardInfo> results;
+        if (name.contains(" // ")) {
+            // split card stored under full card name, other cards under first half
+            results = find(byName, name);
+            if (results.isEmpty()) {
+                results = find(byName, name.split(" // ", 2)[0]);
+            }
+        } else {
+            results = find(byName, name);
+            if (results.isEmpty()) {
+                results = find(byOtherName, name);
+            } else {
+                CardInfo firstCardInfo = results.get(0);
+                if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+                    // find the main card by its set code and card number
+                    String fullSplitCardName = null;
+                    for (CardInfo cardInfo : find(bySetAndNumber, getSetAndNumberKey(firstCardInfo.setCode, firstCardInfo.cardNumber))) {
+                        if (cardInfo.isSplitCard()) {
+                            fullSplitCardName = cardInfo.name;
+                            break;
+                        }
+                    }
+                    if (fullSplitCardName == null) {
+                        return new ArrayList<>();
+                    }
+                    results = find(byName, fullSplitCardName);
+                }
+            }
+        }
+
+        if (limitByMaxAmount > 0 && results.size() > limitByMaxAmount) {
+            return new ArrayList<>(results.subList(0, (int) limitByMaxAmount));
+        }
+        return new ArrayList<>(results);
+    }
+
+    CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardInfo nightCard = null;
+        for (CardInfo cardInfo : find(bySetAndNumber, getSetAndNumberKey(setCode, cardNumber))) {
+            if (!cardInfo.isNightCard()) {
+                return cardInfo;
+            }
+            if (nightCard == null) {
+                nightCard = cardInfo;
+            }
+        }
+        // some double faced cards can use second side card with same number as main side
+        // (example: vow - 65 - Jacob Hauken, Inspector), so main side has priority
+        return ignoreNightCards ? null : nightCard;
+    }
+
+    List<CardInfo> findCardsByClass(String canonicalClassName) {
+        return new ArrayList<>(find(byClassName, canonicalClassName));
+    }
+
+    List<String> getClassNames() {
+        return new ArrayList<>(classNames);
+    }
+
+    SortedSet<String> getNames() {
+        return names;
+    }
+
+    SortedSet<String> getNonLandNames() {
+        return nonLandNames;
+    }
+
+    SortedSet<String> getNonbasicLandNames() {
+        return nonbasicLandNames;
+    }
+
+    SortedSet<String> getNotBasicLandNames() {
+        return notBasicLandNames;
+    }
+
+    SortedSet<String> getCreatureNames() {
+        return creatureNames;
+    }
+
+    SortedSet<String> getArtifactNames() {
+        return artifactNames;
+    }
+
+    SortedSet<String> getNonLandAndNonCreatureNames() {
+        return nonLandAndNonCreatureNames;
+    }
+
+    SortedSet<String> getNonArtifactAndNonLandNames() {
+        return nonArtifactAndNonLandNames;
+    }
+}
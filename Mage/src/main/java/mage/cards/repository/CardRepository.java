@@ -6,13 +6,10 @@ import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.support.DatabaseConnection;
 import com.j256.ormlite.table.TableUtils;
-import mage.constants.CardType;
 import mage.constants.SetType;
-import mage.constants.SuperType;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
@@ -43,6 +40,10 @@ public enum CardRepository {
 
     private Dao<CardInfo, Object> cardsDao;
 
+    // fast searches without sql queries, loads on first usage and resets on any db changes
+    private volatile CardCatalog catalog;
+    private final Object catalogLock = new Object();
+
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
             "CSP",
@@ -119,33 +120,44 @@ public enum CardRepository {
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
             //
+        } finally {
+            resetCatalog();
         }
     }
 
-    private void addNewNames(CardInfo card, Set<String> namesList) {
-        // require before call: qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName"...);
-
-        // normal names
-        int result = card.getName().indexOf(" // ");
-        if (result > 0) {
-            namesList.add(card.getName().substring(0, result));
-            namesList.add(card.getName().substring(result + 4));
-        } else {
-            namesList.add(card.getName());
-        }
+    private CardCatalog getCatalog() {
+        return getCatalog(true);
+    }
 
-        // additional names from double side cards
-        if (card.getSecondSideName() != null && !card.getSecondSideName().isEmpty()) {
-            namesList.add(card.getSecondSideName());
-        }
-        if (card.getModalDoubleFacedSecondSideName() != null && !card.getModalDoubleFacedSecondSideName().isEmpty()) {
-            namesList.add(card.getModalDoubleFacedSecondSideName());
+    private CardCatalog getCatalog(boolean canCheckDatabaseHealth) {
+        CardCatalog res = catalog;
+        if (res != null) {
+            return res;
         }
-        if (card.getFlipCardName() != null && !card.getFlipCardName().isEmpty()) {
-            namesList.add(card.getFlipCardName());
+        synchronized (catalogLock) {
+            if (catalog == null) {
+                try {
+                    long startTime = System.currentTimeMillis();
+                    catalog = new CardCatalog(cardsDao.queryForAll());
+                    logger.info(String.format("DB: cards catalog loaded, %d cards in %.2f secs",
+                            catalog.getCardsCount(),
+                            (System.currentTimeMillis() - startTime) / 1000.0
+                    ));
+                } catch (SQLException e) {
+                    Logger.getLogger(CardRepository.class).error("Error loading cards catalog from DB, possible low memory: " + e, e);
+                    if (canCheckDatabaseHealth) {
+                        processMemoryErrors(e);
+                    }
+                    return new CardCatalog(Collections.emptyList());
+                }
+            }
+            return catalog;
         }
-        if (card.getMeldsToCardName() != null && !card.getMeldsToCardName().isEmpty()) {
-            namesList.add(card.getMeldsToCardName());
+    }
+
+    private void resetCatalog() {
+        synchronized (catalogLock) {
+            catalog = null;
         }
     }
 
@@ -154,150 +166,35 @@ public enum CardRepository {
     }
 
     public Set<String> getNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNames());
     }
 
     public Set<String> getNonLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonLandNames());
     }
 
     public Set<String> getNonbasicLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("supertypes", '%' + SuperType.BASIC.name() + '%'),
-                    where.like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonbasicLandNames());
     }
 
     public Set<String> getNotBasicLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            qb.where().not().like("supertypes", new SelectArg('%' + SuperType.BASIC.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNotBasicLandNames());
     }
 
     public Set<String> getCreatureNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getCreatureNames());
     }
 
     public Set<String> getArtifactNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getArtifactNames());
     }
 
     public Set<String> getNonLandAndNonCreatureNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.CREATURE.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonLandAndNonCreatureNames());
     }
 
     public Set<String> getNonArtifactAndNonLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return new TreeSet<>(getCatalog().getNonArtifactAndNonLandNames());
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
@@ -305,45 +202,47 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        return getCatalog().findCard(setCode, cardNumber, ignoreNightCards);
+    }
+
+    /**
+     * Set codes with any cards in db (fast check without full cards loading)
+     */
+    public Set<String> getSetCodesWithCards() {
+        Set<String> res = new HashSet<>();
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-            if (ignoreNightCards) {
-                queryBuilder.limit(1L).where()
-                        .eq("setCode", new SelectArg(setCode))
-                        .and().eq("cardNumber", new SelectArg(cardNumber))
-                        .and().eq("nightCard", new SelectArg(false));
-            } else {
-                queryBuilder.limit(1L).where()
-                        .eq("setCode", new SelectArg(setCode))
-                        .and().eq("cardNumber", new SelectArg(cardNumber));
-
-                // some double faced cards can use second side card with same number as main side
-                // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
-                queryBuilder.orderBy("nightCard", true);
-            }
-            List<CardInfo> result = cardsDao.query(queryBuilder.prepare());
-            if (!result.isEmpty()) {
-                return result.get(0);
+            queryBuilder.distinct().selectColumns("setCode");
+            for (CardInfo card : cardsDao.query(queryBuilder.prepare())) {
+                res.add(card.getSetCode());
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error finding card from DB: " + e, e);
+            Logger.getLogger(CardRepository.class).error("Error getting set codes from DB: " + e, e);
             processMemoryErrors(e);
         }
-        return null;
+        return res;
     }
 
-    public List<String> getClassNames() {
-        List<String> names = new ArrayList<>();
+    /**
+     * All card numbers of the set in db (fast check without full cards loading)
+     */
+    public Set<String> getCardNumbers(String setCode) {
+        Set<String> res = new HashSet<>();
         try {
-            List<CardInfo> results = cardsDao.queryForAll();
-            for (CardInfo card : results) {
-                names.add(card.getClassName());
+            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
+            queryBuilder.selectColumns("cardNumber").where().eq("setCode", new SelectArg(setCode));
+            for (CardInfo card : cardsDao.query(queryBuilder.prepare())) {
+                res.add(card.getCardNumber());
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting classnames from DB, possible low memory:" + e, e);
+            Logger.getLogger(CardRepository.class).error("Error getting card numbers from DB: " + e, e);
             processMemoryErrors(e);
         }
-        return names;
+        return res;
+    }
+
+    public List<String> getClassNames() {
+        return getCatalog().getClassNames();
     }
 
     public List<CardInfo> getMissingCards(List<String> classNames) {
@@ -478,75 +377,7 @@ public enum CardRepository {
      * @canCheckDatabaseHealth try to fix database on any errors (use true anytime except fix methods itself)
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
-        List<CardInfo> results;
-        QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-        if (limitByMaxAmount > 0) {
-            queryBuilder.limit(limitByMaxAmount);
-        }
-
-        try {
-            if (name.contains(" // ")) { //
-                // Try to see if it's a split card first. (Split card stored in DB under full card name)
-                // Could be made faster by searching assuming it's NOT a split card and first searching by the first
-                // half of the name, but this is easier to understand.
-                queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardsDao.query(queryBuilder.prepare());
-
-                // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
-                if (results.isEmpty()) {
-                    String mainCardName = name.split(" // ", 2)[0];
-                    queryBuilder.where().eq("name", new SelectArg(mainCardName));
-                    results = cardsDao.query(queryBuilder.prepare());  // If still empty, then card can't be found
-                }
-            } else { // Cannot tell if string represents the full name of a card or only part of it.
-                // Assume it is the full card name
-                queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardsDao.query(queryBuilder.prepare());
-
-                if (results.isEmpty()) {
-                    // Nothing found when looking for main name, try looking under the other names
-                    queryBuilder.where()
-                            .eq("flipCardName", new SelectArg(name)).or()
-                            .eq("secondSideName", new SelectArg(name)).or()
-                            .eq("adventureSpellName", new SelectArg(name)).or()
-                            .eq("modalDoubleFacedSecondSideName", new SelectArg(name));
-                    results = cardsDao.query(queryBuilder.prepare());
-                } else {
-                    // Check that a full card was found and not a SplitCardHalf
-                    // Can be caused by searching for "Fire" instead of "Fire // Ice"
-                    CardInfo firstCardInfo = results.get(0);
-                    if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
-                        // Find the main card by its setCode and CardNumber
-                        queryBuilder.where()
-                                .eq("setCode", new SelectArg(firstCardInfo.setCode)).and()
-                                .eq("cardNumber", new SelectArg(firstCardInfo.cardNumber));
-                        List<CardInfo> tmpResults = cardsDao.query(queryBuilder.prepare());
-
-                        String fullSplitCardName = null;
-                        for (CardInfo cardInfo : tmpResults) {
-                            if (cardInfo.isSplitCard()) {
-                                fullSplitCardName = cardInfo.name;
-                                break;
-                            }
-                        }
-                        if (fullSplitCardName == null) {
-                            return Collections.emptyList();
-                        }
-
-                        queryBuilder.where().eq("name", new SelectArg(fullSplitCardName));
-                        results = cardsDao.query(queryBuilder.prepare());
-                    }
-                }
-            }
-            return results;
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement: " + e, e);
-            if (canCheckDatabaseHealth) {
-                processMemoryErrors(e);
-            }
-        }
-
-        return Collections.emptyList();
+        return getCatalog(canCheckDatabaseHealth).findCards(name, limitByMaxAmount, returnSplitCardHalf);
     }
 
     public List<CardInfo> findCards(String name, long limitByMaxAmount) {
@@ -554,15 +385,7 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-            queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
-            return cardsDao.query(queryBuilder.prepare());
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement" + e, e);
-            processMemoryErrors(e);
-        }
-        return Collections.emptyList();
+        return getCatalog().findCardsByClass(canonicalClassName);
     }
 
     /**
@@ -672,6 +495,7 @@ public enum CardRepository {
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error opening card repository - " + e, e);
         }
+        resetCatalog();
     }
 
     public void printDatabaseStats(String info) {
@@ -730,10 +554,15 @@ public enum CardRepository {
 
     private static CardInfo safeFindKnownCard() {
         // safe find of known card with memory/db fixes
-        return instance.findCards("Silvercoat Lion", 1, false, false)
-                .stream()
-                .findFirst()
-                .orElse(null);
+        // (must check db itself, not a catalog)
+        try {
+            QueryBuilder<CardInfo, Object> queryBuilder = instance.cardsDao.queryBuilder();
+            queryBuilder.limit(1L).where().eq("name", new SelectArg("Silvercoat Lion"));
+            return instance.cardsDao.queryForFirst(queryBuilder.prepare());
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error finding known card in DB: " + e, e);
+            return null;
+        }
     }
 
     public static boolean checkDatabaseHealthAndFix() {
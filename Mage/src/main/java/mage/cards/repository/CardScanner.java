@@ -3,10 +3,7 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * @author North
@@ -27,17 +24,31 @@ public final class CardScanner {
         }
         scanned = true;
 
+        long startTime = System.currentTimeMillis();
         List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
 
-        // check sets
+        Map<String, ExpansionInfo> knownSets = new HashMap<>();
+        for (ExpansionInfo expansionInfo : ExpansionRepository.instance.getAll()) {
+            knownSets.put(expansionInfo.getCode(), expansionInfo);
+        }
+        Set<String> setsWithCards = CardRepository.instance.getSetCodesWithCards();
+
+        int checkedSets = 0;
         for (ExpansionSet set : Sets.getInstance().values()) {
-            ExpansionInfo expansionInfo = ExpansionRepository.instance.getSetByCode(set.getCode());
+            // check set
+            ExpansionInfo newInfo = new ExpansionInfo(set);
+            ExpansionInfo expansionInfo = knownSets.get(set.getCode());
+            // unchanged set can be skipped, but cards db can be re-created without sets db
+            boolean needCardsCheck = expansionInfo == null
+                    || !Objects.equals(expansionInfo.getCardsFingerprint(), newInfo.getCardsFingerprint())
+                    || (!set.getSetCardInfo().isEmpty() && !setsWithCards.contains(set.getCode()));
             if (expansionInfo == null) {
                 // need add
-                setsToAdd.add(new ExpansionInfo(set));
-            } else if (!expansionInfo.name.equals(set.getName())
+                setsToAdd.add(newInfo);
+            } else if (needCardsCheck
+                    || !expansionInfo.name.equals(set.getName())
                     || !expansionInfo.code.equals(set.getCode())
                     || !(Objects.equals(expansionInfo.blockName, set.getBlockName()))
                     || !expansionInfo.releaseDate.equals(set.getReleaseDate())
@@ -45,15 +56,17 @@ public final class CardScanner {
                     || expansionInfo.boosters != set.hasBoosters()
                     || expansionInfo.basicLands != set.hasBasicLands()) {
                 // need update
-                setsToUpdate.add(new ExpansionInfo(set));
+                setsToUpdate.add(newInfo);
+            }
+            if (!needCardsCheck) {
+                continue;
             }
-        }
-        ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
-        // check cards (only add mode, without updates)
-        for (ExpansionSet set : Sets.getInstance().values()) {
+            // check cards (only add mode, without updates)
+            checkedSets++;
+            Set<String> knownCardNumbers = CardRepository.instance.getCardNumbers(set.getCode());
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!knownCardNumbers.contains(setInfo.getCardNumber())) {
                     // found new card
                     Card card = CardImpl.createCard(
                             setInfo.getCardClass(),
@@ -79,7 +92,12 @@ public final class CardScanner {
                 }
             }
         }
+
+        // save cards first, so an interrupted scan will not keep new fingerprints without new cards
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+        ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
+        logger.info("Cards scan: checked " + checkedSets + " of " + Sets.getInstance().size() + " sets in "
+                + (System.currentTimeMillis() - startTime) + " ms");
     }
 
     public static List<Card> getAllCards() {
@@ -28,6 +28,8 @@ public class ExpansionInfo {
     protected boolean boosters;
     @DatabaseField
     protected boolean basicLands;
+    @DatabaseField
+    protected String cardsFingerprint;
 
     public ExpansionInfo() {
     }
@@ -40,6 +42,7 @@ public class ExpansionInfo {
         this.type = expansionSet.getSetType();
         this.boosters = expansionSet.hasBoosters();
         this.basicLands = expansionSet.hasBasicLands();
+        this.cardsFingerprint = expansionSet.getCardsFingerprint();
     }
 
     public String getName() {
@@ -70,6 +73,10 @@ public class ExpansionInfo {
         return basicLands;
     }
 
+    public String getCardsFingerprint() {
+        return cardsFingerprint;
+    }
+
     @Override
     public String toString() {
         return name;
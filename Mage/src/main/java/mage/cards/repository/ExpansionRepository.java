@@ -29,7 +29,7 @@ public enum ExpansionRepository {
 
     // TODO: delete db version from cards and expansions due un-used (that's dbs re-created on each update)
     private static final String VERSION_ENTITY_NAME = "expansion";
-    private static final long EXPANSION_DB_VERSION = 5;
+    private static final long EXPANSION_DB_VERSION = 6;
     private static final long EXPANSION_CONTENT_VERSION = 18;
 
     private Dao<ExpansionInfo, Object> expansionDao;
@@ -60,6 +60,7 @@ public enum PlayerAction {
     CLIENT_DOWNLOAD_CARD_IMAGES,
     CLIENT_RECONNECT,
     CLIENT_REPLAY_ACTION,
+    CLIENT_REQUEST_FULL_GAME_VIEW, // client can't apply game view diff, see GameViewDiff
     HOLD_PRIORITY,
     UNHOLD_PRIORITY,
     VIEW_LIMITED_DECK,
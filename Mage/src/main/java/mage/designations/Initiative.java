@@ -15,7 +15,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -63,6 +65,11 @@ class InitiativeDamageTriggeredAbility extends TriggeredAbilityImpl implements B
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PLAYER);
+    }
+
     @Override
     public boolean checkEvent(DamagedPlayerEvent event, Game game) {
         if (!event.isCombatDamage() || !event.getTargetId().equals(game.getInitiativeId())) {
@@ -139,6 +146,11 @@ class InitiativeVentureTriggeredAbility extends TriggeredAbilityImpl {
                 || event.getType() == GameEvent.EventType.TOOK_INITIATIVE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE, GameEvent.EventType.TOOK_INITIATIVE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         UUID playerId;
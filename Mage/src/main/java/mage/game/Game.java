@@ -288,9 +288,20 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
 
     /**
      * Prepare game for any playable calc (available mana/abilities)
+     * <p>
+     * Calc can change the game, so it returns a new copy each time (except the reusable copy, see setSimulationForPlayableCalc)
+     * <p>
+     * Calc on the live game without copy is not supported: costs, mana and restriction checks change triggers,
+     * effects and cards in many places, so it can't be restored by undo log or bookmarks safely
      */
     Game createSimulationForPlayableCalc();
 
+    /**
+     * Switch a throw away game copy to playable calc state, so the next (outer) playable calc will use it
+     * without new copy, all nested calcs still make own copies (example: game copy for a game view)
+     */
+    void setSimulationForPlayableCalc();
+
     boolean inCheckPlayableState();
 
     MageObject getLastKnownInformation(UUID objectId, Zone zone);
@@ -73,6 +73,7 @@ import mage.target.TargetPlayer;
 import mage.util.*;
 import mage.util.functions.CopyApplier;
 import mage.watchers.Watcher;
+import mage.watchers.Watchers;
 import mage.watchers.common.*;
 import org.apache.log4j.Logger;
 
@@ -104,6 +105,7 @@ public abstract class GameImpl implements Game {
     protected boolean simulation = false; // for inner simulations (game without user messages)
     protected boolean aiGame = false; // for inner simulations (ai game, debug only)
     protected boolean checkPlayableState = false; // for inner playable calculations (game without user dialogs)
+    protected boolean playableCalcCopyReusable = false; // throw away copy for one outer playable calc (not copied)
 
     protected AtomicInteger totalErrorsCount = new AtomicInteger(); // for debug only: error stats
 
@@ -114,6 +116,13 @@ public abstract class GameImpl implements Game {
     protected transient PlayerQueryEventSource playerQueryEventSource = new PlayerQueryEventSource();
 
     protected Map<UUID, Card> gameCards = new HashMap<>();
+    // copy on write for game copies: cards are shared between the source game and the copy until first usage (see getCard),
+    // so both games clone only really used cards (most of the cards are in libraries and never used by simulations)
+    // and shared instances never changed (copy keeps the data from the copy moment, even if the source game continues)
+    // null - game owns all cards (original game or all cards already copied)
+    protected Set<UUID> gameCardsOwned = null;
+    // source game was copied (can be set from other threads), so all current cards are shared now
+    protected volatile boolean gameCardsShared = false;
     protected Map<UUID, MeldCard> meldCards = new HashMap<>(0);
 
     protected Map<Zone, Map<UUID, MageObject>> lki = new EnumMap<>(Zone.class);
@@ -195,7 +204,11 @@ public abstract class GameImpl implements Game {
         //this.tableEventSource = game.tableEventSource; // client-server part, not need on copy/simulations
         //this.playerQueryEventSource = game.playerQueryEventSource; // client-server part, not need on copy/simulations
 
-        this.gameCards = CardUtil.deepCopyObject(game.gameCards);
+        // source game can be copied by other threads at the same time, so it only gets the shared flag here
+        // and will clone shared cards by itself on next usage (must be set before cards read)
+        game.gameCardsShared = true;
+        this.gameCards = new HashMap<>(game.gameCards);
+        this.gameCardsOwned = new HashSet<>();
         this.meldCards = CardUtil.deepCopyObject(game.meldCards);
 
         this.lki = CardUtil.deepCopyObject(game.lki);
@@ -262,12 +275,25 @@ public abstract class GameImpl implements Game {
 
     @Override
     public Game createSimulationForPlayableCalc() {
+        if (this.playableCalcCopyReusable) {
+            // outer calc only, nested calcs (example: available mana inside playable abilities)
+            // can change the game, so it must use own copies as before
+            this.playableCalcCopyReusable = false;
+            return this;
+        }
         Game res = this.copy();
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).checkPlayableState = true;
         return res;
     }
 
+    @Override
+    public void setSimulationForPlayableCalc() {
+        this.simulation = true;
+        this.checkPlayableState = true;
+        this.playableCalcCopyReusable = true;
+    }
+
     @Override
     public boolean inCheckPlayableState() {
         return checkPlayableState;
@@ -351,15 +377,48 @@ public abstract class GameImpl implements Game {
     }
 
     private void addCardToState(Card card) {
+        prepareGameCardsOwnership();
         gameCards.put(card.getId(), card);
+        if (gameCardsOwned != null) {
+            gameCardsOwned.add(card.getId());
+        }
         state.addCard(card);
     }
 
     @Override
     public Collection<Card> getCards() {
+        // cards can be changed outside, so copy all shared cards
+        prepareGameCardsOwnership();
+        if (gameCardsOwned != null) {
+            for (UUID cardId : new ArrayList<>(gameCards.keySet())) {
+                prepareGameCardForUsage(cardId);
+            }
+            gameCardsOwned = null;
+        }
         return gameCards.values();
     }
 
+    /**
+     * Return game card for any usage (it can be changed outside, so game copy must clone it from shared data)
+     */
+    private Card prepareGameCardForUsage(UUID cardId) {
+        prepareGameCardsOwnership();
+        Card card = gameCards.get(cardId);
+        if (card != null && gameCardsOwned != null && gameCardsOwned.add(cardId)) {
+            card = card.copy();
+            gameCards.put(cardId, card);
+        }
+        return card;
+    }
+
+    private void prepareGameCardsOwnership() {
+        if (gameCardsShared) {
+            // game was copied, so all cards are shared with the copy and must be cloned before usage
+            gameCardsShared = false;
+            gameCardsOwned = new HashSet<>();
+        }
+    }
+
     @Override
     public void addMeldCard(UUID meldId, MeldCard meldCard) {
         meldCards.put(meldId, meldCard);
@@ -422,19 +481,15 @@ public abstract class GameImpl implements Game {
         if (getPermanentsEntering().containsKey(objectId)) {
             return getPermanentEntering(objectId);
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
-                return item;
-            }
-            if (item instanceof Spell && item.getSourceId().equals(objectId)) {
-                return item;
-            }
+        // stack and command zone use own indexes, so no needs in full search
+        object = state.getStack().getStackObjectOrSpell(objectId);
+        if (object != null) {
+            return object;
         }
 
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        object = state.getCommand().getCommandObject(objectId);
+        if (object != null) {
+            return object;
         }
 
         object = getCard(objectId);
@@ -483,18 +538,13 @@ public abstract class GameImpl implements Game {
         if (object != null) {
             return object;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        CommandObject commandObject = state.getCommand().getCommandObject(objectId);
+        if (commandObject instanceof Commander) {
+            return commandObject;
         }
         object = getCard(objectId);
         if (object == null) {
-            for (CommandObject commandObject : state.getCommand()) {
-                if (commandObject.getId().equals(objectId)) {
-                    return commandObject;
-                }
-            }
+            object = commandObject;
         }
         return object;
     }
@@ -504,24 +554,13 @@ public abstract class GameImpl implements Game {
         if (objectId == null) {
             return null;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
-        }
-        return null;
+        return state.getCommand().getCommandObject(objectId);
     }
 
     @Override
     public Dungeon getDungeon(UUID objectId) {
-        return state
-                .getCommand()
-                .stream()
-                .filter(commandObject -> commandObject.getId().equals(objectId))
-                .filter(Dungeon.class::isInstance)
-                .map(Dungeon.class::cast)
-                .findFirst()
-                .orElse(null);
+        CommandObject commandObject = state.getCommand().getCommandObject(objectId);
+        return commandObject instanceof Dungeon ? (Dungeon) commandObject : null;
     }
 
     @Override
@@ -761,7 +800,7 @@ public abstract class GameImpl implements Game {
         if (cardId == null) {
             return null;
         }
-        Card card = gameCards.get(cardId);
+        Card card = prepareGameCardForUsage(cardId);
         if (card == null) {
             card = state.getCopiedCard(cardId);
         }
@@ -1025,6 +1064,8 @@ public abstract class GameImpl implements Game {
     @Override
     public void cleanUp() {
         gameCards.clear();
+        gameCardsOwned = null;
+        gameCardsShared = false;
         meldCards.clear();
     }
 
@@ -1568,6 +1609,13 @@ public abstract class GameImpl implements Game {
             for (Player player : state.getPlayers().values()) {
                 player.abort();
             }
+
+            if (DebugUtil.GAME_SHOW_WATCHERS_CALLS_STATS) {
+                logger.info(Watchers.getDebugCallsStats());
+            }
+            if (DebugUtil.GAME_SHOW_RULES_CACHE_STATS) {
+                logger.info(CardRulesCache.getDebugStats());
+            }
         }
     }
 
@@ -1700,7 +1748,7 @@ public abstract class GameImpl implements Game {
                             if (!resuming) {
                                 // 603.3. Once an ability has triggered, its controller puts it on the stack as an object that's not a card the next time a player would receive priority
                                 checkStateAndTriggered();
-                                applyEffects();
+                                applyEffectsIfChanged();
                                 if (state.getStack().isEmpty()) {
                                     resetLKI();
                                 }
@@ -1714,7 +1762,7 @@ public abstract class GameImpl implements Game {
                                         return;
                                     }
                                     getState().handleSimultaneousEvent(this); // needed here to handle triggers e.g. from paying costs like sacrificing a creatures before LKIShort is cleared
-                                    applyEffects();
+                                    applyEffectsIfChanged();
                                 }
                                 if (isPaused()) {
                                     return;
@@ -1937,6 +1985,27 @@ public abstract class GameImpl implements Game {
         state.applyEffects(this);
     }
 
+    /**
+     * Priority loop version of applyEffects: players can pass priority many times without any game
+     * changes, so layer effects will be applied only after tracked changes (events, new effects, etc).
+     * Use DebugUtil.GAME_APPLY_EFFECTS_CHECK_SKIPS to find changes without tracking.
+     */
+    private synchronized void applyEffectsIfChanged() {
+        if (state.isChangedSinceApplyEffects()) {
+            applyEffects();
+            return;
+        }
+        if (DebugUtil.GAME_APPLY_EFFECTS_CHECK_SKIPS) {
+            long skippedHash = state.getStateHash(this);
+            applyEffects();
+            long appliedHash = state.getStateHash(this);
+            if (skippedHash != appliedHash) {
+                throw new IllegalStateException("Wrong applyEffects skip: game state was changed without tracking, turn "
+                        + getTurnNum() + ", step " + getTurnStepType() + ", stack " + state.getStack().size());
+            }
+        }
+    }
+
     @Override
     public void processAction() {
         state.handleSimultaneousEvent(this);
@@ -2038,6 +2107,7 @@ public abstract class GameImpl implements Game {
         }
         permanent.setCreateOrder(createOrder);
         getBattlefield().addPermanent(permanent);
+        state.markChanged();
     }
 
     @Override
@@ -3639,6 +3709,10 @@ public abstract class GameImpl implements Game {
      */
     @Override
     public void resetLKI() {
+        if (!lki.isEmpty()) {
+            // layer effects can use LKI to check source abilities
+            state.markChanged();
+        }
         lki.clear();
         lkiExtended.clear();
         lkiCardState.clear();
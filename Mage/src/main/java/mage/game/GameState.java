@@ -35,6 +35,7 @@ import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
 import mage.util.Copyable;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -102,6 +103,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     private Map<UUID, Zone> zones = new HashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
     private Map<UUID, CardState> cardState = new HashMap<>();
+    private Set<UUID> cardStateShared = new HashSet<>(); // copy on write: card states shared with snapshots, see snapshot
     private Map<MageObjectReference, Map<String, Object>> permanentCostsTags = new HashMap<>(); // Permanent reference -> map of (tag -> values) describing how the permanent's spell was cast
     private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
     private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
@@ -115,6 +117,9 @@ public class GameState implements Serializable, Copyable<GameState> {
     private boolean reverseTurnOrder = false;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private int changesCounter; // Upcounting number of tracked changes that can affect layer effects (events, effects, zones, values)
+    private int appliedChangesCounter = -1; // changesCounter of the last applyEffects execution (-1 to force next execution)
+    private int appliedStackSize = -1;
 
     public GameState() {
         players = new Players();
@@ -137,6 +142,10 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     protected GameState(final GameState state) {
+        this(state, false);
+    }
+
+    protected GameState(final GameState state, boolean snapshot) {
         this.players = state.players.copy();
         this.playerList = state.playerList.copy();
         this.choosingPlayerId = state.choosingPlayerId;
@@ -171,17 +180,36 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.specialActions = state.specialActions.copy();
         this.combat = state.combat.copy();
         this.turnMods = state.turnMods.copy();
-        this.watchers = state.watchers.copy();
+        this.watchers = snapshot ? state.watchers.snapshot() : state.watchers.copy();
         this.values = CardUtil.deepCopyObject(state.values);
         this.zones.putAll(state.zones);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        this.cardState = CardUtil.deepCopyObject(state.cardState);
+        if (snapshot) {
+            // share unchanged card states until first write, see getCardState
+            // states with gained abilities must be copied cause its abilities can be used by permanents
+            this.cardState = new HashMap<>(state.cardState.size());
+            for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
+                CardState stateToShare = entry.getValue();
+                if (stateToShare.getAbilities().isEmpty() && !stateToShare.hasLostAllAbilities()) {
+                    this.cardState.put(entry.getKey(), stateToShare);
+                    this.cardStateShared.add(entry.getKey());
+                    state.cardStateShared.add(entry.getKey());
+                } else {
+                    this.cardState.put(entry.getKey(), stateToShare.copy());
+                }
+            }
+        } else {
+            this.cardState = CardUtil.deepCopyObject(state.cardState);
+        }
         this.permanentCostsTags = CardUtil.deepCopyObject(state.permanentCostsTags);
         this.mageObjectAttribute = CardUtil.deepCopyObject(state.mageObjectAttribute);
         this.zoneChangeCounter.putAll(state.zoneChangeCounter);
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.changesCounter = state.changesCounter;
+        this.appliedChangesCounter = state.appliedChangesCounter;
+        this.appliedStackSize = state.appliedStackSize;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -218,6 +246,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         gameOver = false;
         specialActions.clear();
         cardState.clear();
+        cardStateShared.clear();
         permanentCostsTags.clear();
         combat.clear();
         turnMods.clear();
@@ -270,12 +299,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.zones = state.zones;
         this.simultaneousEvents = state.simultaneousEvents;
         this.cardState = state.cardState;
+        this.cardStateShared = state.cardStateShared;
         this.permanentCostsTags = state.permanentCostsTags;
         this.mageObjectAttribute = state.mageObjectAttribute;
         this.zoneChangeCounter = state.zoneChangeCounter;
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        // restored objects can be in any state, so layer effects must be applied again
+        this.appliedChangesCounter = -1;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -289,6 +321,16 @@ public class GameState implements Serializable, Copyable<GameState> {
         return new GameState(this);
     }
 
+    /**
+     * Fast copy for bookmarks and rollbacks (copy on write mode): unchanged watchers and card states
+     * will be shared between both states and copied on first write only.
+     * <p>
+     * Warning, snapshot must be used for restore only, don't use it for game simulations (use copy instead)
+     */
+    public GameState snapshot() {
+        return new GameState(this, true);
+    }
+
     public void addPlayer(Player player) {
         players.put(player.getId(), player);
         playerList.add(player.getId());
@@ -447,6 +489,76 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * AI related: full game state hash (all hands are visible), see getStateHash(game, viewerId)
+     */
+    public long getStateHash(Game game) {
+        return getStateHash(game, null);
+    }
+
+    /**
+     * AI related: 64 bits game state hash with same data as getValue, but without strings building and sorting,
+     * so it can be used for fast states compare and transposition tables
+     *
+     * @param game
+     * @param viewerId player to see own hand only, null for all hands
+     * @return
+     */
+    public long getStateHash(Game game, UUID viewerId) {
+        long hash = StateHashUtil.ordered(0, turnNum);
+        hash = StateHashUtil.ordered(hash, turn.getPhaseType());
+        hash = StateHashUtil.ordered(hash, turn.getStepType());
+        hash = StateHashUtil.ordered(hash, activePlayerId);
+        hash = StateHashUtil.ordered(hash, priorityPlayerId);
+        hash = StateHashUtil.ordered(hash, playerByOrderId);
+
+        for (Player player : players.values()) {
+            hash = StateHashUtil.ordered(hash, player.getId());
+            hash = StateHashUtil.ordered(hash, player.isPassed());
+            hash = StateHashUtil.ordered(hash, player.getLife());
+            if (viewerId == null || viewerId.equals(player.getId())) {
+                hash = StateHashUtil.ordered(hash, player.getHand().getStateHash(game));
+            } else {
+                hash = StateHashUtil.ordered(hash, player.getHand().size());
+            }
+            hash = StateHashUtil.ordered(hash, player.getLibrary().size());
+            hash = StateHashUtil.ordered(hash, player.getGraveyard().getStateHash(game));
+        }
+
+        long perms = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            perms = StateHashUtil.unordered(perms, permanent.getStateHash(this));
+        }
+        hash = StateHashUtil.ordered(hash, perms);
+
+        hash = StateHashUtil.ordered(hash, stack.size());
+        for (StackObject spell : stack) {
+            // same as getValue: no stack object's id (it's new for each activation/trigger, so same stacks get different ids)
+            hash = StateHashUtil.ordered(hash, spell.getControllerId());
+            hash = StateHashUtil.ordered(hash, spell.getName());
+            for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                Mode mode = spell.getStackAbility().getModes().get(modeId);
+                hash = StateHashUtil.ordered(hash, modeId);
+                for (Target target : mode.getTargets()) {
+                    hash = StateHashUtil.ordered(hash, target.getTargets());
+                }
+            }
+        }
+
+        for (ExileZone zone : exile.getExileZones()) {
+            hash = StateHashUtil.ordered(hash, zone.getId());
+            hash = StateHashUtil.ordered(hash, zone.getStateHash(game));
+        }
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = StateHashUtil.ordered(hash, group.getDefenderId());
+            hash = StateHashUtil.ordered(hash, group.getAttackers());
+            hash = StateHashUtil.ordered(hash, group.getBlockers());
+        }
+
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -484,6 +596,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setMonarchId(UUID monarchId) {
+        markChanged();
         this.monarchId = monarchId;
     }
 
@@ -492,6 +605,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setInitiativeId(UUID initiativeId) {
+        markChanged();
         this.initiativeId = initiativeId;
     }
 
@@ -675,10 +789,30 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.reset();
         effects.apply(game);
         combat.checkForRemoveFromCombat(game);
+        appliedChangesCounter = changesCounter;
+        appliedStackSize = stack.size();
+    }
+
+    /**
+     * Marks possible changes in layer effects inputs, so next applyEffects can't be skipped
+     * (see GameImpl.applyEffectsIfChanged). Fired events, new effects and abilities, zones and values
+     * are tracked automatically.
+     */
+    void markChanged() {
+        changesCounter++;
+    }
+
+    /**
+     * Is there any tracked change since the last applyEffects execution
+     */
+    boolean isChangedSinceApplyEffects() {
+        return changesCounter != appliedChangesCounter
+                || stack.size() != appliedStackSize;
     }
 
     // remove end of combat effects
     public void removeEocEffects(Game game) {
+        markChanged();
         effects.removeEndOfCombatEffects();
         delayed.removeEndOfCombatAbilities();
         game.applyEffects();
@@ -686,6 +820,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     // remove end of turn effects
     public void removeEotEffects(Game game) {
+        markChanged();
         effects.removeEndOfTurnEffects(game);
         delayed.removeEndOfTurnAbilities(game);
         exile.cleanupEndOfTurnZones(game);
@@ -694,6 +829,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     // remove beginning of end step effects
     public void removeBoESEffects(Game game) {
+        markChanged();
         effects.removeBeginningOfEndStepEffects(game);
     }
 
@@ -706,6 +842,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addEffect(ContinuousEffect effect, UUID sourceId, Ability source) {
+        markChanged();
         if (sourceId == null) {
             effects.addEffect(effect, source);
         } else {
@@ -794,6 +931,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setZone(UUID id, Zone zone) {
+        markChanged();
         if (zone == null) {
             zones.remove(id);
         } else {
@@ -1037,6 +1175,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        markChanged();
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1047,6 +1186,8 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        // events are checked before real changes, so it's a good place for tracking changes without events
+        markChanged();
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1370,6 +1511,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param value
      */
     public void setValue(String valueId, Object value) {
+        markChanged();
         values.put(valueId, value);
     }
 
@@ -1379,6 +1521,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param valueId
      */
     public void removeValue(String valueId) {
+        markChanged();
         values.remove(valueId);
     }
 
@@ -1449,10 +1592,8 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        markChanged();
+        getCardState(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1483,8 +1624,11 @@ public class GameState implements Serializable, Copyable<GameState> {
         // All gained abilities have to be removed to prevent adding it multiple times
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
+        for (Map.Entry<UUID, CardState> entry : cardState.entrySet()) {
+            // shared states are always without abilities, see snapshot
+            if (!cardStateShared.contains(entry.getKey())) {
+                entry.getValue().clearAbilities();
+            }
         }
         mageObjectAttribute.clear();
         this.setManaBurn(false);
@@ -1512,8 +1656,16 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
-        return cardState.get(cardId);
+        CardState state = cardState.get(cardId);
+        if (state == null) {
+            state = new CardState();
+            cardState.put(cardId, state);
+        } else if (cardStateShared.remove(cardId)) {
+            // state can be changed outside, so copy it from shared data
+            state = state.copy();
+            cardState.put(cardId, state);
+        }
+        return state;
     }
 
     public MageObjectAttribute getMageObjectAttribute(UUID cardId) {
@@ -1570,11 +1722,12 @@ public class GameState implements Serializable, Copyable<GameState> {
 
         // card is changing zone so clear state
         if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+            getCardState(objectId).clear();
         }
     }
 
     public void setZoneChangeCounter(UUID objectId, int value) {
+        markChanged();
         this.zoneChangeCounter.put(objectId, value);
     }
 
@@ -1720,6 +1873,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     boolean setDaytime(boolean daytime) {
+        markChanged();
         boolean flag = this.hasDayNight && this.isDaytime != daytime;
         this.hasDayNight = true;
         this.isDaytime = daytime;
@@ -20,7 +20,8 @@ public class GameStates implements Serializable {
     }
 
     public void save(GameState gameState) {
-        states.add(gameState.copy());
+        // bookmarks used for restore only, so it can use fast copy with shared data
+        states.add(gameState.snapshot());
         //logger.warn("states size: " + states.size());
     }
 
@@ -1,12 +1,19 @@
 package mage.game.command;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * @author Viserion
  */
 public class Command extends ArrayList<CommandObject> {
 
+    // fast search by id: rebuilds on first search after any list changes (structural changes detected by modCount)
+    private transient Map<UUID, CommandObject> index;
+    private transient int indexModCount = -1;
+
     public Command() {
     }
 
@@ -19,4 +26,29 @@ public class Command extends ArrayList<CommandObject> {
     public Command copy() {
         return new Command(this);
     }
+
+    /**
+     * @return first command object with that id or null
+     */
+    public CommandObject getCommandObject(UUID objectId) {
+        if (objectId == null || isEmpty()) {
+            return null;
+        }
+        if (index == null || indexModCount != modCount) {
+            Map<UUID, CommandObject> newIndex = new HashMap<>(size() * 2);
+            for (CommandObject commandObject : this) {
+                newIndex.putIfAbsent(commandObject.getId(), commandObject);
+            }
+            index = newIndex;
+            indexModCount = modCount;
+        }
+        return index.get(objectId);
+    }
+
+    @Override
+    public CommandObject set(int index, CommandObject element) {
+        // set is not a structural change, so reset the index manually
+        this.index = null;
+        return super.set(index, element);
+    }
 }
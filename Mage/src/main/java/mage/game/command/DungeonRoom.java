@@ -14,7 +14,9 @@ import mage.target.Target;
 import mage.util.CardUtil;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -150,6 +152,11 @@ class RoomTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ROOM_ENTERED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ROOM_ENTERED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getTargetId().equals(room.getId());
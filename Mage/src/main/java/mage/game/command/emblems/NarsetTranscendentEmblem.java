@@ -13,6 +13,9 @@ import mage.game.command.Emblem;
 import mage.game.events.GameEvent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author spjspj
  */
@@ -66,6 +69,11 @@ class NarsetTranscendentCantCastEffect extends ContinuousRuleModifyingEffectImpl
         return event.getType() == GameEvent.EventType.CAST_SPELL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Player controller = game.getPlayer(source.getControllerId());
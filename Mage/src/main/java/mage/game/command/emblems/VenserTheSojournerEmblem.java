@@ -13,6 +13,9 @@ import mage.game.stack.Spell;
 import mage.target.Target;
 import mage.target.TargetPermanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author spjspj
  */
@@ -61,6 +64,11 @@ class VenserTheSojournerSpellCastTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getPlayerId().equals(this.getControllerId())) {
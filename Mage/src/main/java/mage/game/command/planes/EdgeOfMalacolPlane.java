@@ -24,8 +24,10 @@ import mage.target.targetpointer.FixedTarget;
 import mage.watchers.common.PlanarRollWatcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -89,6 +91,11 @@ class EdgeOfMalacolEffect extends ContinuousRuleModifyingEffectImpl {
         return event.getType() == GameEvent.EventType.UNTAP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // Prevent untap event of creatures of target player
@@ -19,7 +19,9 @@ import mage.target.Target;
 import mage.watchers.common.PlanarRollWatcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author spjspj
@@ -89,6 +91,11 @@ class TheEonFogSkipUntapStepEffect extends ContinuousRuleModifyingEffectImpl {
         return event.getType() == GameEvent.EventType.UNTAP_STEP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Plane cPlane = game.getState().getCurrentPlane();
@@ -38,6 +38,7 @@ import mage.players.Player;
 import mage.target.TargetPlayer;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -269,6 +270,24 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getStateHash(GameState state) {
+        long hash = StateHashUtil.ordered(0, controllerId);
+        hash = StateHashUtil.ordered(hash, getName());
+        hash = StateHashUtil.ordered(hash, tapped);
+        hash = StateHashUtil.ordered(hash, damage);
+        hash = StateHashUtil.ordered(hash, subtype);
+        hash = StateHashUtil.ordered(hash, supertype);
+        hash = StateHashUtil.ordered(hash, power.getValue());
+        hash = StateHashUtil.ordered(hash, toughness.getValue());
+        hash = StateHashUtil.ordered(hash, abilities.getStateHash());
+        long counters = 0;
+        for (Counter counter : getCounters(state).values()) {
+            counters = StateHashUtil.unordered(counters, StateHashUtil.ordered(StateHashUtil.of(counter.getName()), counter.getCount()));
+        }
+        return StateHashUtil.ordered(hash, counters);
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
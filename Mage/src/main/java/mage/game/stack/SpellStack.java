@@ -10,9 +10,8 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayDeque;
-import java.util.Date;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -23,6 +22,12 @@ public class SpellStack extends ArrayDeque<StackObject> {
 
     protected Date dateLastAdded;
 
+    // fast search by id: rebuilds on first search after any stack changes (see invalidateIndex usage)
+    private transient boolean indexValid = false;
+    private transient Map<UUID, StackObject> indexById;
+    private transient Map<UUID, StackObject> indexBySourceId; // first stack object for the source
+    private transient Map<UUID, Spell> indexSpellBySourceId; // first spell for the card
+
     public SpellStack() {
     }
 
@@ -101,17 +106,51 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public StackObject getStackObject(UUID id) {
+        if (id == null || isEmpty()) {
+            return null;
+        }
+        prepareIndex();
+        StackObject stackObject = indexById.get(id);
+        if (stackObject == null) {
+            stackObject = indexBySourceId.get(id);
+        }
+        return stackObject;
+    }
+
+    /**
+     * Find stack object by id or spell by card id (same as game.getObject searching on the stack)
+     */
+    public StackObject getStackObjectOrSpell(UUID id) {
+        if (id == null || isEmpty()) {
+            return null;
+        }
+        prepareIndex();
+        StackObject stackObject = indexById.get(id);
+        if (stackObject == null) {
+            stackObject = indexSpellBySourceId.get(id);
+        }
+        return stackObject;
+    }
+
+    private void prepareIndex() {
+        if (indexValid) {
+            return;
+        }
+        indexById = new HashMap<>(size() * 2);
+        indexBySourceId = new HashMap<>(size() * 2);
+        indexSpellBySourceId = new HashMap<>(size() * 2);
         for (StackObject stackObject : this) {
-            UUID objectId = stackObject.getId();
-            if (objectId.equals(id)) {
-                return stackObject;
-            }
-            UUID sourceId = stackObject.getSourceId();
-            if (sourceId.equals(id)) {
-                return stackObject;
+            indexById.putIfAbsent(stackObject.getId(), stackObject);
+            indexBySourceId.putIfAbsent(stackObject.getSourceId(), stackObject);
+            if (stackObject instanceof Spell) {
+                indexSpellBySourceId.putIfAbsent(stackObject.getSourceId(), (Spell) stackObject);
             }
         }
-        return null;
+        indexValid = true;
+    }
+
+    private void invalidateIndex() {
+        indexValid = false;
     }
 
     public Spell getSpell(UUID id) {
@@ -141,6 +180,103 @@ public class SpellStack extends ArrayDeque<StackObject> {
         this.dateLastAdded = new Date();
     }
 
+    // all stack changes must invalidate the index (other ArrayDeque's methods use it inside)
+
+    @Override
+    public void addFirst(StackObject e) {
+        invalidateIndex();
+        super.addFirst(e);
+    }
+
+    @Override
+    public void addLast(StackObject e) {
+        invalidateIndex();
+        super.addLast(e);
+    }
+
+    @Override
+    public StackObject pollFirst() {
+        invalidateIndex();
+        return super.pollFirst();
+    }
+
+    @Override
+    public StackObject pollLast() {
+        invalidateIndex();
+        return super.pollLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        invalidateIndex();
+        return super.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        invalidateIndex();
+        return super.removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super StackObject> filter) {
+        invalidateIndex();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        invalidateIndex();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        invalidateIndex();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        invalidateIndex();
+        super.clear();
+    }
+
+    @Override
+    public Iterator<StackObject> iterator() {
+        return new IndexedIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<StackObject> descendingIterator() {
+        return new IndexedIterator(super.descendingIterator());
+    }
+
+    private class IndexedIterator implements Iterator<StackObject> {
+
+        private final Iterator<StackObject> iterator;
+
+        IndexedIterator(Iterator<StackObject> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public StackObject next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            invalidateIndex();
+            iterator.remove();
+        }
+    }
+
     public Date getDateLastAdded() {
         return dateLastAdded;
     }
@@ -10,7 +10,6 @@ import mage.constants.TournamentPlayerState;
 import mage.game.events.TableEvent;
 import mage.game.tournament.pairing.RoundPairings;
 import mage.game.tournament.pairing.SwissPairingMinimalWeightMatching;
-import mage.game.tournament.pairing.SwissPairingSimple;
 
 /**
  *
@@ -54,14 +53,8 @@ public abstract class TournamentSwiss extends TournamentImpl {
 
         Round round = null;
         if (options.matchOptions.getNumSeats() == 2) {
-            RoundPairings roundPairings;
-            if (roundPlayers.size() <= 16) {
-                SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
-                roundPairings = swissPairing.getRoundPairings();
-            } else {
-                SwissPairingSimple swissPairing = new SwissPairingSimple(roundPlayers, rounds);
-                roundPairings = swissPairing.getRoundPairings();
-            }
+            SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
+            RoundPairings roundPairings = swissPairing.getRoundPairings();
 
             round = new Round(rounds.size() + 1, this);
             rounds.add(round);
@@ -91,14 +84,8 @@ public abstract class TournamentSwiss extends TournamentImpl {
         MultiplayerRound round = null;
         if (options.matchOptions.getNumSeats() > 2) {
             options.matchOptions.setAttackOption(MultiplayerAttackOption.MULTIPLE);
-            RoundPairings roundPairings;
-            if (roundPlayers.size() <= 16) {
-                SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
-                roundPairings = swissPairing.getRoundPairings();
-            } else {
-                SwissPairingSimple swissPairing = new SwissPairingSimple(roundPlayers, rounds);
-                roundPairings = swissPairing.getRoundPairings();
-            }
+            SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
+            RoundPairings roundPairings = swissPairing.getRoundPairings();
 
             round = new MultiplayerRound(rounds.size() + 1, this, options.matchOptions.getNumSeats());
             for (TournamentPairing pairing : roundPairings.getPairings()) {
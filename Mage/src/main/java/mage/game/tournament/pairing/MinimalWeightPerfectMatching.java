@@ -0,0 +1,723 @@
+package mage.game.tournament.pairing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Minimal weight perfect matching in complete graph with even number of vertexes.
+ * <p>
+ * Uses Edmonds' blossom algorithm with dual variables, O(n^3). Minimal weight search works as maximum weight
+ * search with maximum cardinality for inverted weights (all perfect matchings have same edges count).
+ * Implementation based on "Efficient algorithms for finding maximum matching in graphs" (Z. Galil, 1986)
+ * and Joris van Rantwijk's reference implementation. All calculations use integers only: edge's slack
+ * uses doubled weight, so dual variables stay integer.
+ */
+class MinimalWeightPerfectMatching {
+
+    private final int nvertex;
+    private final int nedge;
+
+    // edges
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final long[] edgeWeight;
+
+    // endpoint[p] -- vertex of edge's endpoint p (edge k has endpoints 2k and 2k+1)
+    private final int[] endpoint;
+    // neighbend[v] -- remote endpoints of all edges attached to vertex v
+    private final int[][] neighbend;
+
+    // mate[v] -- remote endpoint of matched edge or -1 for single vertex
+    private final int[] mate;
+
+    // label[b] -- 0 for unlabeled, 1 for S-vertex/blossom, 2 for T-vertex/blossom (5 is a temporary mark in scan)
+    private final int[] label;
+    // labelend[b] -- endpoint which gave the label to the vertex/blossom or -1
+    private final int[] labelend;
+
+    // inblossom[v] -- top level blossom of the vertex
+    private final int[] inblossom;
+    private final int[] blossomparent;
+    private final int[][] blossomchilds;
+    private final int[] blossombase;
+    private final int[][] blossomendps;
+
+    // least-slack edges to neighbour S-blossoms
+    private final int[] bestedge;
+    private final int[][] blossombestedges;
+
+    private final int[] unusedblossoms;
+    private int unusedblossomsCount;
+
+    private final long[] dualvar;
+    private final boolean[] allowedge;
+
+    private int[] queue;
+    private int queueSize;
+
+    /**
+     * @param weights symmetric matrix with weights, size must be even
+     */
+    MinimalWeightPerfectMatching(long[][] weights) {
+        this.nvertex = weights.length;
+        this.nedge = nvertex * (nvertex - 1) / 2;
+
+        // max weight matching on inverted weights, all weights must be positive
+        long maxWeight = 0;
+        for (int i = 0; i < nvertex; i++) {
+            for (int j = 0; j < i; j++) {
+                maxWeight = Math.max(maxWeight, weights[i][j]);
+            }
+        }
+        edgeFrom = new int[nedge];
+        edgeTo = new int[nedge];
+        edgeWeight = new long[nedge];
+        int[] degree = new int[nvertex];
+        int k = 0;
+        for (int i = 0; i < nvertex; i++) {
+            for (int j = i + 1; j < nvertex; j++) {
+                edgeFrom[k] = i;
+                edgeTo[k] = j;
+                edgeWeight[k] = maxWeight + 1 - weights[i][j];
+                degree[i]++;
+                degree[j]++;
+                k++;
+            }
+        }
+
+        endpoint = new int[2 * nedge];
+        for (int p = 0; p < 2 * nedge; p++) {
+            endpoint[p] = (p % 2 == 0 ? edgeFrom[p / 2] : edgeTo[p / 2]);
+        }
+        neighbend = new int[nvertex][];
+        int[] neighbendSize = new int[nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            neighbend[v] = new int[degree[v]];
+        }
+        for (k = 0; k < nedge; k++) {
+            neighbend[edgeFrom[k]][neighbendSize[edgeFrom[k]]++] = 2 * k + 1;
+            neighbend[edgeTo[k]][neighbendSize[edgeTo[k]]++] = 2 * k;
+        }
+
+        long maxInvertedWeight = 0;
+        for (k = 0; k < nedge; k++) {
+            maxInvertedWeight = Math.max(maxInvertedWeight, edgeWeight[k]);
+        }
+
+        mate = new int[nvertex];
+        Arrays.fill(mate, -1);
+        label = new int[2 * nvertex];
+        labelend = new int[2 * nvertex];
+        Arrays.fill(labelend, -1);
+        inblossom = new int[nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            inblossom[v] = v;
+        }
+        blossomparent = new int[2 * nvertex];
+        Arrays.fill(blossomparent, -1);
+        blossomchilds = new int[2 * nvertex][];
+        blossombase = new int[2 * nvertex];
+        Arrays.fill(blossombase, -1);
+        for (int v = 0; v < nvertex; v++) {
+            blossombase[v] = v;
+        }
+        blossomendps = new int[2 * nvertex][];
+        bestedge = new int[2 * nvertex];
+        Arrays.fill(bestedge, -1);
+        blossombestedges = new int[2 * nvertex][];
+        unusedblossoms = new int[nvertex];
+        for (int b = 0; b < nvertex; b++) {
+            unusedblossoms[b] = nvertex + b;
+        }
+        unusedblossomsCount = nvertex;
+        dualvar = new long[2 * nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            dualvar[v] = maxInvertedWeight;
+        }
+        allowedge = new boolean[nedge];
+        queue = new int[nvertex];
+
+        solve();
+    }
+
+    /**
+     * @return mates for all vertexes
+     */
+    int[] getMates() {
+        int[] res = new int[nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            res[v] = mate[v] >= 0 ? endpoint[mate[v]] : -1;
+        }
+        return res;
+    }
+
+    private long slack(int k) {
+        return dualvar[edgeFrom[k]] + dualvar[edgeTo[k]] - 2 * edgeWeight[k];
+    }
+
+    private void queuePush(int v) {
+        if (queueSize == queue.length) {
+            queue = Arrays.copyOf(queue, queue.length * 2);
+        }
+        queue[queueSize++] = v;
+    }
+
+    private List<Integer> blossomLeaves(int b) {
+        List<Integer> res = new ArrayList<>();
+        collectBlossomLeaves(b, res);
+        return res;
+    }
+
+    private void collectBlossomLeaves(int b, List<Integer> res) {
+        if (b < nvertex) {
+            res.add(b);
+        } else {
+            for (int t : blossomchilds[b]) {
+                collectBlossomLeaves(t, res);
+            }
+        }
+    }
+
+    private static int indexOf(int[] list, int value) {
+        for (int i = 0; i < list.length; i++) {
+            if (list[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Python like access to list by negative index
+     */
+    private static int at(int[] list, int index) {
+        return list[index < 0 ? index + list.length : index];
+    }
+
+    /**
+     * Assign label t to the top level blossom of vertex w, coming through endpoint p
+     */
+    private void assignLabel(int w, int t, int p) {
+        int b = inblossom[w];
+        label[w] = label[b] = t;
+        labelend[w] = labelend[b] = p;
+        bestedge[w] = bestedge[b] = -1;
+        if (t == 1) {
+            // b became an S-blossom, scan all its vertexes
+            for (int v : blossomLeaves(b)) {
+                queuePush(v);
+            }
+        } else if (t == 2) {
+            // b became a T-blossom, its mate becomes an S-blossom
+            int base = blossombase[b];
+            assignLabel(endpoint[mate[base]], 1, mate[base] ^ 1);
+        }
+    }
+
+    /**
+     * Trace back from vertexes v and w to find a new blossom or an augmenting path
+     *
+     * @return base vertex of new blossom or -1 for augmenting path
+     */
+    private int scanBlossom(int v, int w) {
+        List<Integer> path = new ArrayList<>();
+        int base = -1;
+        while (v != -1 || w != -1) {
+            int b = inblossom[v];
+            if ((label[b] & 4) != 0) {
+                base = blossombase[b];
+                break;
+            }
+            path.add(b);
+            label[b] = 5;
+            if (labelend[b] == -1) {
+                // the base of blossom b is single, stop tracing this path
+                v = -1;
+            } else {
+                v = endpoint[labelend[b]];
+                b = inblossom[v];
+                // b is a T-blossom, trace one more step back
+                v = endpoint[labelend[b]];
+            }
+            // alternate between both paths
+            if (w != -1) {
+                int temp = v;
+                v = w;
+                w = temp;
+            }
+        }
+        for (int b : path) {
+            label[b] = 1;
+        }
+        return base;
+    }
+
+    /**
+     * Construct a new blossom with given base, containing edge k which connects a pair of S vertexes
+     */
+    private void addBlossom(int base, int k) {
+        int v = edgeFrom[k];
+        int w = edgeTo[k];
+        int bb = inblossom[base];
+        int bv = inblossom[v];
+        int bw = inblossom[w];
+
+        int b = unusedblossoms[--unusedblossomsCount];
+        blossombase[b] = base;
+        blossomparent[b] = -1;
+        blossomparent[bb] = b;
+
+        // sub-blossoms from base to v
+        List<Integer> path = new ArrayList<>();
+        List<Integer> endps = new ArrayList<>();
+        while (bv != bb) {
+            blossomparent[bv] = b;
+            path.add(bv);
+            endps.add(labelend[bv]);
+            v = endpoint[labelend[bv]];
+            bv = inblossom[v];
+        }
+        path.add(bb);
+        Collections.reverse(path);
+        Collections.reverse(endps);
+        endps.add(2 * k);
+
+        // sub-blossoms from w to base
+        while (bw != bb) {
+            blossomparent[bw] = b;
+            path.add(bw);
+            endps.add(labelend[bw] ^ 1);
+            w = endpoint[labelend[bw]];
+            bw = inblossom[w];
+        }
+
+        blossomchilds[b] = path.stream().mapToInt(Integer::intValue).toArray();
+        blossomendps[b] = endps.stream().mapToInt(Integer::intValue).toArray();
+
+        label[b] = 1;
+        labelend[b] = labelend[bb];
+        dualvar[b] = 0;
+
+        // relabel vertexes, former T vertexes must be scanned as S now
+        for (int leaf : blossomLeaves(b)) {
+            if (label[inblossom[leaf]] == 2) {
+                queuePush(leaf);
+            }
+            inblossom[leaf] = b;
+        }
+
+        // compute blossombestedges[b]
+        int[] bestedgeto = new int[2 * nvertex];
+        Arrays.fill(bestedgeto, -1);
+        for (int sub : blossomchilds[b]) {
+            List<int[]> nblists = new ArrayList<>();
+            if (blossombestedges[sub] == null) {
+                // walk over all neighbours
+                for (int leaf : blossomLeaves(sub)) {
+                    int[] nblist = new int[neighbend[leaf].length];
+                    for (int i = 0; i < nblist.length; i++) {
+                        nblist[i] = neighbend[leaf][i] / 2;
+                    }
+                    nblists.add(nblist);
+                }
+            } else {
+                // walk over saved neighbours
+                nblists.add(blossombestedges[sub]);
+            }
+            for (int[] nblist : nblists) {
+                for (int edge : nblist) {
+                    int j = edgeTo[edge];
+                    if (inblossom[j] == b) {
+                        j = edgeFrom[edge];
+                    }
+                    int bj = inblossom[j];
+                    if (bj != b && label[bj] == 1
+                            && (bestedgeto[bj] == -1 || slack(edge) < slack(bestedgeto[bj]))) {
+                        bestedgeto[bj] = edge;
+                    }
+                }
+            }
+            blossombestedges[sub] = null;
+            bestedge[sub] = -1;
+        }
+        blossombestedges[b] = Arrays.stream(bestedgeto).filter(edge -> edge != -1).toArray();
+
+        bestedge[b] = -1;
+        for (int edge : blossombestedges[b]) {
+            if (bestedge[b] == -1 || slack(edge) < slack(bestedge[b])) {
+                bestedge[b] = edge;
+            }
+        }
+    }
+
+    /**
+     * Expand the given top level blossom
+     */
+    private void expandBlossom(int b, boolean endstage) {
+        // convert sub-blossoms into top level blossoms
+        for (int s : blossomchilds[b]) {
+            blossomparent[s] = -1;
+            if (s < nvertex) {
+                inblossom[s] = s;
+            } else if (endstage && dualvar[s] == 0) {
+                // recursively expand this sub-blossom
+                expandBlossom(s, endstage);
+            } else {
+                for (int leaf : blossomLeaves(s)) {
+                    inblossom[leaf] = s;
+                }
+            }
+        }
+
+        // if we expand a T-blossom during a stage, its sub-blossoms must be relabeled
+        if (!endstage && label[b] == 2) {
+            int[] childs = blossomchilds[b];
+            int[] endps = blossomendps[b];
+
+            // start at the sub-blossom through which the expanding blossom obtained its label
+            int entrychild = inblossom[endpoint[labelend[b] ^ 1]];
+            int j = indexOf(childs, entrychild);
+            int jstep;
+            int endptrick;
+            if ((j & 1) != 0) {
+                // start index is odd, go forward and wrap
+                j -= childs.length;
+                jstep = 1;
+                endptrick = 0;
+            } else {
+                // start index is even, go backward
+                jstep = -1;
+                endptrick = 1;
+            }
+
+            // move along the blossom until we get to the base
+            int p = labelend[b];
+            while (j != 0) {
+                // relabel the T-sub-blossom
+                label[endpoint[p ^ 1]] = 0;
+                label[endpoint[at(endps, j - endptrick) ^ endptrick ^ 1]] = 0;
+                assignLabel(endpoint[p ^ 1], 2, p);
+                // step to the next S-sub-blossom and note its forward endpoint
+                allowedge[at(endps, j - endptrick) / 2] = true;
+                j += jstep;
+                p = at(endps, j - endptrick) ^ endptrick;
+                // step to the next T-sub-blossom
+                allowedge[p / 2] = true;
+                j += jstep;
+            }
+
+            // relabel the base T-sub-blossom without stepping through to its mate
+            int bv = at(childs, j);
+            label[endpoint[p ^ 1]] = label[bv] = 2;
+            labelend[endpoint[p ^ 1]] = labelend[bv] = p;
+            bestedge[bv] = -1;
+
+            // continue along the blossom until we get back to entrychild
+            j += jstep;
+            while (at(childs, j) != entrychild) {
+                // sub-blossom can be reachable from a neighbouring S-vertex outside the expanding blossom
+                bv = at(childs, j);
+                if (label[bv] == 1) {
+                    // this sub-blossom just got label S through one of its neighbours, leave it
+                    j += jstep;
+                    continue;
+                }
+                int reachable = -1;
+                for (int leaf : blossomLeaves(bv)) {
+                    if (label[leaf] != 0) {
+                        reachable = leaf;
+                        break;
+                    }
+                }
+                if (reachable != -1) {
+                    label[reachable] = 0;
+                    label[endpoint[mate[blossombase[bv]]]] = 0;
+                    assignLabel(reachable, 2, labelend[reachable]);
+                }
+                j += jstep;
+            }
+        }
+
+        // recycle the blossom number
+        label[b] = labelend[b] = -1;
+        blossomchilds[b] = blossomendps[b] = null;
+        blossombase[b] = -1;
+        blossombestedges[b] = null;
+        bestedge[b] = -1;
+        unusedblossoms[unusedblossomsCount++] = b;
+    }
+
+    /**
+     * Swap matched/unmatched edges over an alternating path through blossom b between vertex v and the base vertex
+     */
+    private void augmentBlossom(int b, int v) {
+        // bubble up through the blossom tree from vertex v to an immediate sub-blossom of b
+        int t = v;
+        while (blossomparent[t] != b) {
+            t = blossomparent[t];
+        }
+        // recursively deal with the first sub-blossom
+        if (t >= nvertex) {
+            augmentBlossom(t, v);
+        }
+
+        int[] childs = blossomchilds[b];
+        int[] endps = blossomendps[b];
+
+        // move along the blossom until we get to the base
+        int i = indexOf(childs, t);
+        int j = i;
+        int jstep;
+        int endptrick;
+        if ((i & 1) != 0) {
+            j -= childs.length;
+            jstep = 1;
+            endptrick = 0;
+        } else {
+            jstep = -1;
+            endptrick = 1;
+        }
+        while (j != 0) {
+            // step to the next sub-blossom and augment it recursively
+            j += jstep;
+            t = at(childs, j);
+            int p = at(endps, j - endptrick) ^ endptrick;
+            if (t >= nvertex) {
+                augmentBlossom(t, endpoint[p]);
+            }
+            // step to the next sub-blossom and augment it recursively
+            j += jstep;
+            t = at(childs, j);
+            if (t >= nvertex) {
+                augmentBlossom(t, endpoint[p ^ 1]);
+            }
+            // match the edge connecting those sub-blossoms
+            mate[endpoint[p]] = p ^ 1;
+            mate[endpoint[p ^ 1]] = p;
+        }
+
+        // rotate the list of sub-blossoms to put the new base at the front
+        blossomchilds[b] = rotate(childs, i);
+        blossomendps[b] = rotate(endps, i);
+        blossombase[b] = blossombase[blossomchilds[b][0]];
+    }
+
+    private static int[] rotate(int[] list, int start) {
+        int[] res = new int[list.length];
+        System.arraycopy(list, start, res, 0, list.length - start);
+        System.arraycopy(list, 0, res, list.length - start, start);
+        return res;
+    }
+
+    /**
+     * Swap matched/unmatched edges over an alternating path between two single vertexes, path goes through edge k
+     */
+    private void augmentMatching(int k) {
+        int[][] starts = {{edgeFrom[k], 2 * k + 1}, {edgeTo[k], 2 * k}};
+        for (int[] start : starts) {
+            int s = start[0];
+            int p = start[1];
+            // match vertex s to remote endpoint p, then trace back from s until we find a single vertex
+            while (true) {
+                int bs = inblossom[s];
+                if (bs >= nvertex) {
+                    augmentBlossom(bs, s);
+                }
+                mate[s] = p;
+                if (labelend[bs] == -1) {
+                    // reached single vertex
+                    break;
+                }
+                int t = endpoint[labelend[bs]];
+                int bt = inblossom[t];
+                // trace one step back
+                s = endpoint[labelend[bt]];
+                int j = endpoint[labelend[bt] ^ 1];
+                if (bt >= nvertex) {
+                    augmentBlossom(bt, j);
+                }
+                mate[j] = labelend[bt];
+                // keep the opposite endpoint, it will be assigned to mate[s] in the next step
+                p = labelend[bt] ^ 1;
+            }
+        }
+    }
+
+    private void solve() {
+        // each stage finds an augmenting path and increases matching size by one
+        for (int stage = 0; stage < nvertex; stage++) {
+            Arrays.fill(label, 0);
+            Arrays.fill(bestedge, -1);
+            for (int b = nvertex; b < 2 * nvertex; b++) {
+                blossombestedges[b] = null;
+            }
+            Arrays.fill(allowedge, false);
+            queueSize = 0;
+
+            // label single blossoms/vertexes with S and put them in the queue
+            for (int v = 0; v < nvertex; v++) {
+                if (mate[v] == -1 && label[inblossom[v]] == 0) {
+                    assignLabel(v, 1, -1);
+                }
+            }
+
+            boolean augmented = false;
+            while (true) {
+                // continue labeling until all vertexes reachable through an alternating path got a label
+                while (queueSize > 0 && !augmented) {
+                    int v = queue[--queueSize];
+                    for (int p : neighbend[v]) {
+                        int k = p / 2;
+                        int w = endpoint[p];
+                        if (inblossom[v] == inblossom[w]) {
+                            // this edge is internal to a blossom
+                            continue;
+                        }
+                        long kslack = 0;
+                        if (!allowedge[k]) {
+                            kslack = slack(k);
+                            if (kslack <= 0) {
+                                // edge k has zero slack, it's allowable
+                                allowedge[k] = true;
+                            }
+                        }
+                        if (allowedge[k]) {
+                            if (label[inblossom[w]] == 0) {
+                                // w is a free vertex (or an unreached vertex inside a T-blossom)
+                                assignLabel(w, 2, p ^ 1);
+                            } else if (label[inblossom[w]] == 1) {
+                                // found an S-S edge: new blossom or augmenting path
+                                int base = scanBlossom(v, w);
+                                if (base >= 0) {
+                                    addBlossom(base, k);
+                                } else {
+                                    augmentMatching(k);
+                                    augmented = true;
+                                    break;
+                                }
+                            } else if (label[w] == 0) {
+                                // w is inside a T-blossom, but w itself has not yet been reached from outside
+                                label[w] = 2;
+                                labelend[w] = p ^ 1;
+                            }
+                        } else if (label[inblossom[w]] == 1) {
+                            // keep track of the least-slack non-allowable edge to a different S-blossom
+                            int b = inblossom[v];
+                            if (bestedge[b] == -1 || kslack < slack(bestedge[b])) {
+                                bestedge[b] = k;
+                            }
+                        } else if (label[w] == 0) {
+                            // w is a free vertex (or an unreached vertex inside a T-blossom), keep the least-slack edge
+                            if (bestedge[w] == -1 || kslack < slack(bestedge[w])) {
+                                bestedge[w] = k;
+                            }
+                        }
+                    }
+                }
+
+                if (augmented) {
+                    break;
+                }
+
+                // there is no augmenting path under current constraints, so update dual variables
+                // (maximum cardinality mode: no delta type 1 until the end)
+                int deltatype = -1;
+                long delta = 0;
+                int deltaedge = -1;
+                int deltablossom = -1;
+
+                // delta 2: minimum slack on any edge between S-vertex and free vertex
+                for (int v = 0; v < nvertex; v++) {
+                    if (label[inblossom[v]] == 0 && bestedge[v] != -1) {
+                        long d = slack(bestedge[v]);
+                        if (deltatype == -1 || d < delta) {
+                            delta = d;
+                            deltatype = 2;
+                            deltaedge = bestedge[v];
+                        }
+                    }
+                }
+
+                // delta 3: half minimum slack on any edge between a pair of S-blossoms
+                for (int b = 0; b < 2 * nvertex; b++) {
+                    if (blossomparent[b] == -1 && label[b] == 1 && bestedge[b] != -1) {
+                        long d = slack(bestedge[b]) / 2;
+                        if (deltatype == -1 || d < delta) {
+                            delta = d;
+                            deltatype = 3;
+                            deltaedge = bestedge[b];
+                        }
+                    }
+                }
+
+                // delta 4: minimum z variable of any T-blossom
+                for (int b = nvertex; b < 2 * nvertex; b++) {
+                    if (blossombase[b] >= 0 && blossomparent[b] == -1 && label[b] == 2
+                            && (deltatype == -1 || dualvar[b] < delta)) {
+                        delta = dualvar[b];
+                        deltatype = 4;
+                        deltablossom = b;
+                    }
+                }
+
+                if (deltatype == -1) {
+                    // no further improvement possible, max cardinality reached
+                    deltatype = 1;
+                    delta = Long.MAX_VALUE;
+                    for (int v = 0; v < nvertex; v++) {
+                        delta = Math.min(delta, dualvar[v]);
+                    }
+                    delta = Math.max(0, delta);
+                }
+
+                // update dual variables
+                for (int v = 0; v < nvertex; v++) {
+                    if (label[inblossom[v]] == 1) {
+                        dualvar[v] -= delta;
+                    } else if (label[inblossom[v]] == 2) {
+                        dualvar[v] += delta;
+                    }
+                }
+                for (int b = nvertex; b < 2 * nvertex; b++) {
+                    if (blossombase[b] >= 0 && blossomparent[b] == -1) {
+                        if (label[b] == 1) {
+                            dualvar[b] += delta;
+                        } else if (label[b] == 2) {
+                            dualvar[b] -= delta;
+                        }
+                    }
+                }
+
+                // take action at the point where minimum delta occurred
+                if (deltatype == 1) {
+                    break;
+                } else if (deltatype == 2) {
+                    allowedge[deltaedge] = true;
+                    int i = edgeFrom[deltaedge];
+                    if (label[inblossom[i]] == 0) {
+                        i = edgeTo[deltaedge];
+                    }
+                    queuePush(i);
+                } else if (deltatype == 3) {
+                    allowedge[deltaedge] = true;
+                    queuePush(edgeFrom[deltaedge]);
+                } else {
+                    expandBlossom(deltablossom, false);
+                }
+            }
+
+            if (!augmented) {
+                break;
+            }
+
+            // end of a stage: expand all S-blossoms which have zero dual
+            for (int b = nvertex; b < 2 * nvertex; b++) {
+                if (blossomparent[b] == -1 && blossombase[b] >= 0 && label[b] == 1 && dualvar[b] == 0) {
+                    expandBlossom(b, true);
+                }
+            }
+        }
+    }
+}
@@ -84,6 +84,13 @@ public class Turn implements Serializable {
         return null;
     }
 
+    public PhaseStep getStepType() {
+        if (currentPhase != null && currentPhase.getStep() != null) {
+            return currentPhase.getStep().getType();
+        }
+        return null;
+    }
+
     /**
      * @param game
      * @param activePlayer
@@ -0,0 +1,98 @@
+package mage.util;
+
+import mage.abilities.Abilities;
+import mage.abilities.Ability;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoized rules text of game objects
+ * <p>
+ * Rules generation from abilities is slow and game views make it for each card on each update for each viewer.
+ * Cache key is a fingerprint of the abilities list: classes, original ids (same for all ability copies),
+ * rule visibility and selected modes, so unchanged objects reuse the text between updates and viewers.
+ * <p>
+ * Only static rules are cached, dynamic data like hints, counters or additional info must be added by caller
+ * (see CardUtil.getCardRulesWithAdditionalInfo)
+ */
+public final class CardRulesCache {
+
+    private static final int MAX_CACHED_OBJECTS = 20000;
+
+    // LRU: objects of the active games stay in the cache, old games data removed one by one
+    private static final Map<List<Object>, List<String>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<List<Object>, List<String>>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, List<String>> eldest) {
+                    return size() > MAX_CACHED_OBJECTS;
+                }
+            }
+    );
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private CardRulesCache() {
+    }
+
+    /**
+     * Rules text of the abilities, same as rulesSource.getRules()
+     *
+     * @return new list, so it can be modified by caller
+     */
+    public static List<String> getRules(Abilities<Ability> rulesSource) {
+        List<Object> key = makeKey(rulesSource);
+        List<String> rules = cache.get(key);
+        if (rules != null) {
+            hits.increment();
+            return new ArrayList<>(rules);
+        }
+
+        misses.increment();
+        rules = rulesSource.getRules();
+        cache.put(key, Collections.unmodifiableList(new ArrayList<>(rules)));
+        return rules;
+    }
+
+    private static List<Object> makeKey(Abilities<Ability> abilities) {
+        List<Object> key = new ArrayList<>(abilities.size() * 3);
+        for (Ability ability : abilities) {
+            key.add(ability.getClass());
+            key.add(ability.getOriginalId());
+            key.add(ability.getRuleVisible());
+            if (ability.getModes().size() > 1) {
+                // modal abilities on stack can contain chosen modes
+                key.add(new ArrayList<>(ability.getModes().getSelectedModes()));
+            }
+        }
+        return key;
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    public static void clear() {
+        cache.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Debug only: rules cache stats from all games, see DebugUtil.GAME_SHOW_RULES_CACHE_STATS
+     */
+    public static String getDebugStats() {
+        long hitsCount = getHits();
+        long total = hitsCount + getMisses();
+        return String.format("Rules cache stats: %d hits, %d misses (%.1f%% hits), %d cached objects",
+                hitsCount,
+                total - hitsCount,
+                total == 0 ? 0.0 : 100.0 * hitsCount / total,
+                cache.size()
+        );
+    }
+}
@@ -1307,7 +1307,7 @@ public final class CardUtil {
     public static List<String> getCardRulesWithAdditionalInfo(Game game, MageObject object,
                                                               Abilities<Ability> rulesSource, Abilities<Ability> hintsSource) {
         try {
-            List<String> rules = rulesSource.getRules();
+            List<String> rules = CardRulesCache.getRules(rulesSource);
 
             if (game == null || game.getPhase() == null) {
                 // dynamic hints for started game only
@@ -40,6 +40,16 @@ public class DebugUtil {
     // game dialogs
     public static boolean GUI_GAME_DIALOGS_DRAW_CARDS_AREA_BORDER = false;
 
+    // game engine - collect watchers calls and show stats on game end (calls and skips by event types)
+    public static boolean GAME_SHOW_WATCHERS_CALLS_STATS = false;
+
+    // game engine - show rules text cache hits and misses on game end (see CardRulesCache)
+    public static boolean GAME_SHOW_RULES_CACHE_STATS = false;
+
+    // game engine - apply layer effects on each skipped priority call and compare with skipped state (raise error on diff)
+    // how-to use: enable it and run all tests to find game changes without events or other tracking (see GameState.markChanged)
+    public static boolean GAME_APPLY_EFFECTS_CHECK_SKIPS = false;
+
     // database - show additional info about cache and memory settings
     public static boolean DATABASE_SHOW_CACHE_AND_MEMORY_STATS_ON_STARTUP = false;
 
@@ -0,0 +1,73 @@
+package mage.util;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Server side: limits number of games processed at the same time (not number of hosted games)
+ * <p>
+ * Each game runs in own GAME thread, but most of the time it sleeps on a human's decision point. Game thread
+ * gives its slot back while waiting for a player's answer and takes it again after, so the server can host
+ * any amount of waiting games and still process only maxGameThreads games at a time.
+ * <p>
+ * Threads without bound limiter (tests, AI simulations, client side) ignore all calls.
+ */
+public class GameThreadLimiter {
+
+    private static final ThreadLocal<GameThreadLimiter> currentLimiter = new ThreadLocal<>();
+
+    private final int maxActiveGames;
+    private final Semaphore slots;
+
+    public GameThreadLimiter(int maxActiveGames) {
+        this.maxActiveGames = maxActiveGames;
+        this.slots = new Semaphore(maxActiveGames, true);
+    }
+
+    /**
+     * Bind current game thread to the limiter and wait for a free slot, call it on game start
+     */
+    public void enter() {
+        slots.acquireUninterruptibly();
+        currentLimiter.set(this);
+    }
+
+    /**
+     * Free the slot and unbind current game thread, call it on game end
+     */
+    public void exit() {
+        if (currentLimiter.get() == this) {
+            currentLimiter.remove();
+            slots.release();
+        }
+    }
+
+    public int getActiveGames() {
+        return maxActiveGames - slots.availablePermits();
+    }
+
+    public int getMaxActiveGames() {
+        return maxActiveGames;
+    }
+
+    /**
+     * Game thread goes to sleep until player's answer, so other games can use its slot
+     */
+    public static void beforeWaitingForPlayer() {
+        GameThreadLimiter limiter = currentLimiter.get();
+        if (limiter != null) {
+            limiter.slots.release();
+        }
+    }
+
+    /**
+     * Game thread got player's answer, wait for a free slot to continue
+     * <p>
+     * Do not call it inside synchronized blocks - other threads can wait that lock
+     */
+    public static void afterWaitingForPlayer() {
+        GameThreadLimiter limiter = currentLimiter.get();
+        if (limiter != null) {
+            limiter.slots.acquireUninterruptibly();
+        }
+    }
+}
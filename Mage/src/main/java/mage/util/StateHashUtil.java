@@ -0,0 +1,78 @@
+package mage.util;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * AI related: 64 bits hash helpers to find changes in game state without big strings building
+ * <p>
+ * Use ordered combine for lists with important order (stack, turn order) and
+ * unordered combine (sum) for sets like permanents or cards in hand, so it don't need sorting.
+ */
+public final class StateHashUtil {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private StateHashUtil() {
+    }
+
+    /**
+     * splitmix64 finalizer: spreads all bits, so sum of mixed values works as unordered combine
+     */
+    public static long mix(long value) {
+        long z = value + SEED;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long ordered(long hash, long value) {
+        return mix(hash * 31 + mix(value));
+    }
+
+    public static long ordered(long hash, UUID value) {
+        return ordered(hash, of(value));
+    }
+
+    public static long ordered(long hash, String value) {
+        return ordered(hash, of(value));
+    }
+
+    public static long ordered(long hash, boolean value) {
+        return ordered(hash, value ? 1 : 0);
+    }
+
+    public static long ordered(long hash, Enum<?> value) {
+        return ordered(hash, value == null ? -1 : value.ordinal());
+    }
+
+    public static long ordered(long hash, Collection<?> values) {
+        long res = ordered(hash, values.size());
+        for (Object value : values) {
+            if (value instanceof UUID) {
+                res = ordered(res, (UUID) value);
+            } else if (value instanceof Enum) {
+                res = ordered(res, (Enum<?>) value);
+            } else {
+                res = ordered(res, value == null ? null : value.toString());
+            }
+        }
+        return res;
+    }
+
+    public static long unordered(long hash, long value) {
+        return hash + mix(value);
+    }
+
+    public static long of(UUID value) {
+        if (value == null) {
+            return 0;
+        }
+        return mix(value.getMostSignificantBits()) ^ value.getLeastSignificantBits();
+    }
+
+    public static long of(String value) {
+        // string's hash code is cached, so it's fast for names and rules
+        return value == null ? 0 : value.hashCode() + ((long) value.length() << 32);
+    }
+}
@@ -33,6 +33,14 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_SERVICE_LOBBY_REFRESH = "XMAGE lobby refresh";
     public final static String THREAD_PREFIX_SERVICE_NEWS_REFRESH = "XMAGE news refresh";
 
+    // network
+    public final static String THREAD_PREFIX_NETWORK_CALLBACK_SENDER = "XMAGE callback sender";
+
+    // network (nio transport)
+    public final static String THREAD_PREFIX_NETWORK_NIO_IO = "XMAGE nio io";
+    public final static String THREAD_PREFIX_NETWORK_NIO_REQUEST = "XMAGE nio request";
+    public final static String THREAD_PREFIX_NETWORK_NIO_CALLBACK = "XMAGE nio callback";
+
     // etc
     public final static String THREAD_PREFIX_TIMEOUT = "XMAGE timeout";
     public final static String THREAD_PREFIX_TIMEOUT_IDLE = "XMAGE timeout_idle";
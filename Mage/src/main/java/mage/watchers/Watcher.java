@@ -78,6 +78,16 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Event types to watch. Used by game engine to call watcher for interested events only.
+     * <p>
+     * Empty set - unknown event types, so watcher will be called on any event.
+     * If you override watch then you must override that method too (or keep it empty)
+     */
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return Collections.emptySet();
+    }
+
     public <T extends Watcher> T copy() {
         try {
             //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
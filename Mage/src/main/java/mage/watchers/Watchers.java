@@ -2,10 +2,14 @@ package mage.watchers;
 
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.util.DebugUtil;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
-import java.util.HashMap;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -14,15 +18,41 @@ public class Watchers extends HashMap<String, Watcher> {
 
     private static final Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // event types dispatch table for fast watchers search, see Watcher.getWatchedEventTypes
+    // it's a cache only, so it must be cleared on any watchers list changes
+    private static final Map<Class<?>, Boolean> dispatchSupportedClasses = new ConcurrentHashMap<>();
+    private final Map<GameEvent.EventType, List<String>> dispatchTable = new EnumMap<>(GameEvent.EventType.class);
+
+    // copy on write: watchers shared with another list (see snapshot), so it must be copied before first usage
+    private final Set<String> sharedKeys = new HashSet<>();
+
+    // debug only: calls stats by watcher, see DebugUtil.GAME_SHOW_WATCHERS_CALLS_STATS
+    private static final Map<String, LongAdder> debugCalls = new ConcurrentHashMap<>();
+    private static final LongAdder debugSkips = new LongAdder();
+
     public Watchers() {
     }
 
-    private Watchers(final Watchers watchers) {
-        watchers.forEach((key, value) -> this.put(key, value.copy()));
+    private Watchers(final Watchers watchers, boolean snapshot) {
+        if (snapshot) {
+            this.putAll(watchers);
+            this.sharedKeys.addAll(watchers.keySet());
+            watchers.sharedKeys.addAll(watchers.keySet());
+        } else {
+            watchers.forEach((key, value) -> this.put(key, value.copy()));
+        }
     }
 
     public Watchers copy() {
-        return new Watchers(this);
+        return new Watchers(this, false);
+    }
+
+    /**
+     * Fast copy for game state bookmarks: watchers will be shared between both lists
+     * and copied on first usage only (watch, reset or get)
+     */
+    public Watchers snapshot() {
+        return new Watchers(this, true);
     }
 
     /**
@@ -33,22 +63,134 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        // watcher can add new watchers on event processing, so dispatch list must be used as is (it will be replaced by new one)
+        List<String> needWatchers = findWatchers(event.getType());
+        if (DebugUtil.GAME_SHOW_WATCHERS_CALLS_STATS) {
+            debugSkips.add(this.size() - needWatchers.size());
+        }
+        for (String key : needWatchers) {
+            Watcher watcher = prepareForUsage(key);
+            if (watcher == null) {
+                // removed by another watcher
+                continue;
+            }
+            if (DebugUtil.GAME_SHOW_WATCHERS_CALLS_STATS) {
+                debugCalls.computeIfAbsent(watcher.getClass().getName(), x -> new LongAdder()).increment();
+            }
             watcher.watch(event, game);
         }
     }
 
+    private List<String> findWatchers(GameEvent.EventType eventType) {
+        List<String> res = dispatchTable.get(eventType);
+        if (res == null) {
+            // same order as full watchers list
+            res = this.entrySet()
+                    .stream()
+                    .filter(entry -> isWatchedEventType(entry.getValue(), eventType))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            dispatchTable.put(eventType, res);
+        }
+        return res;
+    }
+
+    private static boolean isWatchedEventType(Watcher watcher, GameEvent.EventType eventType) {
+        Set<GameEvent.EventType> eventTypes = watcher.getWatchedEventTypes();
+        if (eventTypes == null || eventTypes.isEmpty()
+                || !dispatchSupportedClasses.computeIfAbsent(watcher.getClass(), Watchers::isDispatchSupported)) {
+            return true;
+        }
+        return eventTypes.contains(eventType);
+    }
+
+    private static boolean isDispatchSupported(Class<?> watcherClass) {
+        // protection from child classes with overridden watch, but without overridden event types:
+        // event types must be declared by same or child class of the watch's class
+        try {
+            Class<?> watchClass = watcherClass.getMethod("watch", GameEvent.class, Game.class).getDeclaringClass();
+            Class<?> typesClass = watcherClass.getMethod("getWatchedEventTypes").getDeclaringClass();
+            return watchClass.isAssignableFrom(typesClass);
+        } catch (NoSuchMethodException e) {
+            logger.error("Can't find watcher's methods for event types dispatch: " + watcherClass.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Return watcher for any usage (it can be changed outside, so copy it from shared data)
+     */
+    private Watcher prepareForUsage(String key) {
+        Watcher watcher = super.get(key);
+        if (watcher != null && sharedKeys.remove(key)) {
+            watcher = watcher.copy();
+            // dispatch table keeps keys only, so no needs to clear it here
+            super.put(key, watcher);
+        }
+        return watcher;
+    }
+
     public void reset() {
-        this.values().forEach(Watcher::reset);
+        new ArrayList<>(this.keySet()).forEach(key -> prepareForUsage(key).reset());
     }
 
     @Override
     public Watcher get(Object key) {
         if (containsKey(key)) {
-            return super.get(key);
+            return prepareForUsage((String) key);
         }
         // can't add game exception here because it's an easy way to ruin any game with bugged card
         logger.error(key + " not found in watchers", new Throwable());
         return null;
     }
+
+    @Override
+    public Watcher put(String key, Watcher value) {
+        dispatchTable.clear();
+        sharedKeys.remove(key);
+        return super.put(key, value);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher value) {
+        Watcher oldValue = super.putIfAbsent(key, value);
+        if (oldValue == null) {
+            dispatchTable.clear();
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Watcher> m) {
+        dispatchTable.clear();
+        sharedKeys.removeAll(m.keySet());
+        super.putAll(m);
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        dispatchTable.clear();
+        sharedKeys.remove(key);
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        dispatchTable.clear();
+        sharedKeys.clear();
+        super.clear();
+    }
+
+    /**
+     * Debug only: watchers calls stats from all games, see DebugUtil.GAME_SHOW_WATCHERS_CALLS_STATS
+     */
+    public static String getDebugCallsStats() {
+        long calls = debugCalls.values().stream().mapToLong(LongAdder::sum).sum();
+        return "Watchers calls stats: total calls " + calls + ", skipped calls " + debugSkips.sum() + "\n"
+                + debugCalls.entrySet()
+                .stream()
+                .sorted((o1, o2) -> Long.compare(o2.getValue().sum(), o1.getValue().sum()))
+                .map(entry -> "- " + entry.getKey() + ": " + entry.getValue().sum())
+                .collect(Collectors.joining("\n"));
+    }
 }
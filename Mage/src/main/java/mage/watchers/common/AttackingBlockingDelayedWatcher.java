@@ -5,6 +5,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -41,6 +42,11 @@ public class AttackingBlockingDelayedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LAND_PLAYED, GameEvent.EventType.TAKEN_SPECIAL_ACTION, GameEvent.EventType.RESOLVING_ABILITY, GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS);
+    }
+
     @Override
     public void reset() {
         super.reset();
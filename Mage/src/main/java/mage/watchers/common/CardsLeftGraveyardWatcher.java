@@ -41,6 +41,11 @@ public class CardsLeftGraveyardWatcher extends Watcher {
                         .add(event.getTargetId());
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     /**
      * The cards that left a specific player's graveyard this turn.
      */
@@ -42,6 +42,11 @@ public class CardsMilledWatcher extends Watcher {
         milledThisTurn.add(new MageObjectReference(mainCard, game));
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MILLED_CARD);
+    }
+
     @Override
     public void reset() {
         super.reset();
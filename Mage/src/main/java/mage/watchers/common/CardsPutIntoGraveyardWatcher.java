@@ -56,6 +56,11 @@ public class CardsPutIntoGraveyardWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     /**
      * The number of cards that were put into a specific player's graveyard this turn.
      *
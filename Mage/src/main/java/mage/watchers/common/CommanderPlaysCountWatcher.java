@@ -65,6 +65,11 @@ public class CommanderPlaysCountWatcher extends Watcher {
         playerCount.compute(event.getPlayerId(), (u, i) -> i + 1);
     }
 
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.LAND_PLAYED, EventType.SPELL_CAST);
+    }
+
     public int getPlaysCount(UUID commanderId) {
         return this.playsCount.getOrDefault(commanderId, 0);
     }
@@ -32,6 +32,11 @@ public class CompletedDungeonWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DUNGEON_COMPLETED, GameEvent.EventType.BEGINNING_PHASE_PRE);
+    }
+
     public static boolean checkPlayer(UUID playerId, Game game) {
         CompletedDungeonWatcher watcher = game.getState().getWatcher(CompletedDungeonWatcher.class);
         return watcher != null && !watcher.playerMap.getOrDefault(playerId, emptySet).isEmpty();
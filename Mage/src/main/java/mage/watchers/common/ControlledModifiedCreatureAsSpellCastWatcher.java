@@ -9,7 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Set;
 
 /**
  *
@@ -40,6 +42,11 @@ public class ControlledModifiedCreatureAsSpellCastWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void reset() {
         super.reset();
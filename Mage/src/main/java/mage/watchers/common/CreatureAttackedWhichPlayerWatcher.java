@@ -5,8 +5,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,6 +36,11 @@ public class CreatureAttackedWhichPlayerWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     public UUID getPlayerAttackedThisTurnByCreature(UUID creatureId) {
         return getPlayerAttackedThisTurnByCreature.getOrDefault(creatureId, null);
     }
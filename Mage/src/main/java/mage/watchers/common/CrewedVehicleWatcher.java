@@ -29,6 +29,11 @@ public class CrewedVehicleWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREWED_VEHICLE);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -6,8 +6,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public class EnergySpentOrLostWatcher extends Watcher {
@@ -34,6 +36,11 @@ public class EnergySpentOrLostWatcher extends Watcher {
         energyLostOrSpent.compute(event.getTargetId(), (k, i) -> i == null ? amount : Integer.sum(i, amount));
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERS_REMOVED);
+    }
+
     @Override
     public void reset() {
         super.reset();
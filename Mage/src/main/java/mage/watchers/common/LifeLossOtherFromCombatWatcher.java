@@ -1,6 +1,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -33,6 +34,11 @@ public class LifeLossOtherFromCombatWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LOST_LIFE);
+    }
+
     public boolean opponentLostLifeOtherFromCombat(UUID playerId, Game game) {
         Player player = game.getPlayer(playerId);
         if (player != null) {
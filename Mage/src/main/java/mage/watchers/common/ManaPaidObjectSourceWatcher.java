@@ -40,6 +40,11 @@ public class ManaPaidObjectSourceWatcher extends Watcher {
                 .add(new MageObjectReference(sourceObject, game));
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     public boolean checkManaFromSourceWasUsedToPay(MageObjectReference sourceOfMana, MageObjectReference paidObject) {
         return payMap
                 .getOrDefault(paidObject, Collections.emptySet())
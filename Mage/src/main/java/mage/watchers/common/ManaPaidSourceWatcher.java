@@ -15,8 +15,10 @@ import mage.util.Copyable;
 import mage.watchers.Watcher;
 
 import java.io.Serializable;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -136,6 +138,11 @@ public class ManaPaidSourceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE, GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -9,8 +9,10 @@ import mage.game.stack.StackObject;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -41,6 +43,11 @@ public class NumberOfTimesPermanentTargetedATurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     public int numTimesTargetedThisTurn(Permanent permanent, Game game) {
         return permanentsTargeted.getOrDefault(new MageObjectReference(permanent, game), 0);
     }
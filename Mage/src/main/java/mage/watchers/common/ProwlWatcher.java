@@ -50,6 +50,11 @@ public class ProwlWatcher extends Watcher {
                 .addAll(creature.getSubtype(game));
     }
 
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void reset() {
         super.reset();
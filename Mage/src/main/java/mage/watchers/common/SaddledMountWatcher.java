@@ -37,6 +37,11 @@ public class SaddledMountWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SADDLED_MOUNT, GameEvent.EventType.MOUNT_SADDLED);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -7,6 +7,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -31,6 +32,11 @@ public class SourceDidDamageWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT, GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     public boolean checkSource(MageObject mageObject, Game game) {
         return damageSources.stream().anyMatch(mor -> mor.refersTo(mageObject, game));
     }
@@ -0,0 +1,110 @@
+package mage;
+
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.watchers.Watcher;
+import mage.watchers.Watchers;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+public class WatchersTest {
+
+    @Test
+    public void testDispatchByEventTypes() {
+        Watchers watchers = new Watchers();
+        CountingWatcher anyWatcher = new CountingWatcher();
+        DamageWatcher damageWatcher = new DamageWatcher();
+        DamageChildWatcher childWatcher = new DamageChildWatcher();
+        watchers.add(anyWatcher);
+        watchers.add(damageWatcher);
+        watchers.add(childWatcher);
+
+        watchers.watch(event(GameEvent.EventType.ZONE_CHANGE), null);
+        watchers.watch(event(GameEvent.EventType.DAMAGED_PLAYER), null);
+        watchers.watch(event(GameEvent.EventType.SPELL_CAST), null);
+
+        assertEquals("watcher without event types must see all events", 3, anyWatcher.calls);
+        assertEquals("watcher with event types must see only its events", 1, damageWatcher.calls);
+        assertEquals("child watcher with overridden watch must see all events", 3, childWatcher.calls);
+    }
+
+    @Test
+    public void testDispatchAfterWatchersChange() {
+        Watchers watchers = new Watchers();
+        DamageWatcher damageWatcher = new DamageWatcher();
+        watchers.watch(event(GameEvent.EventType.DAMAGED_PLAYER), null);
+
+        watchers.add(damageWatcher);
+        watchers.watch(event(GameEvent.EventType.DAMAGED_PLAYER), null);
+        assertEquals(1, damageWatcher.calls);
+
+        Watchers copied = watchers.copy();
+        copied.watch(event(GameEvent.EventType.DAMAGED_PLAYER), null);
+        assertEquals("copy must use own watchers", 1, damageWatcher.calls);
+
+        watchers.remove(damageWatcher.getKey());
+        watchers.watch(event(GameEvent.EventType.DAMAGED_PLAYER), null);
+        assertEquals("removed watcher must be ignored", 1, damageWatcher.calls);
+    }
+
+    @Test
+    public void testSnapshotCopyOnWrite() {
+        Watchers watchers = new Watchers();
+        DamageWatcher damageWatcher = new DamageWatcher();
+        watchers.add(damageWatcher);
+
+        Watchers snapshot = watchers.snapshot();
+        watchers.watch(event(GameEvent.EventType.DAMAGED_PLAYER), null);
+
+        assertEquals("shared watcher must be copied before usage", 0, damageWatcher.calls);
+        assertEquals(1, ((DamageWatcher) watchers.get(damageWatcher.getKey())).calls);
+        assertEquals("snapshot must keep old data", 0, ((DamageWatcher) snapshot.get(damageWatcher.getKey())).calls);
+    }
+
+    private static GameEvent event(GameEvent.EventType eventType) {
+        return GameEvent.getEvent(eventType, UUID.randomUUID(), null, UUID.randomUUID());
+    }
+
+    public static class CountingWatcher extends Watcher {
+
+        protected int calls = 0;
+
+        public CountingWatcher() {
+            super(WatcherScope.GAME);
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            calls++;
+        }
+    }
+
+    public static class DamageWatcher extends CountingWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            if (event.getType() == GameEvent.EventType.DAMAGED_PLAYER) {
+                calls++;
+            }
+        }
+
+        @Override
+        public Set<GameEvent.EventType> getWatchedEventTypes() {
+            return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+        }
+    }
+
+    public static class DamageChildWatcher extends DamageWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            calls++;
+        }
+    }
+}